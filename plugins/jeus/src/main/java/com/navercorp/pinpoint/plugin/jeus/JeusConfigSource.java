@@ -0,0 +1,113 @@
+package com.navercorp.pinpoint.plugin.jeus;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JeusConfiguration 값 읽기 소스: override 파일 값 우선, 없으면 pinpoint.config(ProfilerConfig).
+ *
+ * override 파일(profiler.jeus.config.override.file)은 JeusConfigurationWatcher가 변경 시 다시 읽어
+ * 새 소스로 JeusConfiguration을 재생성한다. ProfilerConfig 자체는 agent 기동 후 변경되지 않음.
+ *
+ * 키 레지스트리: 모든 read* 호출은 키의 적용 시점(Reload)을 함께 지정하며, 읽은 키는 정적 레지스트리에 기록된다.
+ * Watcher는 변경된 키의 적용 시점을 이 레지스트리에서 조회 → 새 설정 키가 분류 목록에서 누락될 수 없음.
+ */
+public final class JeusConfigSource {
+
+    /** 설정 키 적용 시점 */
+    public enum Reload {
+        /** 요청/기록 시점마다 JeusConfigurationHolder에서 읽음 → override 파일 변경 즉시 적용 */
+        LIVE,
+        /** 플러그인 setup(transform 등록, 모니터 시작) 또는 JEUS 서버 클래스 인터셉터 생성 시 1회 읽음 → 재기동 필요 */
+        RESTART
+    }
+
+    private static final ConcurrentHashMap<String, Reload> registry = new ConcurrentHashMap<String, Reload>();
+
+    private final ProfilerConfig base;
+    private final Properties overrides;
+
+    public JeusConfigSource(ProfilerConfig base, Properties overrides) {
+        if (base == null) {
+            throw new NullPointerException("base");
+        }
+        this.base = base;
+        this.overrides = overrides != null ? overrides : new Properties();
+    }
+
+    /**
+     * JeusConfiguration이 읽는 키의 적용 시점. 플러그인이 읽지 않는 키(오타 등)이면 null.
+     */
+    public static Reload reloadOf(String key) {
+        return registry.get(key);
+    }
+
+    public String readString(Reload reload, String key, String defaultValue) {
+        registry.put(key, reload);
+        String value = overrides.getProperty(key);
+        if (value != null) {
+            return value.trim();
+        }
+        return base.readString(key, defaultValue);
+    }
+
+    public boolean readBoolean(Reload reload, String key, boolean defaultValue) {
+        registry.put(key, reload);
+        String value = overrides.getProperty(key);
+        if (value != null) {
+            return Boolean.parseBoolean(value.trim());
+        }
+        return base.readBoolean(key, defaultValue);
+    }
+
+    public int readInt(Reload reload, String key, int defaultValue) {
+        registry.put(key, reload);
+        String value = overrides.getProperty(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return base.readInt(key, defaultValue);
+    }
+
+    public long readLong(Reload reload, String key, long defaultValue) {
+        registry.put(key, reload);
+        String value = overrides.getProperty(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return base.readLong(key, defaultValue);
+    }
+
+    /** 쉼표 구분 목록 (공백 제거, 빈 항목 제외) */
+    public List<String> readList(Reload reload, String key) {
+        registry.put(key, reload);
+        String value = overrides.getProperty(key);
+        if (value == null) {
+            return base.readList(key);
+        }
+        if (value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> list = new ArrayList<String>();
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (!trimmed.isEmpty()) {
+                list.add(trimmed);
+            }
+        }
+        return list;
+    }
+}
@@ -1,18 +1,61 @@
 package com.navercorp.pinpoint.plugin.jeus;
 
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.plugin.jeus.http.RequestParamCapture;
+import com.navercorp.pinpoint.plugin.jeus.sampler.UriSamplingRules;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public class JeusConfiguration {
+    // 키별 적용 시점: read* 호출마다 지정 (JeusConfigurationWatcher가 변경 키 안내에 사용)
+    private static final JeusConfigSource.Reload LIVE = JeusConfigSource.Reload.LIVE;
+    private static final JeusConfigSource.Reload RESTART = JeusConfigSource.Reload.RESTART;
+
+    // 비동기 Appender 연동 시 기본 계측 대상 로그 이벤트 클래스
+    private static final List<String> DEFAULT_LOGGING_EVENT_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            "ch.qos.logback.classic.spi.LoggingEvent",
+            "org.apache.logging.log4j.core.impl.Log4jLogEvent",
+            "org.apache.logging.log4j.core.async.RingBufferLogEvent",
+            "org.apache.log4j.spi.LoggingEvent"
+    ));
+
+    // Tomcat 계열 Response.getContentWritten() 등 컨테이너별 출력 바이트 수 메서드 후보
+    private static final List<String> DEFAULT_PAYLOAD_RESPONSE_COUNT_METHODS = Collections.unmodifiableList(Arrays.asList(
+            "getContentWritten",
+            "getBytesWritten",
+            "getContentCount"
+    ));
+
+    private static final List<String> DEFAULT_SESSION_INVALIDATE_METHODS = Collections.singletonList("invalidate");
+
+    // XPlatform 통신 Content-Type (form-urlencoded는 getParameter()가 body를 소비하므로 제외)
+    private static final List<String> DEFAULT_XPLATFORM_PEEK_CONTENT_TYPES = Collections.unmodifiableList(Arrays.asList(
+            "text/xml",
+            "application/xml",
+            "text/plain"
+    ));
+
+    private static final List<String> DEFAULT_XPLATFORM_PEEK_PARAMS = Collections.unmodifiableList(Arrays.asList(
+            "business_id",
+            "submit_id"
+    ));
+
     private final boolean jeusEnabled;
     private final ExcludeUrlFilter jeusExcludeUrlFilter;
     private final boolean jeusTraceRequestParam;
 
     // DataSource 모니터링 설정
     private final boolean jeusDataSourceEnabled;
+    // getConnection() 대기시간이 이 값(ms) 이상이면 샘플링된 Trace에 SpanEvent 기록
+    private final long jeusDataSourceWaitThresholdMillis;
+    // 커넥션 보유시간(checkout → close) 및 누수 추적 (선택 기능, 기본 off)
+    private final boolean jeusDataSourceHoldTimeEnabled;
+    private final List<String> jeusDataSourceConnectionClasses;  // close()를 계측할 JEUS 커넥션 클래스
+    private final boolean jeusDataSourceHoldTimeStack;           // 체크아웃 시점 stack 캡처 여부 (getConnection마다 Throwable 생성, 기본 false)
+    private final long jeusDataSourceLeakThresholdMillis;        // 이 시간 이상 미반환 시 누수 의심 리포트
 
     // 메서드 트레이싱 설정
     private final boolean jeusMethodTraceEnabled;
@@ -29,27 +72,266 @@ public class JeusConfiguration {
     // → Pinpoint Web UI에서 해당 트랜잭션에 "View Log" 버튼 활성화
     private final List<String> jeusLoggingAppenderClasses;
 
+    // DataSource 포화 연동 적응형 샘플링 (선택 기능, 기본 off)
+    // 사용 시 profiler.sampling.rate=1 (전역 100%)로 두고 이 샘플러가 신규 요청 샘플링을 결정
+    private final boolean jeusAdaptiveSamplingEnabled;
+    private final int jeusAdaptiveSamplingBaselineRate;       // 평상시: N건 중 1건
+    private final int jeusAdaptiveSamplingBoostRate;          // 포화 구간: N건 중 1건
+    private final int jeusAdaptiveSamplingSaturationPercent;  // active/max 비율(%) 임계치
+    private final long jeusAdaptiveSamplingBoostWindowMillis; // 포화 감지 후 boost 유지 시간
+    private final int jeusAdaptiveSamplingBoostMaxPerSecond;  // boost 구간 초당 최대 샘플 수
+
+    // 로그 레벨별 카운트: Trace별 WARN/ERROR 수와 첫 ERROR 메시지를 span annotation으로 기록
+    private final boolean jeusLoggingLevelCountEnabled;
+    private final int jeusLoggingErrorMessageMaxLength;
+
+    // 비동기 Appender 연동: 로그 이벤트 생성 시점에 Trace 상태를 이벤트에 실어 보냄
+    private final boolean jeusLoggingAsyncEnabled;
+    private final List<String> jeusLoggingEventClasses;  // 필드 주입 대상 (Appender 간 중복 집계 방지, 동기/비동기 공통)
+
+    // 로그 처리량 metric: 레벨별/로거 카테고리별 건수·크기를 custom metric으로 노출 (Trace 유무 무관)
+    private final boolean jeusLoggingMetricEnabled;
+    private final int jeusLoggingMetricCategoryDepth;   // 카테고리 = 로거명 앞 N개 패키지 세그먼트
+
+    // URI 패턴별 샘플링 규칙 (신규 요청 대상, 설정 로드 시 컴파일)
+    private final UriSamplingRules jeusSamplingRules;
+
+    // URI 템플릿별 초당 샘플 수 제한 (token bucket, 선택 기능, 기본 off)
+    // 사용 시 profiler.sampling.rate=1 (전역 100%)로 두고 이 샘플러가 신규 요청 샘플링을 결정
+    private final boolean jeusTemplateSamplingEnabled;
+    private final int jeusTemplateSamplingPerSecond;       // 템플릿별 초당 최대 샘플 수
+    private final int jeusTemplateSamplingTotalPerSecond;  // 전체 초당 최대 샘플 수
+    private final int jeusTemplateSamplingMaxTemplates;    // 버킷 유지 템플릿 수 상한 (초과 시 LRU 제거)
+
+    // HTTP_PARAM_ENTITY 기록 가공: 최대 길이(UTF-8 바이트) + 파라미터 제거/마스킹 (설정 로드 시 생성)
+    private final RequestParamCapture jeusRequestParamCapture;
+
+    // 루트 Span 진입점(front controller) 메서드 목록 (transform 등록 시점에만 사용)
+    private final List<JeusEntryPoint> jeusEntryPoints;
+
+    // 느린 요청 stack 샘플링 (threshold 이상 진행 중인 요청만, CPU 예산 내에서)
+    private final boolean jeusStackSamplingEnabled;
+    private final long jeusStackSamplingThreshold;  // ms
+    private final long jeusStackSamplingInterval;   // ms
+    private final int jeusStackSamplingMaxSamples;  // 요청당 최대 샘플 수
+    private final int jeusStackSamplingMaxDepth;    // 샘플당 보관 프레임 수 (leaf 쪽)
+    private final int jeusStackSamplingCpuBudget;   // sampler 스레드 CPU 사용 상한 (%)
+
+    // 진행 중 요청 레지스트리 슬롯 수 (2의 거듭제곱으로 올림)
+    private final int jeusActiveRequestCapacity;
+
+    // 진행 중 요청 현황 (경과 시간 구간별 건수, top-N, 진단 덤프 파일)
+    private final boolean jeusActiveRequestEnabled;
+    private final long jeusActiveRequestInterval;  // ms
+    private final int jeusActiveRequestTopN;
+    private final String jeusActiveRequestDumpFile;  // 빈 문자열이면 덤프 안 함
+
+    // trace TTL watchdog: TTL(ms)을 넘긴 진행 중 trace 종료 (요청 스레드가 다음 인터셉터 진입 시 close, 0이면 비활성)
+    private final long jeusTraceTtl;
+    private final long jeusTraceTtlCheckInterval;  // ms
+
+    // 웹 엔진 워커 스레드 풀 모니터 (JEUS 버전마다 클래스가 달라 대상 클래스 지정 필요)
+    private final boolean jeusThreadPoolEnabled;
+    private final List<String> jeusThreadPoolClasses;
+
+    // HTTP 세션 수/추정 메모리 모니터 (JEUS 버전마다 세션 구현 클래스가 달라 대상 클래스 지정 필요)
+    private final boolean jeusSessionEnabled;
+    private final List<String> jeusSessionClasses;
+    private final List<String> jeusSessionInvalidateMethods;
+    private final int jeusSessionSampleRate;
+    private final String jeusSessionDumpFile;
+
+    // DAO 쿼리 메서드 SQL 타이밍 (JdbcQueryDAO 계열 클래스 지정 필요)
+    private final boolean jeusDaoEnabled;
+    private final List<String> jeusDaoClasses;
+    private final List<String> jeusDaoMethods;
+    private final int jeusDaoSqlCacheSize;
+
+    // 요청/응답 payload 크기 기록
+    private final boolean jeusPayloadEnabled;
+    private final List<String> jeusPayloadResponseCountMethods;
+    private final List<String> jeusPayloadResponseClasses;  // 샘플링된 요청의 출력 바이트 카운팅 대상 Response 구현 클래스
+    private final int jeusPayloadMaxTemplates;
+    private final long jeusPayloadReportInterval;
+
+    // Pinpoint 전파 헤더 숨김 (JEUS 버전마다 Request 구현 클래스가 달라 대상 클래스 지정 필요)
+    private final boolean jeusHidePinpointHeader;
+    private final List<String> jeusHidePinpointHeaderRequestClasses;
+
+    // XPlatform POST body 앞부분 peek으로 서비스 ID 추출 (Request 구현 클래스 지정 필요)
+    private final boolean jeusXPlatformPeekEnabled;
+    private final List<String> jeusXPlatformPeekRequestClasses;
+    private final int jeusXPlatformPeekBytes;
+    private final List<String> jeusXPlatformPeekContentTypes;
+    private final List<String> jeusXPlatformPeekParams;
+
+    // URI 템플릿별 요청 수/에러/응답시간 agent 내부 집계
+    private final boolean jeusUriStatEnabled;
+    private final int jeusUriStatMaxTemplates;
+    private final long jeusUriStatFlushInterval;
+    private final String jeusUriStatFile;
+    private final long jeusUriStatFileMaxSize;
+    private final int jeusUriStatFileMaxBackups;
+    private final boolean jeusUriStatMetricPerTemplate;
+
+    // SpanEvent 예외 중복 기록 방지 (Trace 내 동일 Throwable은 가장 안쪽 프레임만 전체 기록)
+    private final boolean jeusExceptionDedupEnabled;
+    private final int jeusExceptionMaxPerTrace;
+
     public JeusConfiguration(ProfilerConfig config) {
-        this.jeusEnabled = config.readBoolean("profiler.jeus.enable", true);
+        this(new JeusConfigSource(config, null));
+    }
 
-        String excludeUrl = config.readString("profiler.jeus.excludeurl", "");
+    /**
+     * override 파일 값이 반영된 소스로 생성. 모든 필드는 불변이며, 재적용 시 새 인스턴스를 만들어
+     * JeusConfigurationHolder에서 교체한다 (ExcludeUrlFilter 등 사전 계산도 여기서 수행 → 요청 경로 밖).
+     */
+    public JeusConfiguration(JeusConfigSource config) {
+        this.jeusEnabled = config.readBoolean(RESTART, "profiler.jeus.enable", true);
+
+        String excludeUrl = config.readString(LIVE, "profiler.jeus.excludeurl", "");
         this.jeusExcludeUrlFilter = new ExcludeUrlFilter(excludeUrl);
 
-        this.jeusTraceRequestParam = config.readBoolean("profiler.jeus.trace.requestparam", true);
+        this.jeusTraceRequestParam = config.readBoolean(LIVE, "profiler.jeus.trace.requestparam", true);
         
         // DataSource 모니터링 설정
-        this.jeusDataSourceEnabled = config.readBoolean("profiler.jeus.datasource.enable", true);
+        this.jeusDataSourceEnabled = config.readBoolean(RESTART, "profiler.jeus.datasource.enable", true);
+        this.jeusDataSourceWaitThresholdMillis = config.readLong(RESTART, "profiler.jeus.datasource.wait.threshold", 100L);
+        this.jeusDataSourceHoldTimeEnabled = config.readBoolean(RESTART, "profiler.jeus.datasource.holdtime.enable", false);
+        this.jeusDataSourceConnectionClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.datasource.holdtime.connection.classes"));
+        this.jeusDataSourceHoldTimeStack = config.readBoolean(RESTART, "profiler.jeus.datasource.holdtime.stack", false);
+        this.jeusDataSourceLeakThresholdMillis = config.readLong(RESTART, "profiler.jeus.datasource.leak.threshold", 60000L);
 
         // 메서드 트레이싱 설정
-        this.jeusMethodTraceEnabled = config.readBoolean("profiler.jeus.method.trace.enable", true);
-        this.jeusTracePackages = toUnmodifiable(config.readList("profiler.jeus.trace.packages"));
-        this.jeusTraceClasses = toUnmodifiable(config.readList("profiler.jeus.trace.classes"));
+        this.jeusMethodTraceEnabled = config.readBoolean(RESTART, "profiler.jeus.method.trace.enable", true);
+        this.jeusTracePackages = toUnmodifiable(config.readList(RESTART, "profiler.jeus.trace.packages"));
+        this.jeusTraceClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.trace.classes"));
 
         // 프레임워크 레벨 서비스 호출 트레이싱
-        this.jeusFrameworkTraceEnabled = config.readBoolean("profiler.jeus.framework.trace.enable", true);
+        this.jeusFrameworkTraceEnabled = config.readBoolean(RESTART, "profiler.jeus.framework.trace.enable", true);
 
         // 로깅 연동 설정
-        this.jeusLoggingAppenderClasses = toUnmodifiable(config.readList("profiler.jeus.logging.appender.classes"));
+        this.jeusLoggingAppenderClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.logging.appender.classes"));
+
+        // DataSource 포화 연동 적응형 샘플링
+        this.jeusAdaptiveSamplingEnabled = config.readBoolean(RESTART, "profiler.jeus.sampling.adaptive.enable", false);
+        this.jeusAdaptiveSamplingBaselineRate = config.readInt(RESTART, "profiler.jeus.sampling.adaptive.baseline.rate", 20);
+        this.jeusAdaptiveSamplingBoostRate = config.readInt(RESTART, "profiler.jeus.sampling.adaptive.boost.rate", 1);
+        this.jeusAdaptiveSamplingSaturationPercent = config.readInt(LIVE, "profiler.jeus.sampling.adaptive.saturation.threshold", 80);
+        this.jeusAdaptiveSamplingBoostWindowMillis = config.readLong(LIVE, "profiler.jeus.sampling.adaptive.boost.window", 30000L);
+        this.jeusAdaptiveSamplingBoostMaxPerSecond = config.readInt(RESTART, "profiler.jeus.sampling.adaptive.boost.maxpersecond", 50);
+
+        // 로그 레벨별 카운트
+        this.jeusLoggingLevelCountEnabled = config.readBoolean(RESTART, "profiler.jeus.logging.level.count.enable", true);
+        this.jeusLoggingErrorMessageMaxLength = config.readInt(RESTART, "profiler.jeus.logging.error.message.maxlength", 256);
+
+        // 비동기 Appender 연동
+        this.jeusLoggingAsyncEnabled = config.readBoolean(RESTART, "profiler.jeus.logging.async.enable", false);
+        List<String> eventClasses = config.readList(RESTART, "profiler.jeus.logging.event.classes");
+        this.jeusLoggingEventClasses = (eventClasses == null || eventClasses.isEmpty())
+                ? DEFAULT_LOGGING_EVENT_CLASSES
+                : toUnmodifiable(eventClasses);
+
+        // 로그 처리량 metric
+        this.jeusLoggingMetricEnabled = config.readBoolean(RESTART, "profiler.jeus.logging.metric.enable", false);
+        this.jeusLoggingMetricCategoryDepth = Math.max(1, config.readInt(RESTART, "profiler.jeus.logging.metric.category.depth", 2));
+
+        // URI 패턴별 샘플링 규칙
+        this.jeusSamplingRules = UriSamplingRules.parse(config.readList(LIVE, "profiler.jeus.sampling.rules"));
+
+        // URI 템플릿별 초당 샘플 수 제한
+        this.jeusTemplateSamplingEnabled = config.readBoolean(RESTART, "profiler.jeus.sampling.template.enable", false);
+        this.jeusTemplateSamplingPerSecond = config.readInt(RESTART, "profiler.jeus.sampling.template.persecond", 5);
+        this.jeusTemplateSamplingTotalPerSecond = config.readInt(RESTART, "profiler.jeus.sampling.template.total.persecond", 100);
+        this.jeusTemplateSamplingMaxTemplates = config.readInt(RESTART, "profiler.jeus.sampling.template.max", 1000);
+
+        // HTTP_PARAM_ENTITY 기록 가공
+        this.jeusRequestParamCapture = new RequestParamCapture(
+                config.readInt(LIVE, "profiler.jeus.trace.requestparam.maxlength", 512),
+                config.readList(LIVE, "profiler.jeus.trace.requestparam.exclude"),
+                config.readList(LIVE, "profiler.jeus.trace.requestparam.mask"));
+
+        // 루트 Span 진입점 (미지정 시 WebActionDispatcher.service)
+        this.jeusEntryPoints = JeusEntryPoint.parseList(config.readString(RESTART, "profiler.jeus.entrypoints", ""));
+
+        // 느린 요청 stack 샘플링
+        this.jeusStackSamplingEnabled = config.readBoolean(RESTART, "profiler.jeus.stacksampling.enable", false);
+        this.jeusStackSamplingThreshold = config.readLong(RESTART, "profiler.jeus.stacksampling.threshold", 1000L);
+        this.jeusStackSamplingInterval = config.readLong(RESTART, "profiler.jeus.stacksampling.interval", 100L);
+        this.jeusStackSamplingMaxSamples = config.readInt(RESTART, "profiler.jeus.stacksampling.max.samples", 100);
+        this.jeusStackSamplingMaxDepth = config.readInt(RESTART, "profiler.jeus.stacksampling.max.depth", 16);
+        this.jeusStackSamplingCpuBudget = config.readInt(RESTART, "profiler.jeus.stacksampling.cpu.budget", 1);
+        this.jeusActiveRequestCapacity = config.readInt(RESTART, "profiler.jeus.activerequest.capacity", 1024);
+
+        // 진행 중 요청 현황
+        this.jeusActiveRequestEnabled = config.readBoolean(RESTART, "profiler.jeus.activerequest.enable", false);
+        this.jeusActiveRequestInterval = config.readLong(RESTART, "profiler.jeus.activerequest.interval", 5000L);
+        this.jeusActiveRequestTopN = config.readInt(RESTART, "profiler.jeus.activerequest.topn", 5);
+        this.jeusActiveRequestDumpFile = config.readString(RESTART, "profiler.jeus.activerequest.dump.file", "").trim();
+
+        // trace TTL watchdog
+        this.jeusTraceTtl = config.readLong(RESTART, "profiler.jeus.trace.ttl", 0L);
+        this.jeusTraceTtlCheckInterval = config.readLong(RESTART, "profiler.jeus.trace.ttl.check.interval", 10000L);
+
+        // 워커 스레드 풀 모니터
+        this.jeusThreadPoolEnabled = config.readBoolean(RESTART, "profiler.jeus.threadpool.enable", false);
+        this.jeusThreadPoolClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.threadpool.classes"));
+
+        // HTTP 세션 모니터
+        this.jeusSessionEnabled = config.readBoolean(RESTART, "profiler.jeus.session.enable", false);
+        this.jeusSessionClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.session.classes"));
+        List<String> invalidateMethods = config.readList(RESTART, "profiler.jeus.session.invalidate.methods");
+        this.jeusSessionInvalidateMethods = (invalidateMethods == null || invalidateMethods.isEmpty())
+                ? DEFAULT_SESSION_INVALIDATE_METHODS
+                : toUnmodifiable(invalidateMethods);
+        this.jeusSessionSampleRate = Math.max(1, config.readInt(RESTART, "profiler.jeus.session.sample.rate", 10));
+        this.jeusSessionDumpFile = config.readString(RESTART, "profiler.jeus.session.dump.file", "").trim();
+
+        // DAO 쿼리 메서드 SQL 타이밍
+        this.jeusDaoEnabled = config.readBoolean(RESTART, "profiler.jeus.dao.enable", false);
+        this.jeusDaoClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.dao.classes"));
+        this.jeusDaoMethods = toUnmodifiable(config.readList(RESTART, "profiler.jeus.dao.methods"));
+        this.jeusDaoSqlCacheSize = config.readInt(RESTART, "profiler.jeus.dao.sql.cache.size", 1024);
+
+        // 요청/응답 payload 크기
+        this.jeusPayloadEnabled = config.readBoolean(RESTART, "profiler.jeus.payload.enable", false);
+        List<String> countMethods = config.readList(RESTART, "profiler.jeus.payload.response.count.methods");
+        this.jeusPayloadResponseCountMethods = (countMethods == null || countMethods.isEmpty())
+                ? DEFAULT_PAYLOAD_RESPONSE_COUNT_METHODS
+                : toUnmodifiable(countMethods);
+        this.jeusPayloadResponseClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.payload.response.classes"));
+        this.jeusPayloadMaxTemplates = config.readInt(RESTART, "profiler.jeus.payload.max.templates", 200);
+        this.jeusPayloadReportInterval = config.readLong(RESTART, "profiler.jeus.payload.report.interval", 60000L);
+
+        // Pinpoint 전파 헤더 숨김
+        this.jeusHidePinpointHeader = config.readBoolean(RESTART, "profiler.jeus.hidepinpointheader", false);
+        this.jeusHidePinpointHeaderRequestClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.hidepinpointheader.request.classes"));
+
+        // XPlatform body peek
+        this.jeusXPlatformPeekEnabled = config.readBoolean(RESTART, "profiler.jeus.xplatform.peek.enable", false);
+        this.jeusXPlatformPeekRequestClasses = toUnmodifiable(config.readList(RESTART, "profiler.jeus.xplatform.peek.request.classes"));
+        this.jeusXPlatformPeekBytes = config.readInt(RESTART, "profiler.jeus.xplatform.peek.bytes", 4096);
+        List<String> peekContentTypes = config.readList(RESTART, "profiler.jeus.xplatform.peek.content.types");
+        this.jeusXPlatformPeekContentTypes = (peekContentTypes == null || peekContentTypes.isEmpty())
+                ? DEFAULT_XPLATFORM_PEEK_CONTENT_TYPES
+                : toUnmodifiable(peekContentTypes);
+        List<String> peekParams = config.readList(RESTART, "profiler.jeus.xplatform.peek.params");
+        this.jeusXPlatformPeekParams = (peekParams == null || peekParams.isEmpty())
+                ? DEFAULT_XPLATFORM_PEEK_PARAMS
+                : toUnmodifiable(peekParams);
+
+        // URI 템플릿별 집계
+        this.jeusUriStatEnabled = config.readBoolean(RESTART, "profiler.jeus.uristat.enable", false);
+        this.jeusUriStatMaxTemplates = config.readInt(RESTART, "profiler.jeus.uristat.max.templates", 500);
+        this.jeusUriStatFlushInterval = config.readLong(RESTART, "profiler.jeus.uristat.flush.interval", 30000L);
+        this.jeusUriStatFile = config.readString(RESTART, "profiler.jeus.uristat.file", "");
+        this.jeusUriStatFileMaxSize = config.readLong(RESTART, "profiler.jeus.uristat.file.max.size", 10L * 1024 * 1024);
+        this.jeusUriStatFileMaxBackups = config.readInt(RESTART, "profiler.jeus.uristat.file.max.backups", 5);
+        this.jeusUriStatMetricPerTemplate = config.readBoolean(RESTART, "profiler.jeus.uristat.metric.per.template", false);
+
+        // 예외 중복 기록 방지 (기록 시점마다 조회하므로 재기동 없이 적용)
+        this.jeusExceptionDedupEnabled = config.readBoolean(LIVE, "profiler.jeus.exception.dedup", true);
+        this.jeusExceptionMaxPerTrace = config.readInt(LIVE, "profiler.jeus.exception.max.per.trace", 10);
     }
 
     public boolean isJeusEnabled() {
@@ -68,6 +350,26 @@ public class JeusConfiguration {
         return jeusDataSourceEnabled;
     }
 
+    public long getJeusDataSourceWaitThresholdMillis() {
+        return jeusDataSourceWaitThresholdMillis;
+    }
+
+    public boolean isJeusDataSourceHoldTimeEnabled() {
+        return jeusDataSourceHoldTimeEnabled;
+    }
+
+    public List<String> getJeusDataSourceConnectionClasses() {
+        return jeusDataSourceConnectionClasses;
+    }
+
+    public boolean isJeusDataSourceHoldTimeStack() {
+        return jeusDataSourceHoldTimeStack;
+    }
+
+    public long getJeusDataSourceLeakThresholdMillis() {
+        return jeusDataSourceLeakThresholdMillis;
+    }
+
     public boolean isJeusMethodTraceEnabled() {
         return jeusMethodTraceEnabled;
     }
@@ -88,6 +390,262 @@ public class JeusConfiguration {
         return jeusLoggingAppenderClasses;
     }
 
+    public boolean isJeusAdaptiveSamplingEnabled() {
+        return jeusAdaptiveSamplingEnabled;
+    }
+
+    public int getJeusAdaptiveSamplingBaselineRate() {
+        return jeusAdaptiveSamplingBaselineRate;
+    }
+
+    public int getJeusAdaptiveSamplingBoostRate() {
+        return jeusAdaptiveSamplingBoostRate;
+    }
+
+    public int getJeusAdaptiveSamplingSaturationPercent() {
+        return jeusAdaptiveSamplingSaturationPercent;
+    }
+
+    public long getJeusAdaptiveSamplingBoostWindowMillis() {
+        return jeusAdaptiveSamplingBoostWindowMillis;
+    }
+
+    public int getJeusAdaptiveSamplingBoostMaxPerSecond() {
+        return jeusAdaptiveSamplingBoostMaxPerSecond;
+    }
+
+    public boolean isJeusLoggingLevelCountEnabled() {
+        return jeusLoggingLevelCountEnabled;
+    }
+
+    public int getJeusLoggingErrorMessageMaxLength() {
+        return jeusLoggingErrorMessageMaxLength;
+    }
+
+    public boolean isJeusLoggingAsyncEnabled() {
+        return jeusLoggingAsyncEnabled;
+    }
+
+    public List<String> getJeusLoggingEventClasses() {
+        return jeusLoggingEventClasses;
+    }
+
+    public boolean isJeusLoggingMetricEnabled() {
+        return jeusLoggingMetricEnabled;
+    }
+
+    public int getJeusLoggingMetricCategoryDepth() {
+        return jeusLoggingMetricCategoryDepth;
+    }
+
+    public UriSamplingRules getJeusSamplingRules() {
+        return jeusSamplingRules;
+    }
+
+    public boolean isJeusTemplateSamplingEnabled() {
+        return jeusTemplateSamplingEnabled;
+    }
+
+    public int getJeusTemplateSamplingPerSecond() {
+        return jeusTemplateSamplingPerSecond;
+    }
+
+    public int getJeusTemplateSamplingTotalPerSecond() {
+        return jeusTemplateSamplingTotalPerSecond;
+    }
+
+    public int getJeusTemplateSamplingMaxTemplates() {
+        return jeusTemplateSamplingMaxTemplates;
+    }
+
+    public RequestParamCapture getJeusRequestParamCapture() {
+        return jeusRequestParamCapture;
+    }
+
+    public List<JeusEntryPoint> getJeusEntryPoints() {
+        return jeusEntryPoints;
+    }
+
+    public boolean isJeusStackSamplingEnabled() {
+        return jeusStackSamplingEnabled;
+    }
+
+    public long getJeusStackSamplingThreshold() {
+        return jeusStackSamplingThreshold;
+    }
+
+    public long getJeusStackSamplingInterval() {
+        return jeusStackSamplingInterval;
+    }
+
+    public int getJeusStackSamplingMaxSamples() {
+        return jeusStackSamplingMaxSamples;
+    }
+
+    public int getJeusStackSamplingMaxDepth() {
+        return jeusStackSamplingMaxDepth;
+    }
+
+    public int getJeusStackSamplingCpuBudget() {
+        return jeusStackSamplingCpuBudget;
+    }
+
+    public int getJeusActiveRequestCapacity() {
+        return jeusActiveRequestCapacity;
+    }
+
+    public boolean isJeusActiveRequestEnabled() {
+        return jeusActiveRequestEnabled;
+    }
+
+    public long getJeusActiveRequestInterval() {
+        return jeusActiveRequestInterval;
+    }
+
+    public int getJeusActiveRequestTopN() {
+        return jeusActiveRequestTopN;
+    }
+
+    public String getJeusActiveRequestDumpFile() {
+        return jeusActiveRequestDumpFile;
+    }
+
+    public long getJeusTraceTtl() {
+        return jeusTraceTtl;
+    }
+
+    public long getJeusTraceTtlCheckInterval() {
+        return jeusTraceTtlCheckInterval;
+    }
+
+    public boolean isJeusThreadPoolEnabled() {
+        return jeusThreadPoolEnabled;
+    }
+
+    public List<String> getJeusThreadPoolClasses() {
+        return jeusThreadPoolClasses;
+    }
+
+    public boolean isJeusSessionEnabled() {
+        return jeusSessionEnabled;
+    }
+
+    public List<String> getJeusSessionClasses() {
+        return jeusSessionClasses;
+    }
+
+    public List<String> getJeusSessionInvalidateMethods() {
+        return jeusSessionInvalidateMethods;
+    }
+
+    public int getJeusSessionSampleRate() {
+        return jeusSessionSampleRate;
+    }
+
+    public String getJeusSessionDumpFile() {
+        return jeusSessionDumpFile;
+    }
+
+    public boolean isJeusDaoEnabled() {
+        return jeusDaoEnabled;
+    }
+
+    public List<String> getJeusDaoClasses() {
+        return jeusDaoClasses;
+    }
+
+    public List<String> getJeusDaoMethods() {
+        return jeusDaoMethods;
+    }
+
+    public int getJeusDaoSqlCacheSize() {
+        return jeusDaoSqlCacheSize;
+    }
+
+    public boolean isJeusPayloadEnabled() {
+        return jeusPayloadEnabled;
+    }
+
+    public List<String> getJeusPayloadResponseCountMethods() {
+        return jeusPayloadResponseCountMethods;
+    }
+
+    public List<String> getJeusPayloadResponseClasses() {
+        return jeusPayloadResponseClasses;
+    }
+
+    public int getJeusPayloadMaxTemplates() {
+        return jeusPayloadMaxTemplates;
+    }
+
+    public long getJeusPayloadReportInterval() {
+        return jeusPayloadReportInterval;
+    }
+
+    public boolean isJeusHidePinpointHeader() {
+        return jeusHidePinpointHeader;
+    }
+
+    public List<String> getJeusHidePinpointHeaderRequestClasses() {
+        return jeusHidePinpointHeaderRequestClasses;
+    }
+
+    public boolean isJeusXPlatformPeekEnabled() {
+        return jeusXPlatformPeekEnabled;
+    }
+
+    public List<String> getJeusXPlatformPeekRequestClasses() {
+        return jeusXPlatformPeekRequestClasses;
+    }
+
+    public int getJeusXPlatformPeekBytes() {
+        return jeusXPlatformPeekBytes;
+    }
+
+    public List<String> getJeusXPlatformPeekContentTypes() {
+        return jeusXPlatformPeekContentTypes;
+    }
+
+    public List<String> getJeusXPlatformPeekParams() {
+        return jeusXPlatformPeekParams;
+    }
+
+    public boolean isJeusUriStatEnabled() {
+        return jeusUriStatEnabled;
+    }
+
+    public int getJeusUriStatMaxTemplates() {
+        return jeusUriStatMaxTemplates;
+    }
+
+    public long getJeusUriStatFlushInterval() {
+        return jeusUriStatFlushInterval;
+    }
+
+    public String getJeusUriStatFile() {
+        return jeusUriStatFile;
+    }
+
+    public long getJeusUriStatFileMaxSize() {
+        return jeusUriStatFileMaxSize;
+    }
+
+    public int getJeusUriStatFileMaxBackups() {
+        return jeusUriStatFileMaxBackups;
+    }
+
+    public boolean isJeusUriStatMetricPerTemplate() {
+        return jeusUriStatMetricPerTemplate;
+    }
+
+    public boolean isJeusExceptionDedupEnabled() {
+        return jeusExceptionDedupEnabled;
+    }
+
+    public int getJeusExceptionMaxPerTrace() {
+        return jeusExceptionMaxPerTrace;
+    }
+
     private static List<String> toUnmodifiable(List<String> list) {
         if (list == null || list.isEmpty()) {
             return Collections.emptyList();
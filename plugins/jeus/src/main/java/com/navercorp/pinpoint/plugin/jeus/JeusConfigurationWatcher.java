@@ -0,0 +1,227 @@
+package com.navercorp.pinpoint.plugin.jeus;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 설정 override 파일 감시 → JeusConfiguration 재생성 및 원자적 교체.
+ *
+ * profiler.jeus.config.override.file에 지정한 로컬 파일(properties 형식, UTF-8)의 값이
+ * pinpoint.config 값보다 우선한다. 파일이 변경되면 감시 스레드에서 새 JeusConfiguration을
+ * 만들어(ExcludeUrlFilter 등 사전 계산 포함) JeusConfigurationHolder의 volatile 참조만 교체하므로,
+ * 요청 스레드는 다음 요청부터 새 설정을 읽으며 재계산 비용을 지지 않는다.
+ *
+ * 적용 시점 (변경된 키마다 로그로 안내, JeusConfiguration의 read* 호출에서 키별로 지정 → JeusConfigSource 레지스트리):
+ *   - 즉시 적용(LIVE): 요청/기록 시점마다 Holder에서 읽는 설정
+ *   - 재기동 필요(RESTART): 플러그인 setup(transform 등록, 모니터 시작) 또는 JEUS 서버 클래스
+ *     인터셉터 생성 시점에 읽는 설정 (서버 클래스는 애플리케이션 재배포로 재로드되지 않음)
+ *   - 플러그인이 읽지 않는 키: 오타 가능성 안내
+ *
+ * 잘못된 파일(읽기 실패, 설정 생성 실패)은 무시하고 기존 설정을 유지.
+ */
+public final class JeusConfigurationWatcher implements Runnable {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(JeusConfigurationWatcher.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-config-watcher";
+    // 편집기 저장 시 MODIFY 이벤트가 연속 발생하므로 잠시 대기 후 한 번만 적용
+    private static final long DEBOUNCE_MILLIS = 500L;
+
+    private final ProfilerConfig baseConfig;
+    private final Path file;
+    private Properties current;
+
+    private JeusConfigurationWatcher(ProfilerConfig baseConfig, Path file, Properties initial) {
+        this.baseConfig = baseConfig;
+        this.file = file;
+        this.current = initial;
+    }
+
+    /**
+     * 플러그인 setup 시 호출. override 파일을 반영한 초기 설정을 JeusConfigurationHolder에 등록하여 반환하고,
+     * 파일 경로가 지정되어 있으면 감시 시작 (Holder 등록 후 시작 → 초기 설정이 재적용 결과를 덮어쓰지 않음).
+     */
+    public static JeusConfiguration start(ProfilerConfig baseConfig) {
+        String path = baseConfig.readString("profiler.jeus.config.override.file", "");
+        if (path == null || path.trim().isEmpty()) {
+            JeusConfiguration config = new JeusConfiguration(baseConfig);
+            JeusConfigurationHolder.setConfiguration(config);
+            return config;
+        }
+        Path file = Paths.get(path.trim()).toAbsolutePath();
+        Properties initial = load(file);
+        if (initial == null) {
+            initial = new Properties();
+        }
+        JeusConfiguration config = new JeusConfiguration(new JeusConfigSource(baseConfig, initial));
+        JeusConfigurationHolder.setConfiguration(config);
+        if (!config.isJeusEnabled()) {
+            return config;
+        }
+
+        Path dir = file.getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            logger.warn("[JEUS-PLUGIN] Config override directory not found, hot reload disabled. file=" + file);
+            return config;
+        }
+        Thread thread = new Thread(new JeusConfigurationWatcher(baseConfig, file, initial), THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("[JEUS-PLUGIN] Config override file watching started. file=" + file
+                + ", overrides=" + initial.size());
+        return config;
+    }
+
+    @Override
+    public void run() {
+        WatchService watchService = null;
+        try {
+            watchService = file.getFileSystem().newWatchService();
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            Path fileName = file.getFileName();
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (!key.reset()) {
+                    logger.warn("[JEUS-PLUGIN] Config override directory is no longer accessible, hot reload stopped. file=" + file);
+                    return;
+                }
+                if (changed) {
+                    Thread.sleep(DEBOUNCE_MILLIS);
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 종료
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Config override watcher stopped unexpectedly. file=" + file, t);
+        } finally {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    private void reload() {
+        // 파일 삭제 시 override 해제 (pinpoint.config 값으로 복귀)
+        Properties next = Files.exists(file) ? load(file) : new Properties();
+        if (next == null) {
+            return;
+        }
+        Set<String> changedKeys = diff(current, next);
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        JeusConfiguration config;
+        try {
+            config = new JeusConfiguration(new JeusConfigSource(baseConfig, next));
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Invalid config override, keeping previous configuration. file=" + file, t);
+            return;
+        }
+        JeusConfigurationHolder.setConfiguration(config);
+        current = next;
+        report(changedKeys);
+    }
+
+    private static void report(Set<String> changedKeys) {
+        StringBuilder live = new StringBuilder();
+        StringBuilder restart = new StringBuilder();
+        StringBuilder unknown = new StringBuilder();
+        for (String key : changedKeys) {
+            JeusConfigSource.Reload reload = JeusConfigSource.reloadOf(key);
+            StringBuilder target = reload == JeusConfigSource.Reload.LIVE ? live
+                    : reload == JeusConfigSource.Reload.RESTART ? restart : unknown;
+            if (target.length() > 0) {
+                target.append(", ");
+            }
+            target.append(key);
+        }
+        if (live.length() > 0) {
+            logger.info("[JEUS-PLUGIN] Config reloaded, applied immediately: " + live);
+        }
+        if (restart.length() > 0) {
+            logger.warn("[JEUS-PLUGIN] Config reloaded, requires JEUS restart (read at agent start): " + restart);
+        }
+        if (unknown.length() > 0) {
+            logger.warn("[JEUS-PLUGIN] Config reloaded, unknown keys ignored (not read by jeus plugin): " + unknown);
+        }
+    }
+
+    private static Set<String> diff(Properties before, Properties after) {
+        Set<String> keys = new TreeSet<String>();
+        for (String key : before.stringPropertyNames()) {
+            if (!equalsTrimmed(before.getProperty(key), after.getProperty(key))) {
+                keys.add(key);
+            }
+        }
+        for (String key : after.stringPropertyNames()) {
+            if (before.getProperty(key) == null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static boolean equalsTrimmed(String a, String b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.trim().equals(b.trim());
+    }
+
+    private static Properties load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        InputStream in = null;
+        try {
+            in = Files.newInputStream(file);
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            Properties properties = new Properties();
+            properties.load(reader);
+            return properties;
+        } catch (Exception e) {
+            logger.warn("[JEUS-PLUGIN] Failed to read config override file. file=" + file + ", error=" + e.getMessage());
+            return null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+}
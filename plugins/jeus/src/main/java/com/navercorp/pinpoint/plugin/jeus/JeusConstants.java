@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.plugin.jeus;
 
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.AnnotationKeyFactory;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
 import com.navercorp.pinpoint.common.trace.ServiceTypeProperty;
@@ -13,9 +15,32 @@ public final class JeusConstants {
     
     public static final ServiceType JEUS_METHOD = ServiceTypeFactory.of(7011, "JEUS_METHOD", "JEUS_METHOD");
     
+    // DAO 쿼리 메서드 SpanEvent (JdbcQueryDAO 계열)
+    public static final ServiceType JEUS_DAO = ServiceTypeFactory.of(7013, "JEUS_DAO", "JEUS_DAO");
+
     // JEUS DataSource 관련 상수
     public static final ServiceType JEUS_DATASOURCE = ServiceTypeFactory.of(7012, "JEUS_DATASOURCE");
     
+    // DataSource 커넥션 획득 대기 SpanEvent용 AnnotationKey (private 영역 900~999)
+    public static final AnnotationKey JEUS_DATASOURCE_NAME = AnnotationKeyFactory.of(900, "jeus.datasource.name");
+    // SpanEvent는 대기 종료 시점에 생성되어 자체 경과시간이 0이므로 실제 대기시간(us)을 명시적으로 기록
+    public static final AnnotationKey JEUS_CONNECTION_WAIT_TIME = AnnotationKeyFactory.of(901, "jeus.datasource.wait.us");
+
+    // 로그 레벨별 카운트 (span 종료 시 기록)
+    public static final AnnotationKey JEUS_LOG_WARN_COUNT = AnnotationKeyFactory.of(902, "jeus.log.warn.count");
+    public static final AnnotationKey JEUS_LOG_ERROR_COUNT = AnnotationKeyFactory.of(903, "jeus.log.error.count");
+    public static final AnnotationKey JEUS_LOG_FIRST_ERROR = AnnotationKeyFactory.of(904, "jeus.log.first.error");
+
+    // 느린 요청 stack 샘플링 요약 (Span 어노테이션)
+    public static final AnnotationKey JEUS_STACK_SUMMARY = AnnotationKeyFactory.of(905, "jeus.stack.summary");
+
+    // 요청/응답 payload 크기 (Span 어노테이션, 바이트)
+    public static final AnnotationKey JEUS_REQUEST_BYTES = AnnotationKeyFactory.of(906, "jeus.request.bytes");
+    public static final AnnotationKey JEUS_RESPONSE_BYTES = AnnotationKeyFactory.of(907, "jeus.response.bytes");
+
+    // 동일 Trace에서 이미 기록된 예외 참조 (SpanEvent 어노테이션, "예외 클래스 @ 최초 기록 메서드")
+    public static final AnnotationKey JEUS_EXCEPTION_REF = AnnotationKeyFactory.of(908, "jeus.exception.ref");
+
     // DataSource 모니터링 대상 클래스
     public static final String JEUS_CONNECTION_POOL_IMPL = "jeus.jdbc.connectionpool.ConnectionPoolImpl";
 }
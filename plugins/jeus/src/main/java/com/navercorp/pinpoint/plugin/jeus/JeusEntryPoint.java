@@ -0,0 +1,106 @@
+package com.navercorp.pinpoint.plugin.jeus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 루트 Span 진입점(front controller) 메서드 지정.
+ *
+ * profiler.jeus.entrypoints 형식 (세미콜론 구분, 파라미터 목록 안의 쉼표와 구분하기 위함):
+ *   클래스명.메서드명(파라미터타입,파라미터타입)  → 시그니처 완전 일치
+ *   클래스명.메서드명                           → 파라미터 2개인 같은 이름의 메서드 모두
+ *
+ * 진입 메서드의 첫 번째/두 번째 인자는 HttpServletRequest/HttpServletResponse 호환 객체여야 함
+ * (WebActionDispatcherServiceInterceptor가 리플렉션으로 getRequestURI/getHeader/getStatus 등을 호출).
+ */
+public final class JeusEntryPoint {
+
+    public static final String DEFAULT_ENTRY_POINT = "himed.his.hit.web.action.WebActionDispatcher.service("
+            + "javax.servlet.http.HttpServletRequest,javax.servlet.http.HttpServletResponse)";
+
+    static final List<JeusEntryPoint> DEFAULT_ENTRY_POINTS = Collections.singletonList(parse(DEFAULT_ENTRY_POINT));
+
+    private final String className;
+    private final String methodName;
+    private final String[] parameterTypes;  // null: 파라미터 2개인 동명 메서드 모두
+
+    private JeusEntryPoint(String className, String methodName, String[] parameterTypes) {
+        this.className = className;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * @return 형식이 잘못되었으면 null
+     */
+    public static JeusEntryPoint parse(String spec) {
+        if (spec == null) {
+            return null;
+        }
+        String trimmed = spec.trim();
+        String[] parameterTypes = null;
+        int paren = trimmed.indexOf('(');
+        if (paren >= 0) {
+            if (!trimmed.endsWith(")")) {
+                return null;
+            }
+            String params = trimmed.substring(paren + 1, trimmed.length() - 1).trim();
+            parameterTypes = params.isEmpty() ? new String[0] : params.split(",");
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = parameterTypes[i].trim();
+            }
+            trimmed = trimmed.substring(0, paren).trim();
+        }
+        int dot = trimmed.lastIndexOf('.');
+        if (dot <= 0 || dot == trimmed.length() - 1) {
+            return null;
+        }
+        return new JeusEntryPoint(trimmed.substring(0, dot), trimmed.substring(dot + 1), parameterTypes);
+    }
+
+    static List<JeusEntryPoint> parseList(String specs) {
+        if (specs == null || specs.trim().isEmpty()) {
+            return DEFAULT_ENTRY_POINTS;
+        }
+        List<JeusEntryPoint> entryPoints = new ArrayList<JeusEntryPoint>();
+        for (String spec : specs.split(";")) {
+            if (spec.trim().isEmpty() || spec.trim().startsWith("#")) {
+                continue;
+            }
+            JeusEntryPoint entryPoint = parse(spec);
+            if (entryPoint != null) {
+                entryPoints.add(entryPoint);
+            }
+        }
+        return entryPoints.isEmpty() ? DEFAULT_ENTRY_POINTS : Collections.unmodifiableList(entryPoints);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /** @return 지정된 시그니처, 지정하지 않았으면 null */
+    public String[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    @Override
+    public String toString() {
+        if (parameterTypes == null) {
+            return className + '.' + methodName;
+        }
+        StringBuilder sb = new StringBuilder(className).append('.').append(methodName).append('(');
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i]);
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -15,18 +15,44 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.plugin.jeus.dao.DaoSqlCache;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckoutAccessor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.JeusDataSourceMonitorAccessor;
+import com.navercorp.pinpoint.plugin.jeus.http.JeusPinpointHeaderAccessor;
+import com.navercorp.pinpoint.plugin.jeus.http.PayloadSizeMonitor;
+import com.navercorp.pinpoint.plugin.jeus.http.ResponseSizeAccessor;
+import com.navercorp.pinpoint.plugin.jeus.http.UriTemplateStatMonitor;
+import com.navercorp.pinpoint.plugin.jeus.http.XPlatformBodyAccessor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.ConnectionCloseInterceptor;
 import com.navercorp.pinpoint.plugin.jeus.interceptor.ConnectionPoolGetConnectionInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.DaoQueryInterceptor;
 import com.navercorp.pinpoint.plugin.jeus.interceptor.HimedMethodInterceptor;
 import com.navercorp.pinpoint.plugin.jeus.interceptor.LoggingAppenderInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.LoggingEventCaptureInterceptor;
 import com.navercorp.pinpoint.plugin.jeus.interceptor.ServiceInvokeInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.SessionCreateInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.SessionLifecycleInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.interceptor.ThreadPoolConstructorInterceptor;
 import com.navercorp.pinpoint.plugin.jeus.interceptor.WebActionDispatcherServiceInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogStateAccessor;
+import com.navercorp.pinpoint.plugin.jeus.request.ActiveRequestMonitor;
+import com.navercorp.pinpoint.plugin.jeus.request.ActiveRequestRegistry;
+import com.navercorp.pinpoint.plugin.jeus.request.StackSampler;
+import com.navercorp.pinpoint.plugin.jeus.request.TraceTtlWatchdog;
+import com.navercorp.pinpoint.plugin.jeus.session.JeusSessionStateAccessor;
+import com.navercorp.pinpoint.plugin.jeus.session.SessionMonitor;
+import com.navercorp.pinpoint.plugin.jeus.threadpool.JeusThreadPoolMonitorAccessor;
 
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,9 +64,9 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
 
     @Override
     public void setup(ProfilerPluginSetupContext context) {
-        final JeusConfiguration config = new JeusConfiguration(context.getConfig());
-
-        JeusConfigurationHolder.setConfiguration(config);
+        // override 파일(profiler.jeus.config.override.file)이 지정되면 반영 후 변경 감시 시작
+        // (JeusConfigurationHolder 설정도 start() 안에서 감시 스레드 시작 전에 수행)
+        final JeusConfiguration config = JeusConfigurationWatcher.start(context.getConfig());
 
         if (!config.isJeusEnabled()) {
             logger.info("[JEUS-PLUGIN] JeusPlugin disabled");
@@ -49,7 +75,46 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
 
         logger.info("[JEUS-PLUGIN] JeusPlugin setup started");
 
-        addWebActionDispatcherTransform();
+        // 진행 중 요청 레지스트리: 진입점 인터셉터가 등록, 백그라운드 작업이 주기적으로 순회
+        // (레지스트리는 인터셉터 생성 전에 초기화되어야 하므로 transform 등록보다 먼저)
+        //   - activerequest.enable : 경과 시간 구간별 건수/top-N metric + 진단 덤프
+        //   - stacksampling.enable : 느린 요청 stack 샘플링
+        //   - trace.ttl            : TTL 초과 trace 종료 (누수 trace 조기 정리, close는 요청 스레드에서)
+        if (config.isJeusActiveRequestEnabled() || config.isJeusStackSamplingEnabled() || config.getJeusTraceTtl() > 0) {
+            ActiveRequestRegistry registry = ActiveRequestRegistry.init(config.getJeusActiveRequestCapacity(), 0);
+            if (config.isJeusActiveRequestEnabled()) {
+                ActiveRequestMonitor.start(registry, config);
+            }
+            if (config.isJeusStackSamplingEnabled()) {
+                StackSampler.start(registry, config);
+            }
+            if (config.getJeusTraceTtl() > 0) {
+                TraceTtlWatchdog.start(registry, config);
+            }
+        }
+
+        // 요청/응답 payload 크기 (진입점 인터셉터가 기록하므로 transform 등록보다 먼저 시작)
+        if (config.isJeusPayloadEnabled()) {
+            PayloadSizeMonitor.start(config);
+        }
+
+        // URI 템플릿별 집계 (진입점 인터셉터가 기록)
+        if (config.isJeusUriStatEnabled()) {
+            UriTemplateStatMonitor.start(config);
+        }
+
+        // 루트 Span 진입점 (profiler.jeus.entrypoints, 기본값 WebActionDispatcher.service)
+        addEntryPointTransform(config);
+
+        // Pinpoint 전파 헤더 숨김 / XPlatform body peek (Request 구현 클래스에 aspect weaving)
+        if (config.isJeusHidePinpointHeader() || config.isJeusXPlatformPeekEnabled()) {
+            addRequestTransform(config);
+        }
+
+        // 샘플링된 요청의 응답 출력 바이트 카운팅 (Response 구현 클래스에 aspect weaving, 미지정 시 리플렉션 조회만)
+        if (config.isJeusPayloadEnabled() && !config.getJeusPayloadResponseClasses().isEmpty()) {
+            addResponseTransform(config);
+        }
 
         // 프레임워크 레벨 서비스 호출 트레이싱 (WAS ClassLoader 소속 → 핫 디플로이 영향 없음)
         if (config.isJeusFrameworkTraceEnabled()) {
@@ -59,39 +124,229 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
         // 비즈니스 클래스 직접 계측 (App ClassLoader 소속 → 핫 디플로이 시 InterceptorRegistry 누적)
         // framework.trace.enable=true인 경우, 비즈니스 계측 없이도 서비스 호출 추적 가능
         if (config.isJeusMethodTraceEnabled()) {
-            addHimedPackageTransform(config);
+            addHimedPackageTransform(config, entryPointClassNames(config));
+        }
+
+        // DAO 계층 SQL 타이밍 (패키지 transform은 DAO 계층을 제외하므로 별도 opt-in)
+        if (config.isJeusDaoEnabled()) {
+            DaoSqlCache.init(config.getJeusDaoSqlCacheSize());
+            addDaoTransform(config);
         }
 
         if (config.isJeusDataSourceEnabled()) {
             logger.info("[JEUS-PLUGIN] JEUS DataSource monitoring enabled");
             addConnectionPoolTransform();
+            if (config.isJeusDataSourceHoldTimeEnabled()) {
+                addConnectionCloseTransform(config);
+            }
+        }
+
+        // 웹 엔진 워커 스레드 풀 모니터 (풀 생성 시 발견 → custom metric 등록)
+        if (config.isJeusThreadPoolEnabled()) {
+            addThreadPoolTransform(config);
+        }
+
+        // HTTP 세션 수/추정 메모리 모니터 (컨텍스트별 custom metric + 트리거 파일 덤프)
+        if (config.isJeusSessionEnabled()) {
+            SessionMonitor.start(config);
+            addSessionTransform(config);
         }
 
         // 로깅 연동: 로그 발생 시 Pinpoint에 LOGGED 마킹 → Web UI "View Log" 버튼 활성화
         addLoggingAppenderTransform(config);
+
+        // 로그 이벤트 필드 주입: 여러 Appender로 전달되는 이벤트 중복 집계 방지 (동기/비동기 공통)
+        // 비동기 Appender 연동 시에는 이벤트 생성 시점에 Trace 상태도 캡처
+        if (config.getJeusLoggingAppenderClasses() != null && !config.getJeusLoggingAppenderClasses().isEmpty()) {
+            addLoggingEventTransform(config);
+        }
     }
 
-    private void addWebActionDispatcherTransform() {
-        transformTemplate.transform("himed.his.hit.web.action.WebActionDispatcher", new TransformCallback() {
-            @Override
-            public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
-                    Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
-                logger.info("[JEUS-PLUGIN] Transforming class: " + className);
-                InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+    /**
+     * 루트 Span 진입점 계측 등록.
+     *
+     * 애플리케이션마다 front controller가 다르므로 profiler.jeus.entrypoints로 클래스/메서드를 지정.
+     * 같은 클래스의 진입점은 하나의 transform으로 묶어 등록 (클래스당 1회 transform).
+     *
+     * 주의: 같은 요청 경로를 표준 servlet 플러그인(Tomcat 등)도 계측하면 루트 Span이 중복 생성되므로
+     * 해당 플러그인은 profiler.plugin.disable로 비활성화할 것.
+     * 진입점끼리 중첩 호출(forward 등)되는 경우는 인터셉터의 재진입 감지로 바깥 호출만 Span 생성.
+     */
+    private void addEntryPointTransform(JeusConfiguration config) {
+        Map<String, List<JeusEntryPoint>> entryPointsByClass = new LinkedHashMap<String, List<JeusEntryPoint>>();
+        for (JeusEntryPoint entryPoint : config.getJeusEntryPoints()) {
+            List<JeusEntryPoint> entryPoints = entryPointsByClass.get(entryPoint.getClassName());
+            if (entryPoints == null) {
+                entryPoints = new ArrayList<JeusEntryPoint>();
+                entryPointsByClass.put(entryPoint.getClassName(), entryPoints);
+            }
+            entryPoints.add(entryPoint);
+        }
 
-                InstrumentMethod serviceMethod = target.getDeclaredMethod("service",
-                        "javax.servlet.http.HttpServletRequest", "javax.servlet.http.HttpServletResponse");
+        for (Map.Entry<String, List<JeusEntryPoint>> entry : entryPointsByClass.entrySet()) {
+            final List<JeusEntryPoint> entryPoints = entry.getValue();
+            transformTemplate.transform(entry.getKey(), new TransformCallback() {
+                @Override
+                public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                        Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+                    logger.info("[JEUS-PLUGIN] Transforming class: " + className);
+                    InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
 
-                if (serviceMethod != null) {
-                    logger.info("[JEUS-PLUGIN] Found service method. Adding interceptor.");
-                    serviceMethod.addInterceptor(WebActionDispatcherServiceInterceptor.class);
-                } else {
-                    logger.warn("[JEUS-PLUGIN] service method not found in " + className);
+                    int addedCount = 0;
+                    for (JeusEntryPoint entryPoint : entryPoints) {
+                        for (InstrumentMethod method : findEntryPointMethods(target, entryPoint)) {
+                            method.addInterceptor(WebActionDispatcherServiceInterceptor.class);
+                            addedCount++;
+                            logger.info("[JEUS-PLUGIN] Entry point interceptor added to: " + className + "." + method.getName());
+                        }
+                    }
+
+                    if (addedCount == 0) {
+                        logger.warn("[JEUS-PLUGIN] Entry point method not found in " + className + ". entryPoints=" + entryPoints);
+                        return null;
+                    }
+                    return target.toBytecode();
                 }
+            });
+            logger.info("[JEUS-PLUGIN] Entry point transform registered: " + entryPoints);
+        }
+    }
 
-                return target.toBytecode();
+    private static List<InstrumentMethod> findEntryPointMethods(InstrumentClass target, JeusEntryPoint entryPoint) {
+        String[] parameterTypes = entryPoint.getParameterTypes();
+        if (parameterTypes != null) {
+            InstrumentMethod method = target.getDeclaredMethod(entryPoint.getMethodName(), parameterTypes);
+            return method != null ? Collections.singletonList(method) : Collections.<InstrumentMethod>emptyList();
+        }
+        // 시그니처 미지정: request/response 2개 인자를 받는 동명 메서드
+        List<InstrumentMethod> methods = new ArrayList<InstrumentMethod>();
+        for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.name(entryPoint.getMethodName()))) {
+            if (method.getParameterTypes().length == 2) {
+                methods.add(method);
             }
-        });
+        }
+        return methods;
+    }
+
+    private static Set<String> entryPointClassNames(JeusConfiguration config) {
+        Set<String> classNames = new HashSet<String>();
+        for (JeusEntryPoint entryPoint : config.getJeusEntryPoints()) {
+            classNames.add(entryPoint.getClassName());
+        }
+        return classNames;
+    }
+
+    /**
+     * Request 구현 클래스 계측 등록 (Pinpoint 전파 헤더 숨김, XPlatform body peek).
+     *
+     * JEUS 버전에 따라 Request 구현 클래스가 다르므로 기능별 request.classes로 지정된 클래스만 대상
+     * (헤더 숨김: getHeader/getHeaders/getHeaderNames, body peek: getInputStream/getReader를 직접 선언한 클래스여야 함).
+     * 같은 클래스에 transform은 1회만 등록 가능하므로 두 기능의 대상 클래스를 합쳐 등록하고
+     * callback에서 기능별로 weaving.
+     */
+    private void addRequestTransform(JeusConfiguration config) {
+        Set<String> requestClasses = new LinkedHashSet<String>();
+        if (config.isJeusHidePinpointHeader()) {
+            if (!addRequestClasses(requestClasses, config.getJeusHidePinpointHeaderRequestClasses())) {
+                logger.warn("[JEUS-PLUGIN] profiler.jeus.hidepinpointheader=true but "
+                        + "profiler.jeus.hidepinpointheader.request.classes is empty. Pinpoint headers remain visible.");
+            }
+        }
+        if (config.isJeusXPlatformPeekEnabled()) {
+            if (!addRequestClasses(requestClasses, config.getJeusXPlatformPeekRequestClasses())) {
+                logger.warn("[JEUS-PLUGIN] profiler.jeus.xplatform.peek.enable=true but "
+                        + "profiler.jeus.xplatform.peek.request.classes is empty. XPlatform body peek disabled.");
+            }
+        }
+
+        for (String className : requestClasses) {
+            transformTemplate.transform(className, RequestTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Request transform registered for: " + className);
+        }
+    }
+
+    private static boolean addRequestClasses(Set<String> requestClasses, List<String> classNames) {
+        boolean added = false;
+        for (String className : classNames) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            requestClasses.add(trimmed);
+            added = true;
+        }
+        return added;
+    }
+
+    /**
+     * Request 구현 클래스 Transform Callback.
+     *
+     * - 헤더 숨김 대상: 숨김 플래그 필드 주입 + 헤더 조회 메서드에 JeusRequestHeaderAspect weaving
+     * - body peek 대상: 재생 스트림 필드 주입 + getInputStream/getReader에 XPlatformRequestAspect weaving
+     */
+    public static class RequestTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+            String javaName = className.replace('/', '.');
+
+            if (config.isJeusHidePinpointHeader() && containsClass(config.getJeusHidePinpointHeaderRequestClasses(), javaName)) {
+                target.addField(JeusPinpointHeaderAccessor.class);
+                target.weave("com.navercorp.pinpoint.plugin.jeus.http.JeusRequestHeaderAspect");
+                logger.info("[JEUS-PLUGIN] Pinpoint header aspect woven into: " + javaName);
+            }
+            if (config.isJeusXPlatformPeekEnabled() && containsClass(config.getJeusXPlatformPeekRequestClasses(), javaName)) {
+                target.addField(XPlatformBodyAccessor.class);
+                target.weave("com.navercorp.pinpoint.plugin.jeus.http.XPlatformRequestAspect");
+                logger.info("[JEUS-PLUGIN] XPlatform body peek aspect woven into: " + javaName);
+            }
+
+            return target.toBytecode();
+        }
+
+        private static boolean containsClass(List<String> classNames, String className) {
+            for (String name : classNames) {
+                if (name.trim().equals(className)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Response 구현 클래스 계측 등록 (profiler.jeus.payload.response.classes).
+     * getOutputStream/getWriter를 직접 선언한 클래스여야 함.
+     */
+    private void addResponseTransform(JeusConfiguration config) {
+        Set<String> responseClasses = new LinkedHashSet<String>();
+        addRequestClasses(responseClasses, config.getJeusPayloadResponseClasses());
+        for (String className : responseClasses) {
+            transformTemplate.transform(className, ResponseTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Response transform registered for: " + className);
+        }
+    }
+
+    /**
+     * Response 구현 클래스 Transform Callback.
+     * 응답 바이트 카운터 필드 주입 + getOutputStream/getWriter에 ResponseSizeAspect weaving
+     */
+    public static class ResponseTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            target.addField(ResponseSizeAccessor.class);
+            target.weave("com.navercorp.pinpoint.plugin.jeus.http.ResponseSizeAspect");
+            logger.info("[JEUS-PLUGIN] Response size aspect woven into: " + className.replace('/', '.'));
+            return target.toBytecode();
+        }
     }
 
     /**
@@ -150,7 +405,7 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
         logger.info("[JEUS-PLUGIN] Framework service invoke transform registered (WAS ClassLoader, hot-deploy safe)");
     }
 
-    private void addHimedPackageTransform(JeusConfiguration config) {
+    private void addHimedPackageTransform(JeusConfiguration config, Set<String> entryPointClassNames) {
         List<String> tracePackages = config.getJeusTracePackages();
         if (tracePackages != null && !tracePackages.isEmpty()) {
             addPackageBasedTransform(tracePackages);
@@ -158,7 +413,7 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
 
         List<String> traceClasses = config.getJeusTraceClasses();
         if (traceClasses != null && !traceClasses.isEmpty()) {
-            addClassBasedTransform(traceClasses);
+            addClassBasedTransform(traceClasses, entryPointClassNames);
         }
 
         if ((tracePackages == null || tracePackages.isEmpty()) &&
@@ -179,7 +434,7 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
                 + " superClass=kr.co.hit.live.context.ContextAwareService");
     }
 
-    private void addClassBasedTransform(List<String> classes) {
+    private void addClassBasedTransform(List<String> classes, Set<String> entryPointClassNames) {
         int registeredCount = 0;
         for (String className : classes) {
             String trimmed = className.trim();
@@ -187,7 +442,8 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
                 continue;
             }
 
-            if (trimmed.equals("himed.his.hit.web.action.WebActionDispatcher")) {
+            // 진입점 클래스는 루트 Span 인터셉터가 별도 transform으로 계측
+            if (entryPointClassNames.contains(trimmed)) {
                 continue;
             }
 
@@ -342,6 +598,86 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
         }
     }
 
+    /**
+     * DAO 쿼리 메서드 계측 등록.
+     *
+     * 쿼리 메서드는 DAO 기반 클래스(JdbcQueryDAO 등)에 정의되어 하위 DAO가 상속해서 사용하므로
+     * profiler.jeus.dao.classes로 지정된 기반 클래스의 메서드를 계측 → 모든 하위 DAO 호출이 대상.
+     * 하위 DAO가 쿼리 메서드를 override하는 경우 해당 클래스도 함께 지정할 것.
+     */
+    private void addDaoTransform(JeusConfiguration config) {
+        List<String> daoClasses = config.getJeusDaoClasses();
+        if (daoClasses == null || daoClasses.isEmpty()) {
+            logger.warn("[JEUS-PLUGIN] profiler.jeus.dao.enable=true but "
+                    + "profiler.jeus.dao.classes is empty. DAO SQL timing disabled.");
+            return;
+        }
+
+        for (String className : daoClasses) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            transformTemplate.transform(trimmed, DaoTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] DAO transform registered for: " + trimmed);
+        }
+    }
+
+    /**
+     * DAO 기반 클래스 Transform Callback.
+     *
+     * profiler.jeus.dao.methods가 지정되면 해당 이름의 메서드만, 비어 있으면 첫 번째 파라미터가
+     * String인 public 인스턴스 메서드(setter/is-accessor 제외)를 쿼리 메서드로 보고 계측.
+     */
+    public static class DaoTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            if (target.isInterface()) {
+                return null;
+            }
+
+            List<String> daoMethods = JeusConfigurationHolder.getConfiguration().getJeusDaoMethods();
+            List<InstrumentMethod> methods = daoMethods.isEmpty()
+                    ? target.getDeclaredMethods(MethodFilters.modifier(Modifier.PUBLIC))
+                    : target.getDeclaredMethods(MethodFilters.name(daoMethods.toArray(new String[0])));
+
+            int addedCount = 0;
+            for (InstrumentMethod method : methods) {
+                if (daoMethods.isEmpty() && !isQueryMethod(method)) {
+                    continue;
+                }
+                try {
+                    method.addInterceptor(DaoQueryInterceptor.class);
+                    addedCount++;
+                } catch (Exception e) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("[JEUS-PLUGIN] Failed to add DAO interceptor to "
+                                + className + "." + method.getName(), e);
+                    }
+                }
+            }
+            logger.info("[JEUS-PLUGIN] DAO interceptors added to: " + className + " (" + addedCount + " methods)");
+
+            return target.toBytecode();
+        }
+
+        private static boolean isQueryMethod(InstrumentMethod method) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                return false;
+            }
+            String name = method.getName();
+            if (name.startsWith("set") || name.startsWith("is")) {
+                return false;
+            }
+            String[] parameterTypes = method.getParameterTypes();
+            return parameterTypes.length > 0 && "java.lang.String".equals(parameterTypes[0]);
+        }
+    }
+
     /**
      * 로깅 Appender 계측 등록.
      *
@@ -424,6 +760,68 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
         }
     }
 
+    /**
+     * 로그 이벤트 클래스 계측 등록.
+     *
+     * 이벤트에 TraceLogState 필드를 주입하여 한 이벤트가 여러 Appender로 전달되어도
+     * LoggingAppenderInterceptor가 첫 Appender에서만 카운트/metric 집계하도록 함 (COUNTED 마커).
+     * 생성자/setValues 인터셉터는 재사용 이벤트의 마커를 초기화한다.
+     *
+     * 비동기 Appender 연동(profiler.jeus.logging.async.enable=true):
+     * AsyncAppender/async logger는 하위 Appender를 백그라운드 스레드에서 호출하므로
+     * append/doAppend 시점에는 Trace가 없다. 이벤트 생성 시점(요청 스레드)에 LOGGED 마킹을 하고
+     * TraceLogState를 이벤트 주입 필드에 실어, 소비 스레드에서도 레벨 카운트가 원래 Trace에 반영되게 함.
+     */
+    private void addLoggingEventTransform(JeusConfiguration config) {
+        for (String className : config.getJeusLoggingEventClasses()) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            transformTemplate.transform(trimmed, LoggingEventTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Logging event transform registered for: " + trimmed);
+        }
+    }
+
+    /**
+     * 로그 이벤트 Transform Callback.
+     *
+     * TraceLogState 필드를 주입하고 생성자(및 재사용 이벤트의 setValues)에 캡처/초기화 인터셉터 추가.
+     */
+    public static class LoggingEventTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            target.addField(TraceLogStateAccessor.class);
+
+            int addedCount = 0;
+            for (InstrumentMethod constructor : target.getDeclaredConstructors()) {
+                try {
+                    constructor.addInterceptor(LoggingEventCaptureInterceptor.class);
+                    addedCount++;
+                } catch (Exception e) {
+                    logger.warn("[JEUS-PLUGIN] Failed to add logging event interceptor to constructor of: " + className, e);
+                }
+            }
+            // Log4j2 RingBufferLogEvent: 이벤트 객체를 재사용하며 setValues()로 값을 채움
+            for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.name("setValues"))) {
+                try {
+                    method.addInterceptor(LoggingEventCaptureInterceptor.class);
+                    addedCount++;
+                } catch (Exception e) {
+                    logger.warn("[JEUS-PLUGIN] Failed to add logging event interceptor to: " + className + ".setValues()", e);
+                }
+            }
+
+            logger.info("[JEUS-PLUGIN] Logging event capture interceptor added to: " + className + " (" + addedCount + " methods)");
+            return target.toBytecode();
+        }
+    }
+
     private void addConnectionPoolTransform() {
         transformTemplate.transform(JeusConstants.JEUS_CONNECTION_POOL_IMPL, new TransformCallback() {
             @Override
@@ -433,6 +831,9 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
 
                 InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
 
+                // 모니터 등록 상태를 풀 인스턴스에 보관 (Sample_10_Adding_Field 방식)
+                target.addField(JeusDataSourceMonitorAccessor.class);
+
                 InstrumentMethod getConnectionMethod = target.getDeclaredMethod("getConnection",
                         "java.lang.String", "java.lang.String", "boolean");
 
@@ -448,6 +849,174 @@ public class JeusPlugin implements ProfilerPlugin, MatchableTransformTemplateAwa
         });
     }
 
+    /**
+     * 워커 스레드 풀 생성자 계측 등록.
+     *
+     * JEUS 버전에 따라 웹 엔진 스레드 풀 구현 클래스가 다르므로
+     * profiler.jeus.threadpool.classes로 지정된 클래스만 계측 (모든 생성자에 인터셉터 추가).
+     */
+    private void addThreadPoolTransform(JeusConfiguration config) {
+        List<String> poolClasses = config.getJeusThreadPoolClasses();
+        if (poolClasses == null || poolClasses.isEmpty()) {
+            logger.warn("[JEUS-PLUGIN] profiler.jeus.threadpool.enable=true but "
+                    + "profiler.jeus.threadpool.classes is empty. Thread pool monitoring disabled.");
+            return;
+        }
+
+        for (String className : poolClasses) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            transformTemplate.transform(trimmed, ThreadPoolTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Thread pool monitor transform registered for: " + trimmed);
+        }
+    }
+
+    /**
+     * 워커 스레드 풀 클래스 Transform Callback.
+     *
+     * 모니터 필드를 주입하고 모든 생성자에 인터셉터 추가.
+     */
+    public static class ThreadPoolTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+
+            List<InstrumentMethod> constructors = target.getDeclaredConstructors();
+            if (constructors == null || constructors.isEmpty()) {
+                logger.warn("[JEUS-PLUGIN] No constructor found in " + className);
+                return null;
+            }
+
+            target.addField(JeusThreadPoolMonitorAccessor.class);
+            for (InstrumentMethod constructor : constructors) {
+                constructor.addInterceptor(ThreadPoolConstructorInterceptor.class);
+            }
+            logger.info("[JEUS-PLUGIN] Thread pool constructor interceptor added to: " + className
+                    + " (" + constructors.size() + " constructors)");
+
+            return target.toBytecode();
+        }
+    }
+
+    /**
+     * HTTP 세션 구현 클래스 계측 등록.
+     *
+     * JEUS 버전에 따라 세션 구현 클래스가 다르므로 profiler.jeus.session.classes로 지정된 클래스만 계측.
+     */
+    private void addSessionTransform(JeusConfiguration config) {
+        List<String> sessionClasses = config.getJeusSessionClasses();
+        if (sessionClasses == null || sessionClasses.isEmpty()) {
+            logger.warn("[JEUS-PLUGIN] profiler.jeus.session.enable=true but "
+                    + "profiler.jeus.session.classes is empty. Session monitoring disabled.");
+            return;
+        }
+
+        for (String className : sessionClasses) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            transformTemplate.transform(trimmed, SessionTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Session monitor transform registered for: " + trimmed);
+        }
+    }
+
+    /**
+     * HTTP 세션 구현 클래스 Transform Callback.
+     *
+     * 세션 상태 필드를 주입하고 생성자, 속성 변경(setAttribute/putValue, removeAttribute/removeValue),
+     * 무효화 메서드(profiler.jeus.session.invalidate.methods)에 인터셉터 추가.
+     */
+    public static class SessionTransformCallback implements TransformCallback {
+        private static final String[] ATTRIBUTE_METHODS = {"setAttribute", "putValue", "removeAttribute", "removeValue"};
+
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+
+            target.addField(JeusSessionStateAccessor.class);
+
+            int count = 0;
+            for (InstrumentMethod constructor : target.getDeclaredConstructors()) {
+                constructor.addInterceptor(SessionCreateInterceptor.class);
+                count++;
+            }
+            for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.name(ATTRIBUTE_METHODS))) {
+                method.addInterceptor(SessionLifecycleInterceptor.class);
+                count++;
+            }
+            List<String> invalidateMethods = config.getJeusSessionInvalidateMethods();
+            for (InstrumentMethod method : target.getDeclaredMethods(
+                    MethodFilters.name(invalidateMethods.toArray(new String[0])))) {
+                method.addInterceptor(SessionLifecycleInterceptor.class);
+                count++;
+            }
+            logger.info("[JEUS-PLUGIN] Session interceptors added to: " + className + " (" + count + " methods)");
+
+            return target.toBytecode();
+        }
+    }
+
+    /**
+     * 커넥션 보유시간/누수 추적용 close() 계측 등록.
+     *
+     * JEUS 버전에 따라 애플리케이션에 반환되는 커넥션 클래스가 다르므로
+     * profiler.jeus.datasource.holdtime.connection.classes로 지정된 클래스만 계측.
+     */
+    private void addConnectionCloseTransform(JeusConfiguration config) {
+        List<String> connectionClasses = config.getJeusDataSourceConnectionClasses();
+        if (connectionClasses == null || connectionClasses.isEmpty()) {
+            logger.warn("[JEUS-PLUGIN] profiler.jeus.datasource.holdtime.enable=true but "
+                    + "profiler.jeus.datasource.holdtime.connection.classes is empty. Hold-time tracking disabled.");
+            return;
+        }
+
+        for (String className : connectionClasses) {
+            String trimmed = className.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            transformTemplate.transform(trimmed, ConnectionCloseTransformCallback.class);
+            logger.info("[JEUS-PLUGIN] Connection hold-time transform registered for: " + trimmed);
+        }
+    }
+
+    /**
+     * JEUS 커넥션 클래스 Transform Callback.
+     *
+     * 체크아웃 정보 필드를 주입하고 close() 메서드에 인터셉터 추가.
+     */
+    public static class ConnectionCloseTransformCallback implements TransformCallback {
+        private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+
+            InstrumentMethod closeMethod = target.getDeclaredMethod("close");
+            if (closeMethod == null) {
+                logger.warn("[JEUS-PLUGIN] close() method not found in " + className);
+                return null;
+            }
+
+            target.addField(ConnectionCheckoutAccessor.class);
+            closeMethod.addInterceptor(ConnectionCloseInterceptor.class);
+            logger.info("[JEUS-PLUGIN] Connection close interceptor added to: " + className + ".close()");
+
+            return target.toBytecode();
+        }
+    }
+
     @Override
     public void setTransformTemplate(MatchableTransformTemplate transformTemplate) {
         this.transformTemplate = transformTemplate;
@@ -8,7 +8,17 @@ public class JeusTraceMetadataProvider implements TraceMetadataProvider {
     public void setup(TraceMetadataSetupContext context) {
         context.addServiceType(JeusConstants.JEUS);
         context.addServiceType(JeusConstants.JEUS_METHOD);
+        context.addServiceType(JeusConstants.JEUS_DAO);
         // DataSource 모니터링용 ServiceType 추가
         context.addServiceType(JeusConstants.JEUS_DATASOURCE);
+        context.addAnnotationKey(JeusConstants.JEUS_DATASOURCE_NAME);
+        context.addAnnotationKey(JeusConstants.JEUS_CONNECTION_WAIT_TIME);
+        context.addAnnotationKey(JeusConstants.JEUS_LOG_WARN_COUNT);
+        context.addAnnotationKey(JeusConstants.JEUS_LOG_ERROR_COUNT);
+        context.addAnnotationKey(JeusConstants.JEUS_LOG_FIRST_ERROR);
+        context.addAnnotationKey(JeusConstants.JEUS_STACK_SUMMARY);
+        context.addAnnotationKey(JeusConstants.JEUS_REQUEST_BYTES);
+        context.addAnnotationKey(JeusConstants.JEUS_RESPONSE_BYTES);
+        context.addAnnotationKey(JeusConstants.JEUS_EXCEPTION_REF);
     }
 }
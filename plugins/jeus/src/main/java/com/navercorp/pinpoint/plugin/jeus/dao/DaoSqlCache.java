@@ -0,0 +1,44 @@
+package com.navercorp.pinpoint.plugin.jeus.dao;
+
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DAO 쿼리 SQL → ParsingResult 캐시.
+ *
+ * recordSqlInfo()는 호출마다 SQL 정규화(리터럴 제거)를 수행하므로, 같은 SQL 문자열은 처음 1회만
+ * 정규화하고 이후에는 캐시된 결과의 id만 기록 (JDBC 플러그인의 PreparedStatement 재사용과 같은 방식).
+ * 정규화된 SQL 원문은 에이전트의 SqlMetaData 캐시를 통해 SQL별 1회만 collector로 전송됨.
+ *
+ * 리터럴을 연결해 만든 동적 SQL로 캐시가 가득 차면 신규 SQL은 캐시 없이 매번 정규화 (정확성은 동일).
+ */
+public final class DaoSqlCache {
+
+    private static final ConcurrentHashMap<String, ParsingResult> cache = new ConcurrentHashMap<String, ParsingResult>();
+    private static volatile int maxSize = 1024;
+
+    private DaoSqlCache() {
+    }
+
+    public static void init(int size) {
+        maxSize = Math.max(0, size);
+    }
+
+    public static void record(SpanEventRecorder recorder, String sql) {
+        ParsingResult cached = cache.get(sql);
+        if (cached != null) {
+            recorder.recordSqlParsingResult(cached);
+            return;
+        }
+        ParsingResult parsingResult = recorder.recordSqlInfo(sql);
+        if (parsingResult != null && cache.size() < maxSize) {
+            cache.putIfAbsent(sql, parsingResult);
+        }
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+}
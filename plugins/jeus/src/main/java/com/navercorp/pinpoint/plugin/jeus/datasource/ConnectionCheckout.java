@@ -0,0 +1,50 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+/**
+ * 체크아웃된 커넥션 1건의 보유 정보.
+ *
+ * getConnection() 반환 시 커넥션 객체의 주입 필드(ConnectionCheckoutAccessor)에 부착되고,
+ * close() 시 분리되어 보유시간이 계산된다. 커넥션 수는 풀 크기로 제한되므로 메모리도 제한됨.
+ */
+public class ConnectionCheckout {
+    final ConnectionHoldTracker tracker;
+    final long startNanos;
+    final long startTimeMillis;
+    final String transactionId;     // 체크아웃 시점 Trace가 없으면 null
+    final Throwable allocationStack; // holdtime.stack=false이면 null
+
+    // ConnectionHoldTracker in-flight 슬롯 인덱스 (-1: 슬롯 미확보)
+    int slot = -1;
+    // close() 시점에 확정되는 보유시간
+    volatile long holdNanos;
+
+    ConnectionCheckout(ConnectionHoldTracker tracker, long startNanos, String transactionId, Throwable allocationStack) {
+        this.tracker = tracker;
+        this.startNanos = startNanos;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.transactionId = transactionId;
+        this.allocationStack = allocationStack;
+    }
+
+    public ConnectionHoldTracker getTracker() {
+        return tracker;
+    }
+
+    public long getHoldNanos() {
+        return holdNanos;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public Throwable getAllocationStack() {
+        return allocationStack;
+    }
+
+    /** 리포트용 한 줄 요약 (stack은 별도 출력) */
+    String describe(long holdMillis) {
+        return "hold=" + holdMillis + "ms, checkoutAt=" + startTimeMillis
+                + ", txId=" + (transactionId != null ? transactionId : "-");
+    }
+}
@@ -0,0 +1,11 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+/**
+ * JEUS 커넥션 클래스에 주입되는 체크아웃 정보 필드 accessor.
+ * (profiler.jeus.datasource.holdtime.connection.classes에 지정된 클래스 대상)
+ */
+public interface ConnectionCheckoutAccessor {
+    void _$PINPOINT$_setConnectionCheckout(ConnectionCheckout checkout);
+
+    ConnectionCheckout _$PINPOINT$_getConnectionCheckout();
+}
@@ -0,0 +1,150 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.plugin.jeus.metric.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 풀 단위 커넥션 보유시간(checkout → close) 추적기.
+ *
+ * - 보유시간 히스토그램: LatencyHistogram (lock-free)
+ * - in-flight 슬롯: 고정 크기 AtomicReferenceArray, CAS로 슬롯 확보/해제
+ *   → 장시간 반환되지 않는 커넥션(누수 의심)을 리포트 시점에 스캔
+ * - 최장 보유 Top-N: 고정 크기 배열에서 최소값 슬롯을 CAS 교체 (근사 Top-N)
+ *
+ * synchronized 없이 동작하며 메모리는 (IN_FLIGHT_CAPACITY + TOP_N) 참조로 제한.
+ * 슬롯이 가득 찬 경우 해당 체크아웃은 누수 스캔 대상에서만 빠지고 히스토그램에는 정상 반영.
+ * 누수 의심으로 리포트된 체크아웃은 슬롯에서 제거 (매 리포트 반복 출력/슬롯 영구 점유 방지).
+ * 이후 close()되면 보유시간은 정상 기록됨.
+ */
+public class ConnectionHoldTracker {
+
+    static final int IN_FLIGHT_CAPACITY = 512;
+    static final int TOP_N = 10;
+
+    private final LatencyHistogram holdHistogram = new LatencyHistogram();
+    private final AtomicReferenceArray<ConnectionCheckout> inFlight =
+            new AtomicReferenceArray<ConnectionCheckout>(IN_FLIGHT_CAPACITY);
+    private final AtomicReferenceArray<ConnectionCheckout> longest =
+            new AtomicReferenceArray<ConnectionCheckout>(TOP_N);
+    private final AtomicLong untrackedCount = new AtomicLong(0);
+    private final AtomicLong leakSuspectCount = new AtomicLong(0);
+
+    private final boolean captureStack;
+    private final long leakThresholdNanos;
+
+    public ConnectionHoldTracker(boolean captureStack, long leakThresholdMillis) {
+        this.captureStack = captureStack;
+        this.leakThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakThresholdMillis);
+    }
+
+    public ConnectionCheckout checkout(String transactionId) {
+        long now = System.nanoTime();
+        Throwable stack = captureStack ? new Throwable("connection checkout") : null;
+        ConnectionCheckout checkout = new ConnectionCheckout(this, now, transactionId, stack);
+
+        // 스레드마다 다른 위치에서 탐색을 시작하여 CAS 경합 분산
+        int start = (int) (Thread.currentThread().getId() % IN_FLIGHT_CAPACITY);
+        for (int i = 0; i < IN_FLIGHT_CAPACITY; i++) {
+            int index = (start + i) % IN_FLIGHT_CAPACITY;
+            if (inFlight.get(index) == null) {
+                checkout.slot = index;
+                if (inFlight.compareAndSet(index, null, checkout)) {
+                    return checkout;
+                }
+            }
+        }
+        checkout.slot = -1;
+        untrackedCount.incrementAndGet();
+        return checkout;
+    }
+
+    public void release(ConnectionCheckout checkout) {
+        long holdNanos = System.nanoTime() - checkout.startNanos;
+        checkout.holdNanos = holdNanos;
+        if (checkout.slot >= 0) {
+            inFlight.compareAndSet(checkout.slot, checkout, null);
+        }
+        holdHistogram.recordNanos(holdNanos);
+        offerLongest(checkout, holdNanos);
+    }
+
+    /** close()가 관측되지 않은 채 재체크아웃된 경우: 보유시간 기록 없이 슬롯만 해제 */
+    public void discard(ConnectionCheckout checkout) {
+        if (checkout.slot >= 0) {
+            inFlight.compareAndSet(checkout.slot, checkout, null);
+        }
+    }
+
+    private void offerLongest(ConnectionCheckout checkout, long holdNanos) {
+        // 최소 보유시간 슬롯을 찾아 교체. 경합 시 1회만 재시도 (근사 Top-N으로 충분)
+        for (int attempt = 0; attempt < 2; attempt++) {
+            int minIndex = -1;
+            long minHold = Long.MAX_VALUE;
+            ConnectionCheckout minValue = null;
+            for (int i = 0; i < TOP_N; i++) {
+                ConnectionCheckout current = longest.get(i);
+                if (current == null) {
+                    minIndex = i;
+                    minValue = null;
+                    break;
+                }
+                long hold = current.holdNanos;
+                if (hold < minHold) {
+                    minHold = hold;
+                    minIndex = i;
+                    minValue = current;
+                }
+            }
+            if (minValue != null && holdNanos <= minHold) {
+                return;
+            }
+            if (longest.compareAndSet(minIndex, minValue, checkout)) {
+                return;
+            }
+        }
+    }
+
+    public LatencyHistogram getHoldHistogram() {
+        return holdHistogram;
+    }
+
+    /**
+     * 리포트: 보유시간 분포, 구간 내 최장 보유 Top-N, 누수 의심(in-flight 장기 보유) 커넥션.
+     * 최장 보유 목록은 리포트마다 초기화.
+     */
+    void report(PLogger logger, String dataSourceName) {
+        LatencyHistogram.Snapshot holdSnapshot = holdHistogram.snapshotAndReset();
+        if (holdSnapshot.getCount() > 0 && logger.isInfoEnabled()) {
+            logger.info("[JEUS-DATASOURCE] " + dataSourceName + " -> connection hold: " + holdSnapshot
+                    + ", untracked=" + untrackedCount.getAndSet(0));
+            for (int i = 0; i < TOP_N; i++) {
+                ConnectionCheckout checkout = longest.getAndSet(i, null);
+                if (checkout != null) {
+                    logger.info("[JEUS-DATASOURCE] " + dataSourceName + " -> longest hold: "
+                            + checkout.describe(TimeUnit.NANOSECONDS.toMillis(checkout.holdNanos)), checkout.allocationStack);
+                }
+            }
+        }
+
+        // warn 로그 비활성이어도 스캔은 수행 (누수 슬롯 정리)
+        long now = System.nanoTime();
+        for (int i = 0; i < IN_FLIGHT_CAPACITY; i++) {
+            ConnectionCheckout checkout = inFlight.get(i);
+            if (checkout == null) {
+                continue;
+            }
+            long heldNanos = now - checkout.startNanos;
+            // 1회만 리포트: 슬롯에서 제거 (close()와 경합 시 CAS 실패 → 이미 반납된 것이므로 리포트하지 않음)
+            if (heldNanos >= leakThresholdNanos && inFlight.compareAndSet(i, checkout, null)) {
+                leakSuspectCount.incrementAndGet();
+                logger.warn("[JEUS-DATASOURCE] " + dataSourceName + " -> possible connection leak: "
+                        + checkout.describe(TimeUnit.NANOSECONDS.toMillis(heldNanos))
+                        + " (reported once, total suspects=" + leakSuspectCount.get() + ")", checkout.allocationStack);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * getConnection() before/after 사이 대기 시작 시각 전달.
+ *
+ * 요청 안의 호출은 Trace에 귀속: TraceExceptionState와 같은 방식으로 Trace identity hash로 인덱싱한
+ * 전역 고정 크기 테이블에 Trace 약한 참조와 함께 보관 (Trace당 첫 getConnection()에서 1회 생성 후 재사용).
+ * → 가상 스레드마다 ThreadLocal 엔트리가 생기지 않음
+ * 동시에 커넥션을 기다리는 Trace끼리 슬롯이 충돌하면 나중 Trace가 덮어쓰고, 앞선 Trace의 해당 호출은 측정에서 빠진다.
+ *
+ * Trace가 없는 호출(배치/백그라운드 스레드)만 ThreadLocal을 사용하고 after()에서 remove().
+ */
+public final class ConnectionWaitStart extends WeakReference<Trace> {
+
+    // 동시에 커넥션을 기다리는 Trace 수보다 충분히 크게 (2의 거듭제곱)
+    private static final int TABLE_SIZE = 1024;
+
+    private static final AtomicReferenceArray<ConnectionWaitStart> traceStarts =
+            new AtomicReferenceArray<ConnectionWaitStart>(TABLE_SIZE);
+
+    private static final ThreadLocal<long[]> untracedStart = new ThreadLocal<long[]>();
+
+    // 소유 Trace의 요청 스레드만 읽고 씀
+    private long startNanos;
+
+    private ConnectionWaitStart(Trace trace) {
+        super(trace);
+    }
+
+    /**
+     * @param trace 현재 스레드의 Trace (없으면 null)
+     */
+    public static void begin(Trace trace, long startNanos) {
+        if (trace == null) {
+            untracedStart.set(new long[]{startNanos});
+            return;
+        }
+        int index = System.identityHashCode(trace) & (TABLE_SIZE - 1);
+        ConnectionWaitStart start = traceStarts.get(index);
+        if (start == null || start.get() != trace) {
+            start = new ConnectionWaitStart(trace);
+            traceStarts.set(index, start);
+        }
+        start.startNanos = startNanos;
+    }
+
+    /**
+     * @return begin()에서 기록한 시각, 없으면 (충돌로 덮어써짐 등) 0
+     */
+    public static long end(Trace trace) {
+        if (trace == null) {
+            long[] start = untracedStart.get();
+            if (start == null) {
+                return 0L;
+            }
+            untracedStart.remove();
+            return start[0];
+        }
+        ConnectionWaitStart start = traceStarts.get(System.identityHashCode(trace) & (TABLE_SIZE - 1));
+        if (start == null || start.get() != trace) {
+            return 0L;
+        }
+        long startNanos = start.startNanos;
+        start.startNanos = 0L;
+        return startNanos;
+    }
+}
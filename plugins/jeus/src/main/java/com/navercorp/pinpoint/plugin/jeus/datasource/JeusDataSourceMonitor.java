@@ -3,11 +3,18 @@ package com.navercorp.pinpoint.plugin.jeus.datasource;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+import com.navercorp.pinpoint.plugin.jeus.metric.LatencyHistogram;
+import com.navercorp.pinpoint.plugin.jeus.sampler.PoolHealthSignal;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class JeusDataSourceMonitor implements DataSourceMonitor {
 
@@ -24,13 +31,34 @@ public class JeusDataSourceMonitor implements DataSourceMonitor {
     private volatile boolean closed = false;
     private volatile boolean initialized = false;
 
+    // 등록 상태: ConnectionPoolImpl 주입 필드를 통해 풀 인스턴스에 귀속됨
+    // 시도는 풀별 CAS(registering)로 1개 스레드만 수행, 실패 시 시간 기반 back-off 후 재시도
+    // (연속된 getConnection() 몇 번에 재시도 횟수가 소진되지 않도록 5초, 10초 간격)
+    public static final int MAX_REGISTRATION_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private final AtomicBoolean registering = new AtomicBoolean(false);
+    private volatile int registrationAttempts = 0;
+    private volatile long nextAttemptNanos;
+    private volatile boolean registrationDone = false;
+
     // 운영 환경용: 로그 출력 주기 제어 (기본 5분 = 300초, 5초 수집 기준 60회)
     private static final int LOG_INTERVAL_COUNT = 60;
     private final AtomicInteger logCounter = new AtomicInteger(0);
 
+    // getConnection() 대기시간 히스토그램 (us): 수집 주기마다 snapshotAndReset하여 gauge 갱신 후 리포트용 히스토그램에 합산
+    private final LatencyHistogram connectionWaitHistogram = new LatencyHistogram();
+    // 리포트 주기(5분) 로그용 누적 히스토그램
+    private final LatencyHistogram reportWaitHistogram = new LatencyHistogram();
+    // 직전 수집 구간의 대기시간 (custom/jeus/datasource/{풀 이름}/wait.{p50|p99|max}.us)
+    private final AtomicLong waitP50Micros = new AtomicLong();
+    private final AtomicLong waitP99Micros = new AtomicLong();
+    private final AtomicLong waitMaxMicros = new AtomicLong();
+
+    // 커넥션 보유시간/누수 추적 (profiler.jeus.datasource.holdtime.enable=true 인 경우에만 설정)
+    private volatile ConnectionHoldTracker holdTracker;
+
     public JeusDataSourceMonitor(Object connectionPool) {
         this.connectionPool = connectionPool;
-        initMethods();
     }
 
     private void initMethods() {
@@ -65,6 +93,47 @@ public class JeusDataSourceMonitor implements DataSourceMonitor {
         return initialized;
     }
 
+    /** 리플렉션 메서드 초기화 (미초기화 상태일 때만, 등록 시도 권한을 가진 스레드에서 호출) */
+    public void initialize() {
+        if (!initialized) {
+            initMethods();
+        }
+    }
+
+    /**
+     * 등록 시도 권한 획득. 등록 완료, 다른 스레드가 시도 중, back-off 대기 중이면 false.
+     * true를 받은 스레드는 반드시 endRegistration()을 호출해야 함.
+     */
+    public boolean tryBeginRegistration(long nowNanos) {
+        if (registrationDone) {
+            return false;
+        }
+        if (registrationAttempts > 0 && nowNanos - nextAttemptNanos < 0) {
+            return false;
+        }
+        return registering.compareAndSet(false, true);
+    }
+
+    /** 등록 시도 종료. 성공 또는 최대 시도 도달 시 완료 처리, 아니면 back-off(5초, 10초 ...) 후 재시도 */
+    public void endRegistration(boolean success, long nowNanos) {
+        int attempts = registrationAttempts + 1;  // 시도 권한을 가진 스레드만 변경
+        registrationAttempts = attempts;
+        if (success || attempts >= MAX_REGISTRATION_ATTEMPTS) {
+            registrationDone = true;
+        } else {
+            nextAttemptNanos = nowNanos + (RETRY_BACKOFF_NANOS << (attempts - 1));
+        }
+        registering.set(false);
+    }
+
+    public int getRegistrationAttempts() {
+        return registrationAttempts;
+    }
+
+    public boolean isRegistrationDone() {
+        return registrationDone;
+    }
+
     @Override
     public ServiceType getServiceType() {
         return JeusConstants.JEUS_DATASOURCE;
@@ -84,20 +153,25 @@ public class JeusDataSourceMonitor implements DataSourceMonitor {
             return -1;
         }
 
+        publishConnectionWait();
+
         try {
             // 리플렉션 호출
             int current = (Integer) getCurrentPoolSizeMethod.invoke(connectionPool);
             int idle = (Integer) getNumberOfIdleConnectionsMethod.invoke(connectionPool);
             int active = current - idle;
 
-            // 운영 환경용: 5분마다 한 번씩 DEBUG 레벨로 로그 출력
-            if (logger.isDebugEnabled()) {
-                int count = logCounter.incrementAndGet();
-                if (count >= LOG_INTERVAL_COUNT) {
-                    // CAS로 원자적 리셋: 다른 스레드가 이미 리셋했으면 skip
-                    if (logCounter.compareAndSet(count, 0)) {
-                        logger.debug("[JEUS-DATASOURCE] " + dataSourceName + " -> Active: " + active + ", Total: " + current + ", Idle: " + idle);
-                    }
+            // 적응형 샘플링용 포화 신호 갱신 (수집 주기마다 1회, 기능 off 시 max 조회 생략)
+            if (PoolHealthSignal.isEnabled()) {
+                PoolHealthSignal.report(active, getMaxConnectionSize());
+            }
+
+            // 운영 환경용: 5분마다 한 번씩 active/max와 커넥션 획득 대기시간을 함께 리포트
+            int count = logCounter.incrementAndGet();
+            if (count >= LOG_INTERVAL_COUNT) {
+                // CAS로 원자적 리셋: 다른 스레드가 이미 리셋했으면 skip
+                if (logCounter.compareAndSet(count, 0)) {
+                    report(active, current, idle);
                 }
             }
 
@@ -111,6 +185,64 @@ public class JeusDataSourceMonitor implements DataSourceMonitor {
         }
     }
 
+    /**
+     * 커넥션 획득 대기시간 기록 (ConnectionPoolGetConnectionInterceptor.after()에서 호출)
+     */
+    public void recordConnectionWait(long elapsedNanos) {
+        connectionWaitHistogram.recordNanos(elapsedNanos);
+    }
+
+    public LatencyHistogram getConnectionWaitHistogram() {
+        return connectionWaitHistogram;
+    }
+
+    /**
+     * 대기시간 p50/p99/max gauge 등록. 값은 DataSourceMonitor 수집 주기마다 직전 구간 기준으로 갱신.
+     */
+    public void registerWaitMetrics(CustomMetricRegistry registry) {
+        String prefix = "datasource/" + getUrl().replace('/', '_').replace(' ', '_') + "/wait.";
+        JeusCustomMetrics.registerGauge(registry, prefix + "p50.us", waitP50Micros);
+        JeusCustomMetrics.registerGauge(registry, prefix + "p99.us", waitP99Micros);
+        JeusCustomMetrics.registerGauge(registry, prefix + "max.us", waitMaxMicros);
+    }
+
+    /** 수집 주기마다 호출: 직전 구간 분포를 gauge에 반영하고 리포트용 히스토그램에 합산 */
+    private void publishConnectionWait() {
+        LatencyHistogram.Snapshot snapshot = connectionWaitHistogram.snapshotAndReset();
+        waitP50Micros.set(snapshot.getPercentile(0.50));
+        waitP99Micros.set(snapshot.getPercentile(0.99));
+        waitMaxMicros.set(snapshot.getMax());
+        reportWaitHistogram.add(snapshot);
+    }
+
+    public void setHoldTracker(ConnectionHoldTracker holdTracker) {
+        this.holdTracker = holdTracker;
+    }
+
+    public ConnectionHoldTracker getHoldTracker() {
+        return holdTracker;
+    }
+
+    private void report(int active, int current, int idle) {
+        ConnectionHoldTracker tracker = this.holdTracker;
+        if (tracker != null) {
+            tracker.report(logger, dataSourceName);
+        }
+
+        LatencyHistogram.Snapshot waitSnapshot = reportWaitHistogram.snapshotAndReset();
+        // 대기 기록이 없는 구간은 기존과 동일하게 DEBUG로만 출력
+        if (waitSnapshot.getCount() == 0) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-DATASOURCE] " + dataSourceName + " -> Active: " + active + ", Total: " + current + ", Idle: " + idle);
+            }
+            return;
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("[JEUS-DATASOURCE] " + dataSourceName + " -> Active: " + active + ", Max: " + getMaxConnectionSize()
+                    + ", Total: " + current + ", Idle: " + idle + " | getConnection wait: " + waitSnapshot);
+        }
+    }
+
     @Override
     public int getMaxConnectionSize() {
         if (closed || connectionPool == null) return -1;
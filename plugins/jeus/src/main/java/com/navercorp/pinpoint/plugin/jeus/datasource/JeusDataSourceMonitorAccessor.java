@@ -0,0 +1,13 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+/**
+ * ConnectionPoolImpl에 주입되는 모니터 필드 accessor.
+ *
+ * 풀 인스턴스 자체에 모니터(등록/재시도 상태 포함)를 보관하여
+ * getConnection() hot path의 "등록 여부" 확인을 static Map 조회 대신 필드 read로 처리.
+ */
+public interface JeusDataSourceMonitorAccessor {
+    void _$PINPOINT$_setJeusDataSourceMonitor(JeusDataSourceMonitor monitor);
+
+    JeusDataSourceMonitor _$PINPOINT$_getJeusDataSourceMonitor();
+}
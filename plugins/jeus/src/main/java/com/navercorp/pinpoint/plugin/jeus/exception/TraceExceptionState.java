@@ -0,0 +1,138 @@
+package com.navercorp.pinpoint.plugin.jeus.exception;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trace 단위 예외 기록 상태 (SpanEvent 예외 중복 기록 방지).
+ *
+ * 서비스에서 던진 예외는 중첩된 HimedMethodInterceptor 프레임을 모두 거쳐 전파되고, 프레임마다
+ * recordException()으로 메시지/스택을 반복 직렬화하여 에러 폭주 시 span 크기가 커진다.
+ * after()는 안쪽 프레임부터 호출되므로 같은 Throwable(identity)은 가장 안쪽 프레임만 전체 기록하고,
+ * 바깥 프레임은 jeus.exception.ref 어노테이션(예외 클래스 @ 최초 기록 메서드)만 남긴다.
+ * Trace당 전체 기록 수는 profiler.jeus.exception.max.per.trace로 제한 (초과분은 참조 기록만).
+ *
+ * 상태는 예외가 처음 기록될 때만 생성되어 정상 요청은 비용 없음. 스레드가 아닌 Trace에 귀속:
+ * Trace identity hash로 인덱싱한 전역 고정 크기 테이블에 Trace 약한 참조와 함께 보관하므로
+ * ThreadLocal 엔트리가 없고(가상 스레드에도 스레드별 상태 없음), 요청 종료 시 해제할 필요도 없다
+ * (Trace와 Throwable 모두 약한 참조, 슬롯은 다음 예외 요청이 재사용).
+ * 동시에 예외를 기록 중인 Trace끼리 슬롯이 충돌하면 나중 Trace가 덮어쓰며, 앞선 Trace는 이후 중복 기록될 수 있음 (누락 없음).
+ * 래핑된 예외(cause 체인)는 다른 Throwable이므로 새 메시지가 있는 것으로 보고 전체 기록.
+ *
+ * metric: exception/recorded, exception/deduplicated, exception/suppressed
+ */
+public final class TraceExceptionState extends WeakReference<Trace> {
+
+    // 전파 중인 예외는 보통 1~2개: 최근 기록한 예외만 고정 크기로 보관
+    private static final int MAX_REMEMBERED = 8;
+
+    // 동시에 예외를 기록 중인 Trace 수보다 충분히 크게 (2의 거듭제곱)
+    private static final int TABLE_SIZE = 4096;
+
+    private static final AtomicReferenceArray<TraceExceptionState> traceStates =
+            new AtomicReferenceArray<TraceExceptionState>(TABLE_SIZE);
+
+    private static final LongAdder recordedCount = new LongAdder();
+    private static final LongAdder deduplicatedCount = new LongAdder();
+    private static final LongAdder suppressedCount = new LongAdder();
+
+    // 테이블에 남은 종료된 Trace의 상태가 예외(스택/애플리케이션 객체)를 붙잡지 않도록 약한 참조로 보관
+    @SuppressWarnings("unchecked")
+    private final WeakReference<Throwable>[] throwables = new WeakReference[MAX_REMEMBERED];
+    private final String[] references = new String[MAX_REMEMBERED];
+    private int next;
+    private int recorded;
+
+    private TraceExceptionState(Trace trace) {
+        super(trace);
+    }
+
+    /**
+     * SpanEvent에 예외 기록. 이 Trace에서 이미 기록한 Throwable이면 참조만 기록.
+     *
+     * @param descriptor 기록 위치 (참조 문자열에 사용, null 허용)
+     */
+    public static void record(Trace trace, SpanEventRecorder recorder, Throwable throwable, MethodDescriptor descriptor) {
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        if (config == null || !config.isJeusExceptionDedupEnabled()) {
+            recorder.recordException(throwable);
+            return;
+        }
+        TraceExceptionState state = bind(trace);
+        String reference = state.find(throwable);
+        if (reference != null) {
+            recorder.recordAttribute(JeusConstants.JEUS_EXCEPTION_REF, reference);
+            deduplicatedCount.increment();
+            return;
+        }
+        reference = reference(throwable, descriptor);
+        if (state.recorded >= config.getJeusExceptionMaxPerTrace()) {
+            recorder.recordAttribute(JeusConstants.JEUS_EXCEPTION_REF, reference);
+            suppressedCount.increment();
+        } else {
+            recorder.recordException(throwable);
+            state.recorded++;
+            recordedCount.increment();
+        }
+        state.remember(throwable, reference);
+    }
+
+    public static LongAdder getRecordedCount() {
+        return recordedCount;
+    }
+
+    public static LongAdder getDeduplicatedCount() {
+        return deduplicatedCount;
+    }
+
+    public static LongAdder getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    private static TraceExceptionState bind(Trace trace) {
+        int index = System.identityHashCode(trace) & (TABLE_SIZE - 1);
+        TraceExceptionState state = traceStates.get(index);
+        if (state != null && state.get() == trace) {
+            return state;
+        }
+        state = new TraceExceptionState(trace);
+        traceStates.set(index, state);
+        return state;
+    }
+
+    private String find(Throwable throwable) {
+        for (int i = 0; i < MAX_REMEMBERED; i++) {
+            WeakReference<Throwable> remembered = throwables[i];
+            if (remembered != null && remembered.get() == throwable) {
+                return references[i];
+            }
+        }
+        return null;
+    }
+
+    private void remember(Throwable throwable, String reference) {
+        throwables[next] = new WeakReference<Throwable>(throwable);
+        references[next] = reference;
+        next = (next + 1) % MAX_REMEMBERED;
+    }
+
+    /** 예: java.sql.SQLException @ PatientDao.selectPatient */
+    private static String reference(Throwable throwable, MethodDescriptor descriptor) {
+        StringBuilder sb = new StringBuilder(96);
+        sb.append(throwable.getClass().getName());
+        if (descriptor != null) {
+            String className = descriptor.getClassName();
+            sb.append(" @ ").append(className.substring(className.lastIndexOf('.') + 1))
+                    .append('.').append(descriptor.getMethodName());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * 출력 문자를 응답 인코딩 기준 바이트로 환산해 ResponseByteCounter에 합산하는 PrintWriter 위임 래퍼.
+ *
+ * PrintWriter의 println() 등은 내부 Writer에 직접 쓰므로 카운팅은 내부 Writer(CountingWriter)에서 수행.
+ * 원본 PrintWriter가 IO 오류를 삼키므로 checkError()는 원본 상태도 함께 반영.
+ */
+final class CountingPrintWriter extends PrintWriter {
+
+    private final PrintWriter original;
+
+    CountingPrintWriter(PrintWriter original, ResponseByteCounter counter, String characterEncoding) {
+        super(new CountingWriter(original, counter, characterEncoding));
+        this.original = original;
+    }
+
+    boolean wraps(PrintWriter original) {
+        return this.original == original;
+    }
+
+    @Override
+    public boolean checkError() {
+        return super.checkError() || original.checkError();
+    }
+
+    private static final class CountingWriter extends Writer {
+        private static final int SINGLE_BYTE = 0;
+        private static final int UTF_8 = 1;
+        private static final int DOUBLE_BYTE = 2;
+
+        private final PrintWriter delegate;
+        private final ResponseByteCounter counter;
+        private final int encoding;
+
+        CountingWriter(PrintWriter delegate, ResponseByteCounter counter, String characterEncoding) {
+            this.delegate = delegate;
+            this.counter = counter;
+            this.encoding = encodingType(characterEncoding);
+        }
+
+        /** 인코딩 미지정이면 Servlet 기본값 ISO-8859-1 */
+        private static int encodingType(String characterEncoding) {
+            if (characterEncoding == null) {
+                return SINGLE_BYTE;
+            }
+            String name = characterEncoding.trim().toUpperCase(Locale.ROOT);
+            if (name.equals("UTF-8") || name.equals("UTF8")) {
+                return UTF_8;
+            }
+            if (name.equals("ISO-8859-1") || name.equals("US-ASCII") || name.startsWith("WINDOWS-125")) {
+                return SINGLE_BYTE;
+            }
+            return DOUBLE_BYTE;  // EUC-KR, MS949 등
+        }
+
+        @Override
+        public void write(int c) {
+            delegate.write(c);
+            counter.addWriterBytes(bytes((char) c));
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            delegate.write(cbuf, off, len);
+            long bytes = 0;
+            for (int i = off; i < off + len; i++) {
+                bytes += bytes(cbuf[i]);
+            }
+            counter.addWriterBytes(bytes);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            delegate.write(str, off, len);
+            long bytes = 0;
+            for (int i = off; i < off + len; i++) {
+                bytes += bytes(str.charAt(i));
+            }
+            counter.addWriterBytes(bytes);
+        }
+
+        private int bytes(char c) {
+            if (c < 0x80 || encoding == SINGLE_BYTE) {
+                return 1;
+            }
+            if (encoding == DOUBLE_BYTE) {
+                return 2;
+            }
+            if (c < 0x800) {
+                return 2;
+            }
+            // surrogate pair는 4바이트: 상위 2 + 하위 2로 나누어 합산
+            return Character.isSurrogate(c) ? 2 : 3;
+        }
+
+        @Override
+        public void flush() {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
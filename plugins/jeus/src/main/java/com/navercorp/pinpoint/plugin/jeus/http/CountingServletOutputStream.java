@@ -0,0 +1,99 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import javax.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 출력 바이트 수를 ResponseByteCounter에 합산하는 ServletOutputStream 위임 래퍼.
+ *
+ * Servlet 3.0 API 기준으로 컴파일되므로 3.1의 isReady()는 원본 스트림에 리플렉션으로 위임하고,
+ * setWriteListener()(비동기 IO)는 지원하지 않음 (XPlatformPeekInputStream과 동일).
+ * isReady Method는 원본 스트림 클래스별로 한 번만 조회해 캐싱 (메서드가 없는 컨테이너도 캐싱).
+ */
+final class CountingServletOutputStream extends ServletOutputStream {
+
+    private static final ConcurrentHashMap<String, IsReadyMethod> isReadyMethodMap =
+            new ConcurrentHashMap<String, IsReadyMethod>();
+
+    private final ServletOutputStream delegate;
+    private final ResponseByteCounter counter;
+
+    CountingServletOutputStream(ServletOutputStream delegate, ResponseByteCounter counter) {
+        this.delegate = delegate;
+        this.counter = counter;
+    }
+
+    boolean wraps(ServletOutputStream original) {
+        return delegate == original;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        delegate.write(b);
+        counter.addStreamBytes(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        delegate.write(b, off, len);
+        counter.addStreamBytes(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // Servlet 3.1 추상 메서드 (3.0 컨테이너에서는 일반 메서드)
+    public boolean isReady() {
+        Method method = getIsReadyMethod(delegate.getClass());
+        if (method == null) {
+            // Servlet 3.0 이하: 동기 IO만 있으므로 항상 쓰기 가능
+            return true;
+        }
+        try {
+            Object result = method.invoke(delegate);
+            return !(result instanceof Boolean) || (Boolean) result;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    static Method getIsReadyMethod(Class<?> clazz) {
+        String key = clazz.getName();
+        IsReadyMethod cache = isReadyMethodMap.get(key);
+        if (cache != null && cache.targetClass == clazz) {
+            return cache.method;
+        }
+        // 첫 접근 또는 ClassLoader 변경(hot deploy) → 이전 엔트리 교체 (동시 생성은 조회 1회 중복뿐)
+        IsReadyMethod newCache = new IsReadyMethod(clazz);
+        isReadyMethodMap.put(key, newCache);
+        return newCache.method;
+    }
+
+    /**
+     * 원본 스트림 클래스별 isReady Method 캐시
+     */
+    private static final class IsReadyMethod {
+        final Class<?> targetClass;  // identity check: hot deploy 시 ClassLoader 변경 감지용
+        final Method method;         // null: isReady() 없음 (Servlet 3.0 이하 컨테이너)
+
+        IsReadyMethod(Class<?> clazz) {
+            this.targetClass = clazz;
+            Method found = null;
+            try {
+                found = clazz.getMethod("isReady");
+            } catch (Exception ignore) {
+                // Servlet 3.1 미만
+            }
+            this.method = found;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+/**
+ * JEUS Request 구현 클래스에 주입되는 Pinpoint 헤더 숨김 플래그 accessor.
+ *
+ * 진입점 인터셉터가 요청 시작 시 Pinpoint 헤더 존재 여부를 확인해 설정하고,
+ * JeusRequestHeaderAspect가 플래그가 설정된 요청에서만 헤더를 걸러냄.
+ * Boolean.TRUE/FALSE만 저장하므로 할당 없음 (Request 객체 재사용 시 매 요청 시작에 초기화).
+ */
+public interface JeusPinpointHeaderAccessor {
+    void _$PINPOINT$_setJeusPinpointHeaderHidden(Boolean hidden);
+
+    Boolean _$PINPOINT$_getJeusPinpointHeaderHidden();
+}
@@ -0,0 +1,56 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.Aspect;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.JointPoint;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.PointCut;
+
+import java.util.Collections;
+import java.util.Enumeration;
+
+/**
+ * profiler.jeus.hidepinpointheader=true 시 JEUS Request 구현 클래스에 weaving되는 aspect.
+ *
+ * 애플리케이션에는 Pinpoint 전파 헤더가 없는 요청으로 보이도록 getHeader/getHeaders/getHeaderNames를 감쌈.
+ * 진입점 인터셉터가 Pinpoint 헤더가 있는 요청에만 숨김 플래그를 설정하므로,
+ * Pinpoint 헤더가 없는 요청은 필드 read 1회 후 원본 메서드를 그대로 호출 (목록 복사 없음).
+ * Tomcat 플러그인 RequestFacadeAspect와 같은 방식 (요청 객체를 wrapper로 교체하지 않음).
+ *
+ * weaving 시 pointcut 메서드 본문만 대상 클래스로 복사되므로 보조 로직은 PinpointHeaders의 static 메서드로 둠.
+ */
+@Aspect
+public abstract class JeusRequestHeaderAspect {
+
+    @PointCut
+    public String getHeader(String name) {
+        if (PinpointHeaders.isPinpointHeader(name) && PinpointHeaders.isHidden(this)) {
+            return null;
+        }
+        return __getHeader(name);
+    }
+
+    @JointPoint
+    abstract String __getHeader(String name);
+
+    @PointCut
+    public Enumeration<String> getHeaders(String name) {
+        if (PinpointHeaders.isPinpointHeader(name) && PinpointHeaders.isHidden(this)) {
+            return Collections.<String>emptyEnumeration();
+        }
+        return __getHeaders(name);
+    }
+
+    @JointPoint
+    abstract Enumeration<String> __getHeaders(String name);
+
+    @PointCut
+    public Enumeration<String> getHeaderNames() {
+        Enumeration<String> names = __getHeaderNames();
+        if (!PinpointHeaders.isHidden(this)) {
+            return names;
+        }
+        return PinpointHeaders.filterNames(names);
+    }
+
+    @JointPoint
+    abstract Enumeration<String> __getHeaderNames();
+}
@@ -0,0 +1,287 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+import com.navercorp.pinpoint.plugin.jeus.metric.LatencyHistogram;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청/응답 payload 크기 집계 (URI 템플릿별 크기 분포 + 전체 누적 바이트).
+ *
+ * - 요청 크기: Content-Length (chunked 등 미지정 요청은 제외)
+ * - 응답 크기 (샘플링된 요청): profiler.jeus.payload.response.classes로 지정된 Response 구현 클래스에
+ *   ResponseSizeAspect를 weaving하여 getOutputStream()/getWriter()를 카운팅 래퍼로 감싸 실제 출력 바이트를 셈
+ *   (XPlatform body peek과 같은 필드 주입 + aspect 방식, 래퍼/카운터 할당은 샘플링된 요청만)
+ * - 응답 크기 (그 외): 컨테이너 Response의 출력 바이트 수 메서드(profiler.jeus.payload.response.count.methods),
+ *   없으면 응답 Content-Length 헤더. 둘 다 없으면 unknown으로 집계
+ * 미샘플 요청의 요청 경로 비용은 리플렉션 호출 2~3회 + 히스토그램 증가뿐.
+ *
+ * 템플릿별 히스토그램은 LatencyHistogram을 값 그대로(바이트) 기록 (record/getPercentile/getMax).
+ * 템플릿 수는 profiler.jeus.payload.max.templates로 제한하고 초과분은 "_other"로 합산.
+ * 데몬 스레드가 주기적으로 구간 분포를 로그로 출력 후 리셋.
+ *
+ * metric: payload/request.bytes, payload/response.bytes, payload/response.unknown
+ */
+public final class PayloadSizeMonitor implements Runnable {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(PayloadSizeMonitor.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-payload-size-report";
+    private static final String OTHER_TEMPLATE = "_other";
+    private static final String UNKNOWN_TEMPLATE = "_unknown";
+
+    private static volatile PayloadSizeMonitor instance;
+
+    private final long intervalMillis;
+    private final int maxTemplates;
+    private final String[] countMethodNames;
+
+    private final ConcurrentHashMap<String, TemplateSizes> templates = new ConcurrentHashMap<String, TemplateSizes>();
+
+    // Response 클래스별 크기 조회 메서드 캐시: String 키 + Class identity 확인 (hot deploy 시 교체)
+    private final ConcurrentHashMap<String, ResponseMethods> responseMethodCache =
+            new ConcurrentHashMap<String, ResponseMethods>();
+
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder responseUnknown = new LongAdder();
+
+    private PayloadSizeMonitor(JeusConfiguration config) {
+        this.intervalMillis = Math.max(config.getJeusPayloadReportInterval(), 1000L);
+        this.maxTemplates = Math.max(config.getJeusPayloadMaxTemplates(), 1);
+        List<String> names = config.getJeusPayloadResponseCountMethods();
+        this.countMethodNames = names.toArray(new String[0]);
+    }
+
+    public static synchronized PayloadSizeMonitor start(JeusConfiguration config) {
+        if (instance != null) {
+            return instance;
+        }
+        PayloadSizeMonitor monitor = new PayloadSizeMonitor(config);
+        Thread thread = new Thread(monitor, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        instance = monitor;
+        logger.info("[JEUS-PLUGIN] Payload size monitor started. interval=" + monitor.intervalMillis
+                + "ms, maxTemplates=" + monitor.maxTemplates);
+        return monitor;
+    }
+
+    /** start() 전이거나 profiler.jeus.payload.enable=false 이면 null */
+    public static PayloadSizeMonitor getInstance() {
+        return instance;
+    }
+
+    public void registerMetrics(CustomMetricRegistry customMetricRegistry) {
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "payload/request.bytes", requestBytes);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "payload/response.bytes", responseBytes);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "payload/response.unknown", responseUnknown);
+    }
+
+    /**
+     * @param requestSize  요청 바이트, 미지정이면 음수
+     * @param responseSize 응답 바이트, 확인 불가면 음수
+     */
+    public void record(String uriTemplate, long requestSize, long responseSize) {
+        TemplateSizes sizes = templateSizes(uriTemplate != null ? uriTemplate : UNKNOWN_TEMPLATE);
+        if (requestSize >= 0) {
+            requestBytes.add(requestSize);
+            sizes.request.record(requestSize);
+        }
+        if (responseSize >= 0) {
+            responseBytes.add(responseSize);
+            sizes.response.record(responseSize);
+        } else {
+            responseUnknown.increment();
+        }
+    }
+
+    private TemplateSizes templateSizes(String uriTemplate) {
+        TemplateSizes sizes = templates.get(uriTemplate);
+        if (sizes != null) {
+            return sizes;
+        }
+        // 크기 확인 후 putIfAbsent: 경합 시 상한을 약간 넘을 수 있으나 스레드 수만큼으로 bounded
+        String key = templates.size() < maxTemplates ? uriTemplate : OTHER_TEMPLATE;
+        sizes = templates.get(key);
+        if (sizes == null) {
+            TemplateSizes newSizes = new TemplateSizes();
+            sizes = templates.putIfAbsent(key, newSizes);
+            if (sizes == null) {
+                sizes = newSizes;
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * 요청 시작: 샘플링된 요청이면 응답 바이트 카운터 설정, 아니면 이전 요청의 카운터 해제 (Response 객체 재사용).
+     * Response 클래스가 계측되지 않았으면 아무것도 하지 않음.
+     */
+    public void beginResponse(Object response, boolean sampled) {
+        if (response instanceof ResponseSizeAccessor) {
+            ((ResponseSizeAccessor) response)._$PINPOINT$_setResponseByteCounter(sampled ? new ResponseByteCounter() : null);
+        }
+    }
+
+    /**
+     * 요청 종료 시 응답 출력 바이트 수 (1회 호출, 카운터 해제).
+     * 카운팅 래퍼로 쓴 요청이면 그 값, 아니면 컨테이너 카운트 메서드, 없으면 Content-Length 헤더.
+     *
+     * @return 바이트 수, 확인 불가면 -1
+     */
+    public long responseBytes(Object response) {
+        if (response == null) {
+            return -1L;
+        }
+        if (response instanceof ResponseSizeAccessor) {
+            ResponseSizeAccessor accessor = (ResponseSizeAccessor) response;
+            ResponseByteCounter counter = accessor._$PINPOINT$_getResponseByteCounter();
+            if (counter != null) {
+                accessor._$PINPOINT$_setResponseByteCounter(null);
+                if (counter.isUsed()) {
+                    return counter.getCount();
+                }
+            }
+        }
+        ResponseMethods methods = responseMethods(response.getClass());
+        try {
+            if (methods.count != null) {
+                Object result = methods.count.invoke(response);
+                if (result instanceof Number) {
+                    return ((Number) result).longValue();
+                }
+            }
+            if (methods.getHeader != null) {
+                Object header = methods.getHeader.invoke(response, "Content-Length");
+                if (header instanceof String) {
+                    return Long.parseLong(((String) header).trim());
+                }
+            }
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] response size lookup failed: " + e.getMessage());
+            }
+        }
+        return -1L;
+    }
+
+    private ResponseMethods responseMethods(Class<?> responseClass) {
+        String key = responseClass.getName();
+        ResponseMethods methods = responseMethodCache.get(key);
+        if (methods != null && methods.targetClass == responseClass) {
+            return methods;
+        }
+        methods = new ResponseMethods(responseClass, countMethodNames);
+        responseMethodCache.put(key, methods);
+        if (logger.isInfoEnabled()) {
+            logger.info("[JEUS-PLUGIN] Response size source for " + key + ": "
+                    + (methods.count != null ? methods.count.getName() + "()"
+                    : methods.getHeader != null ? "Content-Length header" : "none"));
+        }
+        return methods;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(intervalMillis);
+                report();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Payload size monitor stopped unexpectedly", t);
+        }
+    }
+
+    private void report() {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder(256);
+        for (Map.Entry<String, TemplateSizes> entry : templates.entrySet()) {
+            LatencyHistogram.Snapshot request = entry.getValue().request.snapshotAndReset();
+            LatencyHistogram.Snapshot response = entry.getValue().response.snapshotAndReset();
+            if (request.getCount() == 0 && response.getCount() == 0) {
+                continue;
+            }
+            sb.setLength(0);
+            sb.append("[JEUS-PLUGIN] payload ").append(entry.getKey()).append(" -> request: ");
+            appendSnapshot(sb, request);
+            sb.append(" | response: ");
+            appendSnapshot(sb, response);
+            logger.info(sb.toString());
+        }
+    }
+
+    private static void appendSnapshot(StringBuilder sb, LatencyHistogram.Snapshot snapshot) {
+        sb.append("count=").append(snapshot.getCount());
+        if (snapshot.getCount() == 0) {
+            return;
+        }
+        sb.append(", p50=");
+        appendBytes(sb, snapshot.getPercentile(0.50));
+        sb.append(", p99=");
+        appendBytes(sb, snapshot.getPercentile(0.99));
+        sb.append(", max=");
+        appendBytes(sb, snapshot.getMax());
+    }
+
+    private static void appendBytes(StringBuilder sb, long bytes) {
+        if (bytes < 1024L) {
+            sb.append(bytes).append('B');
+            return;
+        }
+        // 소수점 1자리 KB 표기 (String.format 회피)
+        long tenths = bytes * 10 / 1024;
+        sb.append(tenths / 10).append('.').append(tenths % 10).append("KB");
+    }
+
+    private static final class TemplateSizes {
+        final LatencyHistogram request = new LatencyHistogram();
+        final LatencyHistogram response = new LatencyHistogram();
+    }
+
+    private static final class ResponseMethods {
+        final Class<?> targetClass;
+        final Method count;
+        final Method getHeader;
+
+        ResponseMethods(Class<?> responseClass, String[] countMethodNames) {
+            this.targetClass = responseClass;
+            this.count = findCountMethod(responseClass, countMethodNames);
+            this.getHeader = findMethod(responseClass, "getHeader", String.class);
+        }
+
+        private static Method findCountMethod(Class<?> responseClass, String[] names) {
+            for (String name : names) {
+                Method method = findMethod(responseClass, name);
+                if (method != null) {
+                    Class<?> type = method.getReturnType();
+                    if (type == long.class || type == int.class || Number.class.isAssignableFrom(type)) {
+                        return method;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+            try {
+                return type.getMethod(name, parameterTypes);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
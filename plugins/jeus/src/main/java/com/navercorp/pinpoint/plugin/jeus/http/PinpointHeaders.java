@@ -0,0 +1,42 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Pinpoint 전파 헤더(Pinpoint-TraceID, Pinpoint-SpanID, Pinpoint-pAppName 등) 판별/제거 유틸.
+ */
+public final class PinpointHeaders {
+
+    private static final String PREFIX = "Pinpoint-";
+
+    private PinpointHeaders() {
+    }
+
+    public static boolean isPinpointHeader(String name) {
+        return name != null && name.regionMatches(true, 0, PREFIX, 0, PREFIX.length());
+    }
+
+    /** weaving된 Request 인스턴스의 숨김 플래그 (주입 필드가 없는 인스턴스면 false) */
+    public static boolean isHidden(Object request) {
+        return request instanceof JeusPinpointHeaderAccessor
+                && Boolean.TRUE.equals(((JeusPinpointHeaderAccessor) request)._$PINPOINT$_getJeusPinpointHeaderHidden());
+    }
+
+    /** Pinpoint 헤더를 제외한 헤더명 목록. 숨김 플래그가 설정된 요청에서만 호출됨 */
+    public static Enumeration<String> filterNames(Enumeration<String> names) {
+        if (names == null) {
+            return null;
+        }
+        List<String> filtered = new ArrayList<String>();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (!isPinpointHeader(name)) {
+                filtered.add(name);
+            }
+        }
+        return Collections.enumeration(filtered);
+    }
+}
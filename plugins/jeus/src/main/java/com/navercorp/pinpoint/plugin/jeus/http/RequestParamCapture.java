@@ -0,0 +1,258 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP_PARAM_ENTITY 기록용 query string 가공 (길이 제한 + 파라미터 제거/마스킹).
+ *
+ * XPlatform 요청은 query에 수 KB의 인코딩된 payload를 싣는 경우가 있어 span/collector 저장량을 늘리고,
+ * 환자 식별자가 그대로 남는다. 이를 한 번의 순회로 처리:
+ *   - profiler.jeus.trace.requestparam.maxlength : UTF-8 바이트 기준 최대 길이 (초과분 절단 후 "..." 표시)
+ *   - profiler.jeus.trace.requestparam.exclude   : 제거할 파라미터명 (대소문자 무시, URL 디코딩 후 비교)
+ *   - profiler.jeus.trace.requestparam.mask      : 값을 "***"로 치환할 파라미터명 (대소문자 무시, URL 디코딩 후 비교)
+ *
+ * 원본 전체를 복사하지 않음: 출력 버퍼는 최대 길이만큼만 채운다.
+ * 제거/마스킹 대상이 없고 길이 이내이면 원본 문자열을 그대로 반환 (할당 없음).
+ *
+ * 기록/절감량 카운터는 UTF-8 바이트 기준이며 설정 재적용과 무관하게 누적 (custom metric으로 노출).
+ * 절감량은 절단/제거가 발생한 요청에서만 원본 전체를 한 번 더 순회하여 계산한다.
+ */
+public final class RequestParamCapture {
+
+    private static final String TRUNCATED_SUFFIX = "...";
+    private static final String MASKED_VALUE = "***";
+
+    private static final LongAdder capturedBytes = new LongAdder();
+    private static final LongAdder savedBytes = new LongAdder();
+    private static final LongAdder truncatedCount = new LongAdder();
+    private static final LongAdder redactedCount = new LongAdder();
+
+    private final int maxBytes;
+    private final String[] excludeNames;
+    private final String[] maskNames;
+
+    public RequestParamCapture(int maxBytes, List<String> excludeNames, List<String> maskNames) {
+        this.maxBytes = Math.max(maxBytes, 0);
+        this.excludeNames = toArray(excludeNames);
+        this.maskNames = toArray(maskNames);
+    }
+
+    /**
+     * @return 기록할 문자열, 기록할 내용이 없으면 null
+     */
+    public String capture(String query) {
+        if (query == null || query.isEmpty()) {
+            return null;
+        }
+        String result = (excludeNames.length == 0 && maskNames.length == 0) ? truncate(query) : filter(query);
+        // 카운터는 UTF-8 바이트 기준 (절단 기준과 동일). 결과는 최대 길이 이내이므로 계산 비용도 제한됨
+        int resultBytes = result != null ? utf8Length(result, 0, result.length()) : 0;
+        capturedBytes.add(resultBytes);
+        if (result != query) {
+            // 절단/제거된 경우에만 원본 전체 바이트 수 계산 (할당 없는 문자 순회)
+            int queryBytes = utf8Length(query, 0, query.length());
+            if (queryBytes > resultBytes) {
+                savedBytes.add(queryBytes - resultBytes);
+            }
+        }
+        return result;
+    }
+
+    private String truncate(String query) {
+        int end = fitIndex(query, 0, query.length(), maxBytes);
+        if (end == query.length()) {
+            return query;
+        }
+        truncatedCount.increment();
+        return end == 0 ? TRUNCATED_SUFFIX : query.substring(0, end) + TRUNCATED_SUFFIX;
+    }
+
+    private String filter(String query) {
+        int length = query.length();
+        StringBuilder sb = new StringBuilder(Math.min(length, maxBytes) + TRUNCATED_SUFFIX.length());
+        int remaining = maxBytes;
+        boolean redacted = false;
+        int pos = 0;
+        while (pos < length) {
+            int amp = query.indexOf('&', pos);
+            if (amp < 0) {
+                amp = length;
+            }
+            int eq = query.indexOf('=', pos);
+            if (eq < 0 || eq > amp) {
+                eq = amp;
+            }
+            if (eq > pos) {
+                int segmentEnd;
+                String replacement = null;
+                // 인코딩된 이름(pass%77ord, user+id)은 디코딩 후 비교 → 인코딩으로 제거/마스킹을 우회하지 못함
+                String decodedName = isEncoded(query, pos, eq) ? decode(query.substring(pos, eq)) : null;
+                if (matches(excludeNames, query, pos, eq, decodedName)) {
+                    redacted = true;
+                    pos = amp + 1;
+                    continue;
+                } else if (matches(maskNames, query, pos, eq, decodedName)) {
+                    redacted = true;
+                    segmentEnd = eq;
+                    replacement = MASKED_VALUE;
+                } else {
+                    segmentEnd = amp;
+                }
+
+                if (sb.length() > 0) {
+                    if (remaining < 1) {
+                        return truncated(sb, redacted);
+                    }
+                    sb.append('&');
+                    remaining--;
+                }
+                int end = fitIndex(query, pos, segmentEnd, remaining);
+                sb.append(query, pos, end);
+                if (end < segmentEnd) {
+                    return truncated(sb, redacted);
+                }
+                remaining -= utf8Length(query, pos, end);
+                if (replacement != null) {
+                    if (remaining < replacement.length() + 1) {
+                        return truncated(sb, redacted);
+                    }
+                    sb.append('=').append(replacement);
+                    remaining -= replacement.length() + 1;
+                }
+            }
+            pos = amp + 1;
+        }
+        if (redacted) {
+            redactedCount.increment();
+        }
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
+    private static String truncated(StringBuilder sb, boolean redacted) {
+        truncatedCount.increment();
+        if (redacted) {
+            redactedCount.increment();
+        }
+        return sb.append(TRUNCATED_SUFFIX).toString();
+    }
+
+    /**
+     * [start, end) 구간 중 UTF-8 바이트 budget 이내로 들어가는 마지막 위치 (surrogate pair는 분리하지 않음).
+     */
+    private static int fitIndex(String s, int start, int end, int budget) {
+        int used = 0;
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            int bytes;
+            int chars = 1;
+            if (c < 0x80) {
+                bytes = 1;
+            } else if (c < 0x800) {
+                bytes = 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end) {
+                bytes = 4;
+                chars = 2;
+            } else {
+                bytes = 3;
+            }
+            if (used + bytes > budget) {
+                return i;
+            }
+            used += bytes;
+            i += chars;
+        }
+        return end;
+    }
+
+    private static int utf8Length(String s, int start, int end) {
+        int bytes = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param decodedName 이름 구간이 인코딩되어 있으면 디코딩 결과, 아니면 null (원본 구간을 할당 없이 비교)
+     */
+    private static boolean matches(String[] names, String s, int start, int end, String decodedName) {
+        if (decodedName != null) {
+            for (String name : names) {
+                if (name.equalsIgnoreCase(decodedName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int length = end - start;
+        for (String name : names) {
+            if (name.length() == length && s.regionMatches(true, start, name, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEncoded(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decode(String name) {
+        try {
+            return URLDecoder.decode(name, "UTF-8");
+        } catch (Exception e) {
+            // 잘못된 % 시퀀스: 원본 그대로 비교
+            return name;
+        }
+    }
+
+    private static String[] toArray(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new String[0];
+        }
+        List<String> list = new ArrayList<String>(names.size());
+        for (String name : names) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                list.add(trimmed);
+            }
+        }
+        return list.toArray(new String[0]);
+    }
+
+    public static LongAdder getCapturedBytes() {
+        return capturedBytes;
+    }
+
+    public static LongAdder getSavedBytes() {
+        return savedBytes;
+    }
+
+    public static LongAdder getTruncatedCount() {
+        return truncatedCount;
+    }
+
+    public static LongAdder getRedactedCount() {
+        return redactedCount;
+    }
+}
@@ -0,0 +1,80 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import java.io.PrintWriter;
+
+/**
+ * 샘플링된 요청 1건의 응답 출력 바이트 카운터 (요청마다 생성, Response 주입 필드에 보관).
+ *
+ * - getOutputStream(): 쓰인 바이트를 그대로 합산 (정확)
+ * - getWriter(): 쓰인 문자를 응답 인코딩 기준으로 환산 (UTF-8은 정확, 그 외 멀티바이트 인코딩은 비ASCII 2바이트로 근사)
+ * 컨테이너의 getWriter()가 내부적으로 계측된 getOutputStream()을 거치면 같은 출력이 양쪽에서 세어지므로
+ * 스트림 바이트가 있으면 스트림 값을 사용 (Servlet 규약상 애플리케이션은 둘 중 하나만 사용).
+ *
+ * 응답 쓰기는 요청 스레드에서 이루어지고 결과는 같은 스레드의 after()에서 읽으므로 동기화하지 않음.
+ */
+public final class ResponseByteCounter {
+
+    private long streamBytes;
+    private long writerBytes;
+    private boolean used;
+
+    // 같은 원본에 대한 반복 호출은 같은 래퍼 반환 (Servlet 규약: getOutputStream()/getWriter()는 같은 객체)
+    private CountingServletOutputStream outputStream;
+    private CountingPrintWriter writer;
+
+    /** ResponseSizeAspect.getOutputStream(): 카운터가 설정된 요청이면 카운팅 래퍼, 아니면 원본 */
+    public static ServletOutputStream countOutputStream(Object response, ServletOutputStream original) {
+        ResponseByteCounter counter = counter(response);
+        if (counter == null || original == null) {
+            return original;
+        }
+        CountingServletOutputStream wrapped = counter.outputStream;
+        if (wrapped == null || !wrapped.wraps(original)) {
+            wrapped = new CountingServletOutputStream(original, counter);
+            counter.outputStream = wrapped;
+        }
+        counter.used = true;
+        return wrapped;
+    }
+
+    /** ResponseSizeAspect.getWriter(): 카운터가 설정된 요청이면 카운팅 래퍼, 아니면 원본 */
+    public static PrintWriter countWriter(Object response, PrintWriter original) {
+        ResponseByteCounter counter = counter(response);
+        if (counter == null || original == null) {
+            return original;
+        }
+        CountingPrintWriter wrapped = counter.writer;
+        if (wrapped == null || !wrapped.wraps(original)) {
+            String encoding = response instanceof ServletResponse ? ((ServletResponse) response).getCharacterEncoding() : null;
+            wrapped = new CountingPrintWriter(original, counter, encoding);
+            counter.writer = wrapped;
+        }
+        counter.used = true;
+        return wrapped;
+    }
+
+    private static ResponseByteCounter counter(Object response) {
+        return response instanceof ResponseSizeAccessor
+                ? ((ResponseSizeAccessor) response)._$PINPOINT$_getResponseByteCounter()
+                : null;
+    }
+
+    void addStreamBytes(long bytes) {
+        streamBytes += bytes;
+    }
+
+    void addWriterBytes(long bytes) {
+        writerBytes += bytes;
+    }
+
+    /** getOutputStream()/getWriter()가 한 번이라도 호출되었는지 (아니면 컨테이너가 직접 쓴 응답) */
+    public boolean isUsed() {
+        return used;
+    }
+
+    public long getCount() {
+        return streamBytes > 0 ? streamBytes : writerBytes;
+    }
+}
@@ -0,0 +1,13 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+/**
+ * JEUS Response 구현 클래스에 주입되는 응답 바이트 카운터 필드 accessor.
+ *
+ * 진입점 인터셉터가 요청 시작 시 샘플링된 요청에만 카운터를 설정하고 (그 외에는 null로 초기화, Response 객체 재사용 대비)
+ * 요청 종료 시 해제. ResponseSizeAspect가 애플리케이션의 getOutputStream()/getWriter() 호출에 카운팅 래퍼를 반환.
+ */
+public interface ResponseSizeAccessor {
+    void _$PINPOINT$_setResponseByteCounter(ResponseByteCounter counter);
+
+    ResponseByteCounter _$PINPOINT$_getResponseByteCounter();
+}
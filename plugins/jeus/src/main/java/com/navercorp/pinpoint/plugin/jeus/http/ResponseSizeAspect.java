@@ -0,0 +1,38 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.Aspect;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.JointPoint;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.PointCut;
+
+import javax.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * profiler.jeus.payload.enable=true 시 profiler.jeus.payload.response.classes로 지정된 JEUS Response 구현 클래스에
+ * weaving되는 aspect.
+ *
+ * 진입점 인터셉터가 카운터를 설정한 요청(샘플링된 요청)이면 getOutputStream()/getWriter()가 출력 바이트를 세는
+ * 래퍼를 반환. 그 외 요청은 필드 read 1회 후 원본 반환값을 그대로 돌려줌.
+ *
+ * weaving 시 pointcut 메서드 본문만 대상 클래스로 복사되므로 보조 로직은 ResponseByteCounter의 static 메서드로 둠.
+ */
+@Aspect
+public abstract class ResponseSizeAspect {
+
+    @PointCut
+    public ServletOutputStream getOutputStream() throws IOException {
+        return ResponseByteCounter.countOutputStream(this, __getOutputStream());
+    }
+
+    @JointPoint
+    abstract ServletOutputStream __getOutputStream() throws IOException;
+
+    @PointCut
+    public PrintWriter getWriter() throws IOException {
+        return ResponseByteCounter.countWriter(this, __getWriter());
+    }
+
+    @JointPoint
+    abstract PrintWriter __getWriter() throws IOException;
+}
@@ -0,0 +1,288 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+import com.navercorp.pinpoint.plugin.jeus.metric.LatencyHistogram;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * agent 내부 URI 템플릿별 요청 수/에러 수/응답시간 분포 집계.
+ *
+ * recordUriTemplate()은 collector의 URI 통계에 의존하고 Pinpoint 버전에 따라 미지원일 수 있으므로,
+ * 샘플링 여부와 무관하게 모든 요청을 플러그인이 직접 집계 (요청당 LongAdder 증가 2회 + 히스토그램 증가 1회).
+ *
+ * 템플릿 수는 profiler.jeus.uristat.max.templates로 제한하고 초과분은 "_other"로 합산.
+ * 데몬 스레드가 profiler.jeus.uristat.flush.interval마다 구간 집계를 출력:
+ *   - profiler.jeus.uristat.file 지정 시 로컬 파일 (크기 기준 rolling, .1 ~ .N 백업)
+ *   - 미지정 시 agent 로그
+ * custom metric: uristat/count, uristat/error, uristat/overflow, uristat/templates
+ *   (profiler.jeus.uristat.metric.per.template=true 이면 uristat/{템플릿}/count, error도 등록)
+ *
+ * 에러 기준: 진입점 메서드가 예외로 종료되었거나 HTTP 상태 코드 5xx
+ */
+public final class UriTemplateStatMonitor implements Runnable {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(UriTemplateStatMonitor.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-uri-stat-flush";
+    private static final String OTHER_TEMPLATE = "_other";
+    private static final String UNKNOWN_TEMPLATE = "_unknown";
+
+    private static volatile UriTemplateStatMonitor instance;
+
+    private final long intervalMillis;
+    private final int maxTemplates;
+    private final boolean perTemplateMetrics;
+    private final File file;
+    private final long maxFileBytes;
+    private final int maxBackups;
+
+    private final ConcurrentHashMap<String, TemplateStat> templates = new ConcurrentHashMap<String, TemplateStat>();
+
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private final AtomicLong templateCount = new AtomicLong();
+
+    // 템플릿별 metric 등록용 (진입점 인터셉터 생성 시 설정)
+    private volatile CustomMetricRegistry customMetricRegistry;
+
+    private UriTemplateStatMonitor(JeusConfiguration config) {
+        this.intervalMillis = Math.max(config.getJeusUriStatFlushInterval(), 1000L);
+        this.maxTemplates = Math.max(config.getJeusUriStatMaxTemplates(), 1);
+        this.perTemplateMetrics = config.isJeusUriStatMetricPerTemplate();
+        String path = config.getJeusUriStatFile();
+        this.file = path != null && !path.trim().isEmpty() ? new File(path.trim()) : null;
+        this.maxFileBytes = Math.max(config.getJeusUriStatFileMaxSize(), 64 * 1024L);
+        this.maxBackups = Math.max(config.getJeusUriStatFileMaxBackups(), 0);
+    }
+
+    public static synchronized UriTemplateStatMonitor start(JeusConfiguration config) {
+        if (instance != null) {
+            return instance;
+        }
+        UriTemplateStatMonitor monitor = new UriTemplateStatMonitor(config);
+        Thread thread = new Thread(monitor, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        instance = monitor;
+        logger.info("[JEUS-PLUGIN] URI template stat monitor started. interval=" + monitor.intervalMillis
+                + "ms, maxTemplates=" + monitor.maxTemplates
+                + ", output=" + (monitor.file != null ? monitor.file.getPath() : "log"));
+        return monitor;
+    }
+
+    /** start() 전이거나 profiler.jeus.uristat.enable=false 이면 null */
+    public static UriTemplateStatMonitor getInstance() {
+        return instance;
+    }
+
+    public void registerMetrics(CustomMetricRegistry customMetricRegistry) {
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "uristat/count", totalCount);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "uristat/error", totalErrors);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "uristat/overflow", overflowCount);
+        JeusCustomMetrics.registerGauge(customMetricRegistry, "uristat/templates", templateCount);
+        if (perTemplateMetrics) {
+            this.customMetricRegistry = customMetricRegistry;
+            for (Map.Entry<String, TemplateStat> entry : templates.entrySet()) {
+                entry.getValue().registerMetrics(customMetricRegistry, entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * @param elapsedMillis 요청 처리 시간 (trace 시작 시각 기준)
+     */
+    public void record(String uriTemplate, long elapsedMillis, boolean error) {
+        TemplateStat stat = templateStat(uriTemplate != null ? uriTemplate : UNKNOWN_TEMPLATE);
+        stat.count.increment();
+        stat.latency.record(elapsedMillis * 1000L);  // 마이크로초 (recordNanos와 같은 단위)
+        totalCount.increment();
+        if (error) {
+            stat.errors.increment();
+            totalErrors.increment();
+        }
+    }
+
+    private TemplateStat templateStat(String uriTemplate) {
+        TemplateStat stat = templates.get(uriTemplate);
+        if (stat != null) {
+            return stat;
+        }
+        // 크기 확인 후 putIfAbsent: 경합 시 상한을 약간 넘을 수 있으나 스레드 수만큼으로 bounded
+        String key = uriTemplate;
+        if (templates.size() >= maxTemplates) {
+            overflowCount.increment();
+            key = OTHER_TEMPLATE;
+            stat = templates.get(key);
+            if (stat != null) {
+                return stat;
+            }
+        }
+        TemplateStat newStat = new TemplateStat();
+        stat = templates.putIfAbsent(key, newStat);
+        if (stat != null) {
+            return stat;
+        }
+        templateCount.incrementAndGet();
+        CustomMetricRegistry registry = customMetricRegistry;
+        if (registry != null) {
+            newStat.registerMetrics(registry, key);
+        }
+        return newStat;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(intervalMillis);
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] URI template stat monitor stopped unexpectedly", t);
+        }
+    }
+
+    private void flush() {
+        // 구간 집계는 출력 여부와 무관하게 리셋 (다음 구간에 누적되지 않도록)
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        StringBuilder sb = new StringBuilder(4096);
+        StringBuilder line = new StringBuilder(256);
+        for (Map.Entry<String, TemplateStat> entry : templates.entrySet()) {
+            if (entry.getValue().appendInterval(line, entry.getKey())) {
+                sb.append(timestamp).append('\t').append(line).append('\n');
+            }
+            line.setLength(0);
+        }
+        if (sb.length() == 0) {
+            return;
+        }
+        if (file != null) {
+            write(sb);
+        } else if (logger.isInfoEnabled()) {
+            logger.info("[JEUS-PLUGIN] URI template stats\n" + sb);
+        }
+    }
+
+    private void write(StringBuilder sb) {
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("cannot create directory " + parent.getPath());
+            }
+            rollIfNeeded();
+            Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8);
+            try {
+                writer.write(sb.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            logger.warn("[JEUS-PLUGIN] URI template stat write failed: " + file.getPath() + ", " + e.getMessage());
+        }
+    }
+
+    /** 크기 초과 시 file → file.1 → ... → file.N (가장 오래된 백업 삭제) */
+    private void rollIfNeeded() {
+        if (file.length() < maxFileBytes) {
+            return;
+        }
+        if (maxBackups == 0) {
+            deleteQuietly(file);
+            return;
+        }
+        deleteQuietly(backup(maxBackups));
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            File from = backup(i);
+            if (from.exists() && !from.renameTo(backup(i + 1))) {
+                logger.warn("[JEUS-PLUGIN] URI template stat roll failed: " + from.getPath());
+            }
+        }
+        if (!file.renameTo(backup(1))) {
+            logger.warn("[JEUS-PLUGIN] URI template stat roll failed: " + file.getPath());
+        }
+    }
+
+    private File backup(int index) {
+        return new File(file.getPath() + '.' + index);
+    }
+
+    private static void deleteQuietly(File target) {
+        if (target.exists() && !target.delete()) {
+            logger.warn("[JEUS-PLUGIN] Cannot delete URI template stat file: " + target.getPath());
+        }
+    }
+
+    private static final class TemplateStat {
+        // 누적값 (custom metric counter는 누적값을 받음). 구간 값은 flush 스레드가 직전 값과의 차이로 계산
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        // flush 스레드 전용
+        private long lastCount;
+        private long lastErrors;
+
+        void registerMetrics(CustomMetricRegistry registry, String template) {
+            JeusCustomMetrics.registerCounter(registry, "uristat/" + template + "/count", count);
+            JeusCustomMetrics.registerCounter(registry, "uristat/" + template + "/error", errors);
+        }
+
+        /**
+         * 구간 집계 1줄 (탭 구분): 템플릿, 요청 수, 에러 수, p50/p90/p99/max(ms), 버킷(인덱스:건수, 0건 생략)
+         *
+         * @return 구간 요청이 없으면 false
+         */
+        boolean appendInterval(StringBuilder sb, String template) {
+            LatencyHistogram.Snapshot snapshot = latency.snapshotAndReset();
+            long currentCount = count.sum();
+            long currentErrors = errors.sum();
+            long intervalCount = currentCount - lastCount;
+            long intervalErrors = currentErrors - lastErrors;
+            lastCount = currentCount;
+            lastErrors = currentErrors;
+            if (intervalCount == 0 && snapshot.getCount() == 0) {
+                return false;
+            }
+            sb.append(template)
+                    .append("\tcount=").append(intervalCount)
+                    .append("\terror=").append(intervalErrors)
+                    .append("\tp50=").append(snapshot.getPercentile(0.50) / 1000L)
+                    .append("\tp90=").append(snapshot.getPercentile(0.90) / 1000L)
+                    .append("\tp99=").append(snapshot.getPercentile(0.99) / 1000L)
+                    .append("\tmax=").append(snapshot.getMax() / 1000L)
+                    .append("\tbuckets=");
+            boolean first = true;
+            for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+                long bucketCount = snapshot.getBucketCount(i);
+                if (bucketCount == 0) {
+                    continue;
+                }
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(i).append(':').append(bucketCount);
+                first = false;
+            }
+            return true;
+        }
+    }
+}
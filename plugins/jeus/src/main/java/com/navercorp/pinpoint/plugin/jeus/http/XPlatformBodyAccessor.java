@@ -0,0 +1,13 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+/**
+ * JEUS Request 구현 클래스에 주입되는 body peek 스트림 필드 accessor.
+ *
+ * 진입점 인터셉터가 요청 시작 시 설정하고 요청 종료 시 해제 (Request 객체 재사용 대비).
+ * XPlatformRequestAspect가 애플리케이션의 getInputStream()/getReader() 호출에 이 스트림을 반환.
+ */
+public interface XPlatformBodyAccessor {
+    void _$PINPOINT$_setXPlatformPeekStream(XPlatformPeekInputStream stream);
+
+    XPlatformPeekInputStream _$PINPOINT$_getXPlatformPeekStream();
+}
@@ -0,0 +1,147 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * XPlatform POST body 앞부분 peek → 서비스 ID 추출.
+ *
+ * XPlatform 요청은 서비스 식별 값(business_id, submit_id 등)이 쿼리 파라미터가 아닌 SSV/XML body 안에 있어
+ * URI 템플릿이 원본 URI로 fallback되고 URI 통계가 몇 개로 뭉침.
+ * body 앞 profiler.jeus.xplatform.peek.bytes 바이트만 읽어 식별 값을 찾고, 읽은 바이트는
+ * XPlatformPeekInputStream으로 애플리케이션에 그대로 재생 (body 전체 버퍼링/파싱 없음).
+ *
+ * 대상: POST + 지정 Content-Type(profiler.jeus.xplatform.peek.content.types) + 계측된 Request 클래스.
+ * form(application/x-www-form-urlencoded)은 getParameter()가 body를 소비하므로 대상에서 제외해야 함.
+ *
+ * metric: xplatform/peek/count, xplatform/peek/hit, xplatform/peek/bytes
+ */
+public final class XPlatformBodyPeek {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(XPlatformBodyPeek.class);
+
+    private static final String DEFAULT_CHARACTER_ENCODING = "ISO-8859-1";
+
+    private static final LongAdder peekCount = new LongAdder();
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder peekBytes = new LongAdder();
+
+    private final int maxBytes;
+    private final String[] contentTypes;
+    private final byte[][] paramNames;
+
+    XPlatformBodyPeek(int maxBytes, List<String> contentTypes, List<String> paramNames) {
+        this.maxBytes = Math.max(maxBytes, 256);
+        this.contentTypes = new String[contentTypes.size()];
+        for (int i = 0; i < this.contentTypes.length; i++) {
+            this.contentTypes[i] = contentTypes.get(i).trim().toLowerCase(Locale.ROOT);
+        }
+        this.paramNames = new byte[paramNames.size()][];
+        for (int i = 0; i < this.paramNames.length; i++) {
+            this.paramNames[i] = paramNames.get(i).trim().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /** profiler.jeus.xplatform.peek.enable=false 이면 null */
+    public static XPlatformBodyPeek create(JeusConfiguration config) {
+        if (config == null || !config.isJeusXPlatformPeekEnabled()) {
+            return null;
+        }
+        List<String> paramNames = config.getJeusXPlatformPeekParams();
+        if (paramNames.isEmpty()) {
+            logger.warn("[JEUS-PLUGIN] profiler.jeus.xplatform.peek.params is empty. XPlatform body peek disabled.");
+            return null;
+        }
+        return new XPlatformBodyPeek(config.getJeusXPlatformPeekBytes(),
+                config.getJeusXPlatformPeekContentTypes(), paramNames);
+    }
+
+    public void registerMetrics(CustomMetricRegistry customMetricRegistry) {
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "xplatform/peek/count", peekCount);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "xplatform/peek/hit", hitCount);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "xplatform/peek/bytes", peekBytes);
+    }
+
+    /** Content-Type 접두 일치 (charset 등 파라미터 무시, 대소문자 무시) */
+    public boolean isTarget(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (String type : contentTypes) {
+            if (contentType.regionMatches(true, 0, type, 0, type.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * body 앞부분을 읽어 서비스 ID를 찾고 재생 스트림을 반환.
+     * 읽는 도중 IOException이 나도 이미 읽은 바이트는 재생 스트림에 담아 반환 (애플리케이션 읽기 결과 보존).
+     *
+     * @param contentLength 요청 Content-Length, 미지정이면 음수
+     */
+    public XPlatformPeekInputStream peek(ServletInputStream in, int contentLength) {
+        int limit = contentLength >= 0 ? Math.min(maxBytes, contentLength) : maxBytes;
+        byte[] head = new byte[limit];
+        int length = 0;
+        try {
+            while (length < limit) {
+                int n = in.read(head, length, limit - length);
+                if (n < 0) {
+                    break;
+                }
+                length += n;
+            }
+        } catch (IOException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] XPlatform body peek read failed after " + length + " bytes: " + e.getMessage());
+            }
+        }
+        String serviceTemplate = XPlatformServiceIdScanner.scan(head, length, paramNames);
+        peekCount.increment();
+        peekBytes.add(length);
+        if (serviceTemplate != null) {
+            hitCount.increment();
+        }
+        return new XPlatformPeekInputStream(in, head, length, serviceTemplate);
+    }
+
+    /**
+     * XPlatformRequestAspect.getInputStream(): peek한 요청이면 재생 스트림, 아니면 원본.
+     * 진입점 인터셉터의 peek 자체(재생 스트림 설정 전)도 이 경로로 원본을 받음.
+     * 재생 스트림은 진입점 인터셉터가 요청 시작 시 초기화하므로 Request 객체 재사용 시 이전 요청 값이 남지 않음.
+     */
+    public static ServletInputStream replay(Object request, ServletInputStream original) {
+        XPlatformPeekInputStream peeked = peekedStream(request);
+        return peeked != null ? peeked : original;
+    }
+
+    /** XPlatformRequestAspect.getReader(): peek한 요청이면 재생 스트림 기반 reader, 아니면 null */
+    public static BufferedReader replayReader(Object request) throws IOException {
+        XPlatformPeekInputStream peeked = peekedStream(request);
+        if (peeked == null) {
+            return null;
+        }
+        String encoding = request instanceof ServletRequest ? ((ServletRequest) request).getCharacterEncoding() : null;
+        return peeked.getReader(encoding != null ? encoding : DEFAULT_CHARACTER_ENCODING);
+    }
+
+    private static XPlatformPeekInputStream peekedStream(Object request) {
+        return request instanceof XPlatformBodyAccessor
+                ? ((XPlatformBodyAccessor) request)._$PINPOINT$_getXPlatformPeekStream()
+                : null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import javax.servlet.ServletInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+
+/**
+ * 앞부분 peek 후 재생 가능한 ServletInputStream.
+ *
+ * 진입점 인터셉터가 body 앞부분(최대 수 KB)만 미리 읽어 두고, 애플리케이션은 peek한 바이트부터
+ * 원본과 동일한 순서로 전체 body를 읽음. 나머지 구간은 원본 스트림에서 그대로 읽으므로 body 전체를 버퍼링하지 않음.
+ *
+ * Servlet 3.0 API 기준으로 컴파일되므로 3.1의 isFinished()/isReady()는 원본 스트림에 리플렉션으로 위임하고,
+ * setReadListener()(비동기 IO)는 지원하지 않음 (XPlatform 요청은 동기 IO로 처리).
+ */
+public final class XPlatformPeekInputStream extends ServletInputStream {
+
+    private final ServletInputStream delegate;
+    private final byte[] head;
+    private final int headLength;
+    private final String serviceTemplate;
+    private int position;
+    private BufferedReader reader;
+
+    XPlatformPeekInputStream(ServletInputStream delegate, byte[] head, int headLength, String serviceTemplate) {
+        this.delegate = delegate;
+        this.head = head;
+        this.headLength = headLength;
+        this.serviceTemplate = serviceTemplate;
+    }
+
+    /** @return body에서 추출한 서비스 템플릿 (/business_id/submit_id 등), 없으면 null */
+    public String getServiceTemplate() {
+        return serviceTemplate;
+    }
+
+    /** getReader() 대체: 요청당 1개 생성 (인코딩 미지정이면 Servlet 기본값 ISO-8859-1) */
+    synchronized BufferedReader getReader(String characterEncoding) throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(this,
+                    characterEncoding != null ? characterEncoding : "ISO-8859-1"));
+        }
+        return reader;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position < headLength) {
+            return head[position++] & 0xff;
+        }
+        return delegate.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int remaining = headLength - position;
+        if (remaining > 0) {
+            int n = Math.min(remaining, len);
+            System.arraycopy(head, position, b, off, n);
+            position += n;
+            return n;
+        }
+        return delegate.read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (headLength - position) + delegate.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // Servlet 3.1 추상 메서드 (3.0 컨테이너에서는 일반 메서드)
+    public boolean isFinished() {
+        return position >= headLength && invokeBoolean("isFinished", false);
+    }
+
+    public boolean isReady() {
+        return position < headLength || invokeBoolean("isReady", true);
+    }
+
+    private boolean invokeBoolean(String name, boolean defaultValue) {
+        try {
+            Method method = delegate.getClass().getMethod(name);
+            Object result = method.invoke(delegate);
+            return result instanceof Boolean ? (Boolean) result : defaultValue;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.Aspect;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.JointPoint;
+import com.navercorp.pinpoint.bootstrap.instrument.aspect.PointCut;
+
+import javax.servlet.ServletInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * profiler.jeus.xplatform.peek.enable=true 시 JEUS Request 구현 클래스에 weaving되는 aspect.
+ *
+ * 진입점 인터셉터가 body 앞부분을 peek한 요청이면 getInputStream()/getReader()가 peek한 바이트부터
+ * 재생하는 스트림을 반환. peek하지 않은 요청은 필드 read 1회 후 원본 메서드를 그대로 호출.
+ * 컨테이너 입장에서는 인터셉터가 getInputStream()을 이미 호출한 상태이므로 getReader()는 원본을 호출하지 않음.
+ *
+ * weaving 시 pointcut 메서드 본문만 대상 클래스로 복사되므로 보조 로직은 XPlatformBodyPeek의 static 메서드로 둠.
+ */
+@Aspect
+public abstract class XPlatformRequestAspect {
+
+    @PointCut
+    public ServletInputStream getInputStream() throws IOException {
+        return XPlatformBodyPeek.replay(this, __getInputStream());
+    }
+
+    @JointPoint
+    abstract ServletInputStream __getInputStream() throws IOException;
+
+    @PointCut
+    public BufferedReader getReader() throws IOException {
+        BufferedReader reader = XPlatformBodyPeek.replayReader(this);
+        if (reader != null) {
+            return reader;
+        }
+        return __getReader();
+    }
+
+    @JointPoint
+    abstract BufferedReader __getReader() throws IOException;
+}
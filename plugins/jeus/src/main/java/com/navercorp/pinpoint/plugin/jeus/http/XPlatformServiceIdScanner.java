@@ -0,0 +1,127 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * XPlatform 요청 body 앞부분에서 서비스 식별 파라미터 값을 찾는 스캐너 (전체 파싱 없음).
+ *
+ * 지원 형식:
+ *   XML : &lt;Parameter id="business_id" ...&gt;값&lt;/Parameter&gt;
+ *   SSV : [RS|US]business_id[:TYPE]=값[US|RS]   (RS=0x1E, US=0x1F)
+ * 파라미터명은 ASCII 바이트로 비교하고 값만 UTF-8로 디코딩.
+ * peek 범위에서 잘린 값, 길이 초과/공백·제어문자 포함 값은 무시 (URI 통계 cardinality 보호).
+ */
+final class XPlatformServiceIdScanner {
+
+    private static final byte RS = 0x1E;
+    private static final byte US = 0x1F;
+    private static final int MAX_VALUE_LENGTH = 64;
+
+    private XPlatformServiceIdScanner() {
+    }
+
+    /**
+     * @return "/값1/값2..." (모든 파라미터를 찾은 경우), 아니면 null
+     */
+    static String scan(byte[] body, int length, byte[][] names) {
+        StringBuilder sb = null;
+        for (byte[] name : names) {
+            String value = findValue(body, length, name);
+            if (value == null) {
+                return null;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(64);
+            }
+            sb.append('/').append(value);
+        }
+        return sb != null ? sb.toString() : null;
+    }
+
+    static String findValue(byte[] body, int length, byte[] name) {
+        int from = 0;
+        while (true) {
+            int index = indexOf(body, length, name, from);
+            if (index < 0) {
+                return null;
+            }
+            int end = index + name.length;
+            String value = null;
+            if (index >= 4 && end < length && isQuote(body[index - 1]) && body[end] == body[index - 1]
+                    && body[index - 2] == '=' && (body[index - 4] == 'i' && body[index - 3] == 'd')) {
+                value = xmlValue(body, length, end + 1);
+            } else if ((index == 0 || body[index - 1] == RS || body[index - 1] == US)
+                    && end < length && (body[end] == '=' || body[end] == ':')) {
+                value = ssvValue(body, length, end);
+            }
+            if (value != null) {
+                return value;
+            }
+            from = index + 1;
+        }
+    }
+
+    private static String xmlValue(byte[] body, int length, int from) {
+        int i = from;
+        while (i < length && body[i] != '>') {
+            i++;
+        }
+        if (i >= length || body[i - 1] == '/') {
+            return null;
+        }
+        int start = i + 1;
+        int end = start;
+        while (end < length && body[end] != '<') {
+            end++;
+        }
+        return end < length ? toValue(body, start, end) : null;
+    }
+
+    private static String ssvValue(byte[] body, int length, int from) {
+        int i = from;
+        while (i < length && body[i] != '=' && body[i] != US && body[i] != RS) {
+            i++;
+        }
+        if (i >= length || body[i] != '=') {
+            return null;
+        }
+        int start = i + 1;
+        int end = start;
+        while (end < length && body[end] != US && body[end] != RS && body[end] != '\r' && body[end] != '\n') {
+            end++;
+        }
+        return end < length ? toValue(body, start, end) : null;
+    }
+
+    private static String toValue(byte[] body, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > MAX_VALUE_LENGTH) {
+            return null;
+        }
+        for (int i = start; i < end; i++) {
+            int b = body[i] & 0xff;
+            if (b <= ' ' || b == '/' || b == 0x7f) {
+                return null;
+            }
+        }
+        return new String(body, start, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isQuote(byte b) {
+        return b == '"' || b == '\'';
+    }
+
+    private static int indexOf(byte[] body, int length, byte[] name, int from) {
+        int last = length - name.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < name.length; j++) {
+                if (body[i + j] != name[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckout;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckoutAccessor;
+
+/**
+ * JEUS 커넥션 close() 인터셉터.
+ *
+ * ConnectionPoolGetConnectionInterceptor가 부착한 체크아웃 정보를 분리하여
+ * 보유시간(checkout → close)을 풀별 ConnectionHoldTracker에 기록.
+ * close()가 예외로 끝나도 반납 시도로 간주하여 before()에서 처리.
+ */
+public class ConnectionCloseInterceptor implements AroundInterceptor {
+
+    @Override
+    public void before(Object target, Object[] args) {
+        if (!(target instanceof ConnectionCheckoutAccessor)) {
+            return;
+        }
+        ConnectionCheckoutAccessor connection = (ConnectionCheckoutAccessor) target;
+        ConnectionCheckout checkout = connection._$PINPOINT$_getConnectionCheckout();
+        if (checkout == null) {
+            // 이미 close된 커넥션의 중복 close() 또는 추적 대상 아님
+            return;
+        }
+        connection._$PINPOINT$_setConnectionCheckout(null);
+        try {
+            checkout.getTracker().release(checkout);
+        } catch (Throwable t) {
+            // 계측 실패가 커넥션 반납에 영향을 주지 않도록 방어
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        // 반납 처리는 before()에서 완료
+    }
+}
@@ -1,79 +1,143 @@
 package com.navercorp.pinpoint.plugin.jeus.interceptor;
 
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckout;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckoutAccessor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionHoldTracker;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionWaitStart;
 import com.navercorp.pinpoint.plugin.jeus.datasource.JeusDataSourceMonitor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.JeusDataSourceMonitorAccessor;
+import com.navercorp.pinpoint.plugin.jeus.exception.TraceExceptionState;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
 public class ConnectionPoolGetConnectionInterceptor implements AroundInterceptor {
 
     private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
 
-    // ConcurrentHashMap: lock-free read로 DB 연결 hot path 경합 제거
-    // ConnectionPool 인스턴스는 JEUS 서버 클래스로더에 속하며 서버 생애 동안 유지되므로
-    // strong key가 Metaspace 누수를 유발하지 않음
-    private static final ConcurrentHashMap<Object, JeusDataSourceMonitor> registeredMonitors =
-            new ConcurrentHashMap<Object, JeusDataSourceMonitor>();
-
-    // 등록 실패 횟수 추적 (재시도 제한용)
-    private static final ConcurrentHashMap<Object, AtomicInteger> failedAttempts =
-            new ConcurrentHashMap<Object, AtomicInteger>();
-    private static final int MAX_RETRY_ATTEMPTS = 3;
+    // 모니터 객체 생성(주입 필드 설정)만 짧게 직렬화: 풀 identity hash 기준 striped lock
+    // (풀 인스턴스 자체로 synchronized 하면 JEUS 내부 락과 경합할 수 있어 별도 lock 객체 사용)
+    // 리플렉션 초기화/레지스트리 등록은 lock 밖에서 풀별 CAS로 1개 스레드만 수행 → 다른 풀의 getConnection()을 막지 않음
+    private static final int CREATION_LOCK_COUNT = 16;
+    private static final Object[] creationLocks = new Object[CREATION_LOCK_COUNT];
+    static {
+        for (int i = 0; i < CREATION_LOCK_COUNT; i++) {
+            creationLocks[i] = new Object();
+        }
+    }
 
-    // 등록 진행 중 표시: putIfAbsent로 원자적 처리 (synchronized 블록 불필요)
-    private static final ConcurrentHashMap<Object, Boolean> registeringTargets =
-            new ConcurrentHashMap<Object, Boolean>();
+    private static final long DEFAULT_WAIT_THRESHOLD_MILLIS = 100L;
 
+    private final TraceContext traceContext;
+    private final MethodDescriptor descriptor;
     private final DataSourceMonitorRegistry dataSourceMonitorRegistry;
-
-    public ConnectionPoolGetConnectionInterceptor(DataSourceMonitorRegistry dataSourceMonitorRegistry) {
+    private final CustomMetricRegistry customMetricRegistry;
+    private final long waitThresholdNanos;
+    private final boolean holdTimeEnabled;
+    private final boolean holdTimeStack;
+    private final long leakThresholdMillis;
+
+    public ConnectionPoolGetConnectionInterceptor(TraceContext traceContext, MethodDescriptor descriptor,
+            DataSourceMonitorRegistry dataSourceMonitorRegistry, CustomMetricRegistry customMetricRegistry) {
+        this.traceContext = traceContext;
+        this.descriptor = descriptor;
         this.dataSourceMonitorRegistry = dataSourceMonitorRegistry;
+        this.customMetricRegistry = customMetricRegistry;
+
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        long thresholdMillis = config != null ? config.getJeusDataSourceWaitThresholdMillis() : DEFAULT_WAIT_THRESHOLD_MILLIS;
+        this.waitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.holdTimeEnabled = config != null && config.isJeusDataSourceHoldTimeEnabled();
+        this.holdTimeStack = config != null && config.isJeusDataSourceHoldTimeStack();
+        this.leakThresholdMillis = config != null ? config.getJeusDataSourceLeakThresholdMillis() : 60000L;
     }
 
     @Override
     public void before(Object target, Object[] args) {
-        // 이미 등록된 모니터가 있으면 통과
-        if (registeredMonitors.containsKey(target)) {
+        registerMonitorIfAbsent(target);
+
+        // 모니터 등록 비용이 대기시간에 섞이지 않도록 등록 이후 시각을 기록 (Trace 단위, ConnectionWaitStart 참조)
+        ConnectionWaitStart.begin(traceContext.currentRawTraceObject(), System.nanoTime());
+    }
+
+    private void registerMonitorIfAbsent(Object target) {
+        if (!(target instanceof JeusDataSourceMonitorAccessor)) {
             return;
         }
-
-        if (dataSourceMonitorRegistry == null) {
+        // hot path: 등록 완료(또는 재시도 포기)된 풀은 필드 read + volatile read 1회로 통과
+        JeusDataSourceMonitor monitor = ((JeusDataSourceMonitorAccessor) target)._$PINPOINT$_getJeusDataSourceMonitor();
+        if (monitor != null && monitor.isRegistrationDone()) {
             return;
         }
 
-        // 최대 재시도 횟수 초과 시 스킵
-        AtomicInteger attempts = failedAttempts.get(target);
-        if (attempts != null && attempts.get() >= MAX_RETRY_ATTEMPTS) {
+        if (dataSourceMonitorRegistry == null) {
             return;
         }
 
-        // 다른 스레드에서 이미 등록 중이면 스킵 (putIfAbsent로 원자적 처리)
-        if (registeringTargets.putIfAbsent(target, Boolean.TRUE) != null) {
+        JeusDataSourceMonitorAccessor pool = (JeusDataSourceMonitorAccessor) target;
+        if (monitor == null) {
+            monitor = createMonitor(pool);
+        }
+        // 시도 중/back-off 대기 중이면 CAS 실패 또는 시각 비교 1회로 통과
+        if (!monitor.tryBeginRegistration(System.nanoTime())) {
             return;
         }
-
+        boolean success = false;
         try {
-            // Double-check after acquiring marker
-            if (registeredMonitors.containsKey(target)) {
-                return;
-            }
-
-            logger.info("[JEUS-DATASOURCE] Found NEW ConnectionPool instance: " + target.getClass().getName());
+            success = registerMonitor(monitor);
+        } finally {
+            monitor.endRegistration(success, System.nanoTime());
+        }
+    }
 
-            JeusDataSourceMonitor monitor = new JeusDataSourceMonitor(target);
+    private JeusDataSourceMonitor createMonitor(JeusDataSourceMonitorAccessor pool) {
+        Object lock = creationLocks[(System.identityHashCode(pool) & 0x7fffffff) % CREATION_LOCK_COUNT];
+        synchronized (lock) {
+            // Double-check after acquiring lock
+            JeusDataSourceMonitor monitor = pool._$PINPOINT$_getJeusDataSourceMonitor();
+            if (monitor != null) {
+                return monitor;
+            }
+            logger.info("[JEUS-DATASOURCE] Found NEW ConnectionPool instance: " + pool.getClass().getName());
+            monitor = new JeusDataSourceMonitor(pool);
+            if (holdTimeEnabled) {
+                monitor.setHoldTracker(new ConnectionHoldTracker(holdTimeStack, leakThresholdMillis));
+            }
+            pool._$PINPOINT$_setJeusDataSourceMonitor(monitor);
+            return monitor;
+        }
+    }
 
-            // 초기화 실패 시 재시도 대상으로 처리
+    /**
+     * 리플렉션 초기화 + 레지스트리 등록 1회 시도 (풀별 등록 시도 권한을 가진 스레드만 호출).
+     * 초기화 실패와 레지스트리 예외 모두 재시도 대상 (최대 MAX_REGISTRATION_ATTEMPTS회, back-off 간격).
+     *
+     * @return 등록 성공 (이미 등록된 경우 포함)
+     */
+    private boolean registerMonitor(JeusDataSourceMonitor monitor) {
+        int attempt = monitor.getRegistrationAttempts() + 1;
+        try {
+            monitor.initialize();
             if (!monitor.isInitialized()) {
-                int attemptCount = incrementFailedAttempts(target);
-                logger.warn("[JEUS-DATASOURCE] Monitor initialization failed. Retry attempt: " + attemptCount + "/" + MAX_RETRY_ATTEMPTS);
-                return;
+                logger.warn("[JEUS-DATASOURCE] Monitor initialization failed. Retry attempt: "
+                        + attempt + "/" + JeusDataSourceMonitor.MAX_REGISTRATION_ATTEMPTS);
+                return false;
             }
 
             boolean registered = dataSourceMonitorRegistry.register(monitor);
+            // 대기시간 p50/p99/max gauge (풀 이름은 초기화 이후 확정)
+            monitor.registerWaitMetrics(customMetricRegistry);
 
             if (registered) {
                 logger.info("[JEUS-DATASOURCE] SUCCESS: Monitor registered. URL: " + monitor.getUrl());
@@ -81,37 +145,94 @@ public class ConnectionPoolGetConnectionInterceptor implements AroundInterceptor
                 // 이미 레지스트리에 등록된 경우 - 성공으로 처리
                 logger.info("[JEUS-DATASOURCE] SKIP: Already registered in registry. URL: " + monitor.getUrl());
             }
+            return true;
+        } catch (Exception e) {
+            logger.warn("[JEUS-DATASOURCE] ERROR: Registration failed. Retry attempt: "
+                    + attempt + "/" + JeusDataSourceMonitor.MAX_REGISTRATION_ATTEMPTS, e);
+            return false;
+        }
+    }
 
-            // 성공 시 모니터 저장 및 실패 카운터 제거
-            registeredMonitors.put(target, monitor);
-            failedAttempts.remove(target);
+    /**
+     * 커넥션 획득 대기시간 측정.
+     *
+     * 실패(타임아웃 등)한 호출도 기록: 풀 포화 시 가장 중요한 데이터이므로 제외하지 않음.
+     * threshold 이상 대기한 경우에만 샘플링된 Trace에 SpanEvent를 남겨 span 크기 증가를 제한.
+     */
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        long startNanos = ConnectionWaitStart.end(traceContext.currentRawTraceObject());
+        if (startNanos == 0) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
 
-        } catch (Exception e) {
-            int attemptCount = incrementFailedAttempts(target);
-            logger.warn("[JEUS-DATASOURCE] ERROR: Registration failed. Retry attempt: " + attemptCount + "/" + MAX_RETRY_ATTEMPTS, e);
-        } finally {
-            // 등록 마커 제거
-            registeringTargets.remove(target);
+        JeusDataSourceMonitor monitor = target instanceof JeusDataSourceMonitorAccessor
+                ? ((JeusDataSourceMonitorAccessor) target)._$PINPOINT$_getJeusDataSourceMonitor()
+                : null;
+        if (monitor != null) {
+            monitor.recordConnectionWait(elapsedNanos);
+        }
+
+        if (elapsedNanos >= waitThresholdNanos) {
+            recordSlowWait(monitor, elapsedNanos, throwable);
+        }
+
+        if (holdTimeEnabled && monitor != null && result instanceof ConnectionCheckoutAccessor) {
+            tagCheckout(monitor, (ConnectionCheckoutAccessor) result);
         }
     }
 
-    private int incrementFailedAttempts(Object target) {
-        // 안전 장치: failedAttempts 맵이 비정상적으로 커지면 정리
-        if (failedAttempts.size() > 100) {
-            logger.warn("[JEUS-DATASOURCE] failedAttempts map exceeded 100 entries, clearing stale entries");
-            failedAttempts.clear();
+    /**
+     * 반환된 커넥션에 체크아웃 정보를 부착 (close() 시 ConnectionCloseInterceptor가 분리).
+     */
+    private void tagCheckout(JeusDataSourceMonitor monitor, ConnectionCheckoutAccessor connection) {
+        ConnectionHoldTracker tracker = monitor.getHoldTracker();
+        if (tracker == null) {
+            return;
         }
-        AtomicInteger counter = failedAttempts.get(target);
-        if (counter == null) {
-            AtomicInteger newCounter = new AtomicInteger(0);
-            AtomicInteger existing = failedAttempts.putIfAbsent(target, newCounter);
-            counter = existing != null ? existing : newCounter;
+        try {
+            Trace trace = traceContext.currentRawTraceObject();
+            // 미샘플(DisableTrace)은 getTraceId()가 예외 → 트랜잭션 ID 없이 체크아웃만 기록
+            String transactionId = trace != null && trace.canSampled() ? trace.getTraceId().getTransactionId() : null;
+
+            ConnectionCheckout previous = connection._$PINPOINT$_getConnectionCheckout();
+            if (previous != null) {
+                // 이전 체크아웃의 close()가 관측되지 않음 → 슬롯만 정리
+                previous.getTracker().discard(previous);
+            }
+            connection._$PINPOINT$_setConnectionCheckout(tracker.checkout(transactionId));
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-DATASOURCE] Failed to tag connection checkout", t);
+            }
         }
-        return counter.incrementAndGet();
     }
 
-    @Override
-    public void after(Object target, Object[] args, Object result, Throwable throwable) {
-        // No-op
+    private void recordSlowWait(JeusDataSourceMonitor monitor, long elapsedNanos, Throwable throwable) {
+        Trace trace = traceContext.currentTraceObject();
+        if (trace == null || !trace.canSampled()) {
+            return;
+        }
+        // before()에서 traceBlockBegin을 하지 않았으므로 (threshold 미만 호출은 SpanEvent 미생성)
+        // 대기 종료 시점에 SpanEvent를 만들고 (SpanEvent 자체 경과시간은 0) 실제 대기시간은 us 단위 annotation으로 기록
+        SpanEventRecorder recorder = trace.traceBlockBegin();
+        try {
+            recorder.recordServiceType(JeusConstants.JEUS_DATASOURCE);
+            recorder.recordApi(descriptor);
+            if (monitor != null) {
+                recorder.recordAttribute(JeusConstants.JEUS_DATASOURCE_NAME, monitor.getUrl());
+            }
+            recorder.recordAttribute(JeusConstants.JEUS_CONNECTION_WAIT_TIME, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            if (throwable != null) {
+                TraceExceptionState.record(trace, recorder, throwable, descriptor);
+            }
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-DATASOURCE] Failed to record connection wait event", t);
+            }
+        } finally {
+            trace.traceBlockEnd();
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+import com.navercorp.pinpoint.plugin.jeus.dao.DaoSqlCache;
+import com.navercorp.pinpoint.plugin.jeus.exception.TraceExceptionState;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DAO 쿼리 메서드(JdbcQueryDAO 계열)를 SpanEvent로 추적하는 인터셉터.
+ *
+ * 첫 번째 String 인자를 SQL(또는 쿼리 id)로 보고 Pinpoint SQL 메타데이터로 기록 → 콜스택에서
+ * 서비스 메서드 시간과 SQL 시간을 분리해서 볼 수 있음.
+ * 쿼리 메서드끼리 중첩 호출(selectOne → selectList 등)되는 경우 바깥 호출만 SpanEvent 생성.
+ * 호출당 비용은 HimedMethodInterceptor 이벤트 1개 + SQL 캐시 조회 1회.
+ */
+public class DaoQueryInterceptor implements AroundInterceptor {
+    private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+    private final TraceContext traceContext;
+    private final MethodDescriptor descriptor;
+
+    // 중첩 쿼리 메서드 감지: 깊이는 Trace에 귀속 (HimedMethodInterceptor.BLOCK_FAILED_SCOPE와 같은 방식)
+    static final String DAO_SCOPE = "JEUS_DAO_QUERY";
+
+    private static final long LOG_THROTTLE_MS = 10_000L;
+    private final AtomicLong lastBeginFailLogTime = new AtomicLong(0);
+    private final AtomicLong lastAfterErrorLogTime = new AtomicLong(0);
+    private final AtomicLong lastEndFailLogTime = new AtomicLong(0);
+
+    public DaoQueryInterceptor(TraceContext traceContext, MethodDescriptor descriptor) {
+        this.traceContext = traceContext;
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        Trace trace = traceContext.currentTraceObject();
+        if (trace == null || !trace.canSampled()) {
+            return;
+        }
+
+        TraceScope failedScope = trace.getScope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE);
+        if (failedScope != null && failedScope.isActive()) {
+            // 상위 메서드의 begin 실패 구간 → begin 없이 깊이만 증가
+            failedScope.tryEnter();
+            return;
+        }
+
+        TraceScope daoScope = trace.getScope(DAO_SCOPE);
+        if (daoScope != null && daoScope.isActive()) {
+            // 바깥 쿼리 메서드 내부의 중첩 호출 → 깊이만 증가
+            daoScope.tryEnter();
+            return;
+        }
+
+        try {
+            trace.traceBlockBegin();
+        } catch (Throwable t) {
+            if (failedScope == null) {
+                failedScope = trace.addScope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE);
+            }
+            failedScope.tryEnter();
+            if (logger.isWarnEnabled() && shouldLog(lastBeginFailLogTime)) {
+                logger.warn("[JEUS-PLUGIN] traceBlockBegin failed (throttled 10s): "
+                        + descriptor.getClassName() + "." + descriptor.getMethodName(), t);
+            }
+            return;
+        }
+        if (daoScope == null) {
+            daoScope = trace.addScope(DAO_SCOPE);
+        }
+        daoScope.tryEnter();
+    }
+
+    private boolean shouldLog(AtomicLong lastLogTime) {
+        long now = System.currentTimeMillis();
+        long last = lastLogTime.get();
+        return now - last >= LOG_THROTTLE_MS && lastLogTime.compareAndSet(last, now);
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        Trace trace = traceContext.currentTraceObject();
+        if (trace == null || !trace.canSampled()) {
+            return;
+        }
+
+        TraceScope failedScope = trace.getScope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE);
+        if (failedScope != null && failedScope.canLeave()) {
+            failedScope.leave();
+            return;
+        }
+
+        TraceScope daoScope = trace.getScope(DAO_SCOPE);
+        if (daoScope == null || !daoScope.canLeave()) {
+            // before()에서 trace가 없었던 호출 (trace 시작 전 DAO 호출 등)
+            return;
+        }
+        daoScope.leave();
+        if (daoScope.isActive()) {
+            return;
+        }
+
+        try {
+            SpanEventRecorder recorder = trace.currentSpanEventRecorder();
+            recorder.recordServiceType(JeusConstants.JEUS_DAO);
+            recorder.recordApi(descriptor);
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                DaoSqlCache.record(recorder, (String) args[0]);
+            }
+            if (throwable != null) {
+                TraceExceptionState.record(trace, recorder, throwable, descriptor);
+            }
+        } catch (Throwable t) {
+            if (logger.isWarnEnabled() && shouldLog(lastAfterErrorLogTime)) {
+                logger.warn("[JEUS-PLUGIN] DaoQueryInterceptor.after error (throttled 10s): " + t.getMessage(), t);
+            }
+        } finally {
+            try {
+                trace.traceBlockEnd();
+            } catch (Throwable t) {
+                if (logger.isWarnEnabled() && shouldLog(lastEndFailLogTime)) {
+                    logger.warn("[JEUS-PLUGIN] traceBlockEnd failed (throttled 10s): " + t.getMessage(), t);
+                }
+            }
+        }
+    }
+}
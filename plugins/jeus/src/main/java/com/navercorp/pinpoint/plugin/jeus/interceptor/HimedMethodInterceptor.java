@@ -4,12 +4,13 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+import com.navercorp.pinpoint.plugin.jeus.exception.TraceExceptionState;
 
-import java.util.ArrayDeque;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -31,11 +32,11 @@ public class HimedMethodInterceptor implements AroundInterceptor {
     private final AtomicLong lastAfterErrorLogTime   = new AtomicLong(0);
     private final AtomicLong lastEndFailLogTime      = new AtomicLong(0);
 
-    // traceBlockBegin 성공 여부를 스택으로 추적: 중첩 호출 시 begin/end 쌍 보장
-    // Boolean 단일값이 아닌 Deque: 메서드가 서로 중첩 호출되므로 스택이 필수
-    // (단일 ThreadLocal<Boolean>은 중첩 시 remove()로 상위 메서드의 값까지 삭제됨)
-    private static final ThreadLocal<ArrayDeque<Boolean>> blockStack =
-            new ThreadLocal<ArrayDeque<Boolean>>();
+    // traceBlockBegin 실패 구간 추적: 중첩 호출 시 begin/end 쌍 보장
+    // 실패한 메서드 아래의 중첩 호출은 begin 없이 scope 깊이만 증가시키고, after()에서 깊이를 줄이며 end를 건너뜀.
+    // after()는 LIFO로 호출되므로 scope가 활성인 동안의 after()는 모두 begin하지 않은 호출에 대응.
+    // 상태는 스레드가 아닌 Trace에 귀속 (정상 경로에서는 scope 조회 1회, 할당 없음 → 가상 스레드 환경에서도 스레드별 상태 없음)
+    static final String BLOCK_FAILED_SCOPE = "JEUS_METHOD_BLOCK_FAILED";
 
     public HimedMethodInterceptor(TraceContext traceContext, MethodDescriptor descriptor) {
         this.traceContext = traceContext;
@@ -44,6 +45,9 @@ public class HimedMethodInterceptor implements AroundInterceptor {
 
     @Override
     public void before(Object target, Object[] args) {
+        // watchdog이 TTL 만료로 close한 trace가 스레드에 남아 있으면 여기서 바인딩 해제
+        WebActionDispatcherServiceInterceptor.releaseExpiredTrace(traceContext);
+
         Trace trace = traceContext.currentTraceObject();
         if (trace == null) {
             if (logger.isDebugEnabled() && shouldLog(lastNullTraceLogTime)) {
@@ -61,17 +65,21 @@ public class HimedMethodInterceptor implements AroundInterceptor {
             return;
         }
 
-        ArrayDeque<Boolean> stack = blockStack.get();
-        if (stack == null) {
-            stack = new ArrayDeque<Boolean>();
-            blockStack.set(stack);
+        TraceScope failedScope = trace.getScope(BLOCK_FAILED_SCOPE);
+        if (failedScope != null && failedScope.isActive()) {
+            // 상위 메서드의 begin 실패 구간 → begin 없이 깊이만 증가 (after()에서 end 건너뜀)
+            failedScope.tryEnter();
+            return;
         }
 
         try {
-            trace.traceBlockBegin();
-            stack.push(Boolean.TRUE);   // 성공 → after()에서 traceBlockEnd 호출
+            trace.traceBlockBegin();    // 성공 → after()에서 traceBlockEnd 호출
         } catch (Throwable t) {
-            stack.push(Boolean.FALSE);  // 실패 → after()에서 traceBlockEnd 건너뜀
+            // 실패 → after()에서 traceBlockEnd 건너뜀
+            if (failedScope == null) {
+                failedScope = trace.addScope(BLOCK_FAILED_SCOPE);
+            }
+            failedScope.tryEnter();
             if (logger.isWarnEnabled() && shouldLog(lastBeginFailLogTime)) {
                 logger.warn("[JEUS-PLUGIN] traceBlockBegin failed (throttled 10s): "
                         + descriptor.getClassName() + "." + descriptor.getMethodName(), t);
@@ -90,17 +98,7 @@ public class HimedMethodInterceptor implements AroundInterceptor {
     public void after(Object target, Object[] args, Object result, Throwable throwable) {
         Trace trace = traceContext.currentTraceObject();
         if (trace == null) {
-            // 방어: before()에서 push했을 수 있으므로 정리
-            ArrayDeque<Boolean> stack = blockStack.get();
-            if (stack != null && !stack.isEmpty()) {
-                Boolean began = stack.pop();
-                if (stack.isEmpty()) blockStack.remove();
-                // trace가 before/after 사이에 사라진 비정상 상태 감지
-                if (Boolean.TRUE.equals(began) && logger.isDebugEnabled()) {
-                    logger.debug("[JEUS-PLUGIN][DIAG] HimedMethod.after: trace disappeared between before/after"
-                            + " → traceBlockEnd skipped. method=" + descriptor.getClassName() + "." + descriptor.getMethodName());
-                }
-            }
+            // 상태가 Trace에 귀속되므로 정리할 스레드 상태 없음
             return;
         }
 
@@ -110,33 +108,32 @@ public class HimedMethodInterceptor implements AroundInterceptor {
             return;
         }
 
+        TraceScope failedScope = trace.getScope(BLOCK_FAILED_SCOPE);
+        if (failedScope != null && failedScope.canLeave()) {
+            // before()에서 begin하지 않은 호출 (자신 또는 상위 메서드의 begin 실패 구간)
+            failedScope.leave();
+            return;
+        }
+
         try {
             SpanEventRecorder recorder = trace.currentSpanEventRecorder();
             recorder.recordServiceType(JeusConstants.JEUS_METHOD);
             recorder.recordApi(descriptor);
 
             if (throwable != null) {
-                recorder.recordException(throwable);
+                // 중첩 프레임으로 전파된 같은 예외는 가장 안쪽 프레임만 전체 기록
+                TraceExceptionState.record(trace, recorder, throwable, descriptor);
             }
         } catch (Throwable t) {
             if (logger.isWarnEnabled() && shouldLog(lastAfterErrorLogTime)) {
                 logger.warn("[JEUS-PLUGIN] HimedMethodInterceptor.after error (throttled 10s): " + t.getMessage(), t);
             }
         } finally {
-            // before()에서 해당 메서드의 traceBlockBegin 성공 여부를 pop으로 꺼냄
-            // Deque 스택이므로 중첩 호출 시 각 메서드의 결과가 올바르게 매핑됨
-            ArrayDeque<Boolean> stack = blockStack.get();
-            Boolean began = (stack != null && !stack.isEmpty()) ? stack.pop() : null;
-            if (stack != null && stack.isEmpty()) {
-                blockStack.remove();  // 스택이 비면 ThreadLocal 정리
-            }
-            if (Boolean.TRUE.equals(began)) {
-                try {
-                    trace.traceBlockEnd();
-                } catch (Throwable t) {
-                    if (logger.isWarnEnabled() && shouldLog(lastEndFailLogTime)) {
-                        logger.warn("[JEUS-PLUGIN] traceBlockEnd failed (throttled 10s): " + t.getMessage(), t);
-                    }
+            try {
+                trace.traceBlockEnd();
+            } catch (Throwable t) {
+                if (logger.isWarnEnabled() && shouldLog(lastEndFailLogTime)) {
+                    logger.warn("[JEUS-PLUGIN] traceBlockEnd failed (throttled 10s): " + t.getMessage(), t);
                 }
             }
         }
@@ -1,10 +1,15 @@
 package com.navercorp.pinpoint.plugin.jeus.interceptor;
 
-import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
-import com.navercorp.pinpoint.common.trace.LoggingInfo;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.logging.LogEventAccessor;
+import com.navercorp.pinpoint.plugin.jeus.logging.LogThroughputMetrics;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogState;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogStateAccessor;
 
 /**
  * 로깅 Appender 인터셉터.
@@ -27,34 +32,112 @@ import com.navercorp.pinpoint.common.trace.LoggingInfo;
  *     profiler.log4j.logging.transactioninfo=true    (Log4j)
  *
  * 주의: 이 인터셉터는 모든 로그 호출마다 실행되므로 최대한 가볍게 유지.
+ *
+ * [Trace당 1회 마킹]
+ * 한 요청에서 수백 줄의 로그가 발생해도 LOGGED 마킹은 한 번이면 충분하므로,
+ * 스레드별로 마지막 처리한 Trace를 기억하여 같은 Trace의 반복 호출은
+ * currentTraceObject() + identity 비교 1회로 종료 (canSampled/getSpanRecorder/recordLogging 생략).
+ * 미샘플 Trace도 동일하게 기억하여 canSampled() 재호출을 피함.
+ *
+ * [레벨별 카운트]
+ * 샘플링된 Trace에서 WARN/ERROR 로그 수와 첫 ERROR 메시지(절단)를 TraceLogState에 누적.
+ * WebActionDispatcherServiceInterceptor.after()가 span 종료 시 annotation으로 기록.
+ * 레벨은 LogEventAccessor(이벤트 클래스별 Method 캐시)로 읽으며, DEBUG/INFO는 카운트 없이 종료.
+ *
+ * [비동기 Appender]
+ * profiler.jeus.logging.async.enable=true이면 LoggingEventCaptureInterceptor가 이벤트 생성 시점(요청 스레드)에
+ * LOGGED 마킹 후 TraceLogState를 이벤트에 실어 보내므로, 소비 스레드에서도 원래 Trace 기준으로 카운트.
+ *
+ * [로그 처리량 metric]
+ * profiler.jeus.logging.metric.enable=true이면 Trace 유무와 관계없이 모든 이벤트의 레벨/로거 카테고리별
+ * 건수·크기를 LogThroughputMetrics에 누적 (agent custom metric으로 주기 전송).
+ * 크기는 포맷 전 원본 메시지(패턴) 길이(문자 수)로, 미샘플 요청의 이벤트도 포맷하지 않는다.
+ *
+ * [Appender 간 중복 방지]
+ * 한 이벤트가 여러 Appender(예: FILE + CONSOLE)로 전달되어도 이벤트 주입 필드(COUNTED)로 레벨 카운트와
+ * metric을 1회만 집계. 이벤트 필드는 동기/비동기 모드 모두 주입되며(profiler.jeus.logging.event.classes),
+ * 필드가 없는 이벤트 클래스만 Appender별로 집계된다.
  */
 public class LoggingAppenderInterceptor implements AroundInterceptor {
 
+    private static final int DEFAULT_ERROR_MESSAGE_MAX_LENGTH = 256;
+
     private final TraceContext traceContext;
+    private final boolean levelCountEnabled;
+    private final int errorMessageMaxLength;
+    private final LogThroughputMetrics throughputMetrics;  // 비활성 시 null
 
-    public LoggingAppenderInterceptor(TraceContext traceContext) {
+    public LoggingAppenderInterceptor(TraceContext traceContext, CustomMetricRegistry customMetricRegistry) {
         this.traceContext = traceContext;
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        this.levelCountEnabled = config == null || config.isJeusLoggingLevelCountEnabled();
+        this.errorMessageMaxLength = config != null ? config.getJeusLoggingErrorMessageMaxLength() : DEFAULT_ERROR_MESSAGE_MAX_LENGTH;
+        this.throughputMetrics = (config != null && config.isJeusLoggingMetricEnabled())
+                ? LogThroughputMetrics.getInstance(config.getJeusLoggingMetricCategoryDepth(), customMetricRegistry)
+                : null;
     }
 
     @Override
     public void before(Object target, Object[] args) {
-        Trace trace = traceContext.currentTraceObject();
-        if (trace == null) {
-            return;
+        Object event = (args != null && args.length > 0) ? args[0] : null;
+
+        // 이벤트에 실려 온 상태 우선 사용: 비동기 Appender 소비 스레드에서는 currentTraceObject()가 항상 null
+        TraceLogState state = null;
+        if (event instanceof TraceLogStateAccessor) {
+            TraceLogStateAccessor carrier = (TraceLogStateAccessor) event;
+            state = carrier._$PINPOINT$_getTraceLogState();
+            if (state == TraceLogState.COUNTED) {
+                // 같은 이벤트가 다른 Appender에서 이미 처리됨
+                return;
+            }
+            carrier._$PINPOINT$_setTraceLogState(TraceLogState.COUNTED);
+            if (state == null) {
+                state = bindCurrentTrace();
+            }
+        } else {
+            state = bindCurrentTrace();
         }
 
-        if (!trace.canSampled()) {
+        if (event == null) {
+            return;
+        }
+        boolean countTrace = levelCountEnabled && state != null && state.isSampled();
+        if (!countTrace && throughputMetrics == null) {
             return;
         }
-
         try {
-            SpanRecorder recorder = trace.getSpanRecorder();
-            recorder.recordLogging(LoggingInfo.LOGGED);
+            LogEventAccessor accessor = LogEventAccessor.get(event);
+            int level = accessor.getLevel(event);
+            if (throughputMetrics != null) {
+                throughputMetrics.record(level, accessor.getLoggerName(event), accessor.getRawMessageLength(event));
+            }
+            if (countTrace) {
+                countLevel(state, accessor, event, level);
+            }
         } catch (Throwable t) {
             // 로깅 인터셉터 실패가 애플리케이션 로직에 영향을 주지 않도록 방어
         }
     }
 
+    private TraceLogState bindCurrentTrace() {
+        Trace trace = traceContext.currentTraceObject();
+        if (trace == null) {
+            return null;
+        }
+        // 이 Trace의 첫 로그이면 바인딩 + LOGGED 마킹 (Trace당 1회), 이후는 identity 비교 1회
+        return TraceLogState.bind(trace);
+    }
+
+    private void countLevel(TraceLogState state, LogEventAccessor accessor, Object event, int level) {
+        if (level == LogEventAccessor.LEVEL_WARN) {
+            state.incrementWarn();
+        } else if (level == LogEventAccessor.LEVEL_ERROR) {
+            if (state.incrementError()) {
+                state.setFirstErrorMessage(accessor.getMessage(event, errorMessageMaxLength));
+            }
+        }
+    }
+
     @Override
     public void after(Object target, Object[] args, Object result, Throwable throwable) {
         // 로깅 인터셉터는 after 처리 불필요
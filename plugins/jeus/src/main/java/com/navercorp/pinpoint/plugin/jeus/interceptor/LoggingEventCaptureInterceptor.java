@@ -0,0 +1,59 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogState;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogStateAccessor;
+
+/**
+ * 로그 이벤트 생성 시점(요청 스레드) Trace 캡처 인터셉터.
+ *
+ * 로그 이벤트 생성자(Logback LoggingEvent, Log4j2 Log4jLogEvent, Log4j LoggingEvent) 또는
+ * 재사용 이벤트의 값 설정 메서드(Log4j2 RingBufferLogEvent.setValues)에 적용.
+ *
+ * 비동기 Appender 연동 시: 현재 Trace가 있으면 이 시점에 LOGGED 마킹을 완료하고,
+ * 레벨 카운트용 TraceLogState를 이벤트에 실어 보냄.
+ * → 비동기 Appender의 소비 스레드에서 LoggingAppenderInterceptor가 이벤트의 상태로 카운트
+ *
+ * 동기 모드: 이벤트 필드만 초기화(null). Appender 인터셉터가 요청 스레드에서 직접 바인딩하며,
+ * 필드는 여러 Appender 간 중복 집계 방지 마커(COUNTED)로만 사용된다.
+ */
+public class LoggingEventCaptureInterceptor implements AroundInterceptor {
+
+    private final TraceContext traceContext;
+    private final boolean captureTrace;
+
+    public LoggingEventCaptureInterceptor(TraceContext traceContext) {
+        this.traceContext = traceContext;
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        this.captureTrace = config != null && config.isJeusLoggingAsyncEnabled();
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        // 이벤트 필드가 채워진 이후(after)에 캡처
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (!(target instanceof TraceLogStateAccessor)) {
+            return;
+        }
+        try {
+            if (!captureTrace) {
+                // 재사용 이벤트(RingBufferLogEvent)의 이전 COUNTED 마커 제거
+                ((TraceLogStateAccessor) target)._$PINPOINT$_setTraceLogState(null);
+                return;
+            }
+            Trace trace = traceContext.currentTraceObject();
+            // 재사용 이벤트(RingBufferLogEvent)는 이전 요청의 상태가 남지 않도록 Trace가 없어도 덮어씀
+            TraceLogState state = trace != null ? TraceLogState.bind(trace) : null;
+            ((TraceLogStateAccessor) target)._$PINPOINT$_setTraceLogState(state);
+        } catch (Throwable t) {
+            // 로깅 인터셉터 실패가 애플리케이션 로직에 영향을 주지 않도록 방어
+        }
+    }
+}
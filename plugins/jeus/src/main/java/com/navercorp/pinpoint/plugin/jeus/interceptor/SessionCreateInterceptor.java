@@ -0,0 +1,40 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.session.SessionMonitor;
+
+/**
+ * HttpSession 구현 클래스 생성자 인터셉터.
+ *
+ * 생성 시점에 세션 상태 생성을 시도하며, 컨텍스트가 아직 연결되지 않은 경우에는
+ * 첫 속성 변경/무효화 시점에 지연 생성되어 그때 created로 집계됨 (SessionMonitor 참고).
+ */
+public class SessionCreateInterceptor implements AroundInterceptor {
+
+    private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+    public SessionCreateInterceptor(CustomMetricRegistry customMetricRegistry) {
+        SessionMonitor.setMetricRegistry(customMetricRegistry);
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable != null) {
+            return;
+        }
+        try {
+            SessionMonitor.onCreated(target);
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-SESSION] create tracking failed: " + t.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.session.SessionMonitor;
+
+/**
+ * HttpSession 구현 클래스 메서드 인터셉터 (setAttribute/putValue, removeAttribute/removeValue, invalidate 계열).
+ * 세션 생성은 {@link SessionCreateInterceptor}에서 처리.
+ *
+ * Pinpoint는 계측 메서드마다 인터셉터 인스턴스를 생성하므로 어떤 이벤트인지는 생성 시점에 1회 판별.
+ * 세션 추적은 부가 기능이므로 어떤 예외도 애플리케이션으로 전파하지 않음.
+ */
+public class SessionLifecycleInterceptor implements AroundInterceptor {
+
+    private static final int SET_ATTRIBUTE = 1;
+    private static final int REMOVE_ATTRIBUTE = 2;
+    private static final int INVALIDATE = 3;
+
+    private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+    private final int event;
+
+    public SessionLifecycleInterceptor(MethodDescriptor descriptor, CustomMetricRegistry customMetricRegistry) {
+        SessionMonitor.setMetricRegistry(customMetricRegistry);
+        String methodName = descriptor.getMethodName();
+        if ("setAttribute".equals(methodName) || "putValue".equals(methodName)) {
+            this.event = SET_ATTRIBUTE;
+        } else if ("removeAttribute".equals(methodName) || "removeValue".equals(methodName)) {
+            this.event = REMOVE_ATTRIBUTE;
+        } else {
+            this.event = INVALIDATE;
+        }
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        // 무효화 이후에는 getServletContext() 등이 IllegalStateException을 던지므로 호출 전에 처리
+        if (event != INVALIDATE) {
+            return;
+        }
+        try {
+            SessionMonitor.onInvalidate(target);
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-SESSION] invalidate tracking failed: " + t.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable != null || event == INVALIDATE) {
+            return;
+        }
+        try {
+            switch (event) {
+                case SET_ATTRIBUTE:
+                    if (args != null && args.length >= 2 && args[0] instanceof String) {
+                        SessionMonitor.onSetAttribute(target, (String) args[0], args[1]);
+                    }
+                    break;
+                case REMOVE_ATTRIBUTE:
+                    if (args != null && args.length >= 1 && args[0] instanceof String) {
+                        SessionMonitor.onRemoveAttribute(target, (String) args[0]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-SESSION] session tracking failed: " + t.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.threadpool.JeusThreadPoolMonitor;
+import com.navercorp.pinpoint.plugin.jeus.threadpool.JeusThreadPoolMonitorAccessor;
+
+/**
+ * 워커 스레드 풀 생성자 인터셉터: 풀 생성 시점에 모니터를 만들어 custom metric으로 등록.
+ *
+ * 생성자 체인(this(...)/super(...))에서는 안쪽 생성자의 after()가 바깥 생성자의 before()보다 먼저 실행되므로
+ * InterceptorScope(BOUNDARY)로 걸러지지 않고, 안쪽 after() 시점에는 풀 이름 필드가 아직 설정되지 않았을 수 있다.
+ * 호출 스택에서 가장 바깥 생성자인지 확인하여 그 after()에서만 등록.
+ *
+ * 생성자는 풀당 1회(체인 포함 수 회)뿐이므로 hot path 고려 없이 스택 확인과 단일 lock 직렬화를 사용.
+ */
+public class ThreadPoolConstructorInterceptor implements AroundInterceptor {
+
+    private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+    private static final Object registrationLock = new Object();
+
+    private final CustomMetricRegistry customMetricRegistry;
+
+    public ThreadPoolConstructorInterceptor(CustomMetricRegistry customMetricRegistry) {
+        this.customMetricRegistry = customMetricRegistry;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable != null || !(target instanceof JeusThreadPoolMonitorAccessor)) {
+            return;
+        }
+        JeusThreadPoolMonitorAccessor pool = (JeusThreadPoolMonitorAccessor) target;
+        if (pool._$PINPOINT$_getJeusThreadPoolMonitor() != null || !isOutermostConstructor(target)) {
+            return;
+        }
+
+        synchronized (registrationLock) {
+            if (pool._$PINPOINT$_getJeusThreadPoolMonitor() != null) {
+                return;
+            }
+            try {
+                JeusThreadPoolMonitor monitor = JeusThreadPoolMonitor.create(target);
+                if (monitor == null) {
+                    return;
+                }
+                pool._$PINPOINT$_setJeusThreadPoolMonitor(monitor);
+                monitor.registerMetrics(customMetricRegistry);
+                logger.info("[JEUS-THREADPOOL] SUCCESS: Monitor registered. pool=" + monitor.getPoolName());
+            } catch (Throwable t) {
+                logger.warn("[JEUS-THREADPOOL] ERROR: Registration failed. class=" + target.getClass().getName(), t);
+            }
+        }
+    }
+
+    /**
+     * 현재 생성자 frame의 호출자가 같은 클래스 계층의 생성자가 아니면 가장 바깥 생성자.
+     * 생성자 frame을 찾지 못하면(직접 호출) 바깥 생성자로 간주.
+     */
+    static boolean isOutermostConstructor(Object target) {
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        for (int i = 0; i < stack.length; i++) {
+            if (isConstructorOf(stack[i], target.getClass())) {
+                return i + 1 >= stack.length || !isConstructorOf(stack[i + 1], target.getClass());
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConstructorOf(StackTraceElement frame, Class<?> type) {
+        if (!"<init>".equals(frame.getMethodName())) {
+            return false;
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (c.getName().equals(frame.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -6,14 +6,35 @@ import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
 import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
 import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
 import com.navercorp.pinpoint.plugin.jeus.JeusConstants;
+import com.navercorp.pinpoint.plugin.jeus.exception.TraceExceptionState;
+import com.navercorp.pinpoint.plugin.jeus.http.JeusPinpointHeaderAccessor;
+import com.navercorp.pinpoint.plugin.jeus.http.PayloadSizeMonitor;
+import com.navercorp.pinpoint.plugin.jeus.http.RequestParamCapture;
+import com.navercorp.pinpoint.plugin.jeus.http.UriTemplateStatMonitor;
+import com.navercorp.pinpoint.plugin.jeus.http.XPlatformBodyAccessor;
+import com.navercorp.pinpoint.plugin.jeus.http.XPlatformBodyPeek;
+import com.navercorp.pinpoint.plugin.jeus.http.XPlatformPeekInputStream;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogState;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+import com.navercorp.pinpoint.plugin.jeus.request.ActiveRequest;
+import com.navercorp.pinpoint.plugin.jeus.request.ActiveRequestMonitor;
+import com.navercorp.pinpoint.plugin.jeus.request.ActiveRequestRegistry;
+import com.navercorp.pinpoint.plugin.jeus.request.StackSampler;
+import com.navercorp.pinpoint.plugin.jeus.request.TraceTtlWatchdog;
+import com.navercorp.pinpoint.plugin.jeus.sampler.AdaptiveSampler;
+import com.navercorp.pinpoint.plugin.jeus.sampler.TemplateThroughputSampler;
+import com.navercorp.pinpoint.plugin.jeus.sampler.UriSamplingRules;
 
+import javax.servlet.ServletInputStream;
 import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -23,6 +44,31 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
     private final TraceContext traceContext;
     private final MethodDescriptor descriptor;
 
+    // DataSource 포화 연동 적응형 샘플러 (profiler.jeus.sampling.adaptive.enable=false 이면 null)
+    private final AdaptiveSampler adaptiveSampler;
+
+    // URI 템플릿별 초당 샘플 수 제한 (profiler.jeus.sampling.template.enable=false 이면 null)
+    private final TemplateThroughputSampler templateSampler;
+
+    // URI 패턴별 샘플링 규칙 hit 카운터 custom metric 등록용 (설정 재적용으로 규칙이 바뀌면 재등록)
+    private final CustomMetricRegistry customMetricRegistry;
+    private volatile UriSamplingRules registeredSamplingRules;
+
+    // 진행 중 요청 레지스트리 (stack 샘플링 등 백그라운드 작업용, 사용 기능이 모두 꺼져 있으면 null)
+    private final ActiveRequestRegistry activeRequestRegistry;
+
+    // 요청/응답 payload 크기 집계 (profiler.jeus.payload.enable=false 이면 null)
+    private final PayloadSizeMonitor payloadSizeMonitor;
+
+    // URI 템플릿별 요청 수/에러/응답시간 agent 내부 집계 (profiler.jeus.uristat.enable=false 이면 null)
+    private final UriTemplateStatMonitor uriStatMonitor;
+
+    // profiler.jeus.hidepinpointheader: Pinpoint 헤더를 읽은 뒤 애플리케이션에는 숨김 (Request에 aspect weaving)
+    private final boolean hidePinpointHeader;
+
+    // XPlatform POST body 앞부분 peek으로 서비스 ID 추출 (profiler.jeus.xplatform.peek.enable=false 이면 null)
+    private final XPlatformBodyPeek bodyPeek;
+
     // 로그 throttle: 반복 가능한 warn 로그를 10초에 1회로 제한 (로그 폭발 방지)
     private static final long LOG_THROTTLE_MS = 10_000L;
     private static final AtomicLong lastStaleTraceLogTime = new AtomicLong(0);
@@ -37,9 +83,11 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
     private static final ConcurrentHashMap<String, Method> statusMethodCache =
             new ConcurrentHashMap<String, Method>();
 
-    // 재진입 감지: 동일 스레드에서 WebActionDispatcher.service()가 중첩 호출될 때
-    // 첫 번째 trace를 stale로 잘못 인식하여 강제 close하는 것을 방지
-    private static final ThreadLocal<int[]> dispatchDepth = new ThreadLocal<int[]>();
+    // 재진입 감지: 동일 요청에서 진입점이 중첩 호출될 때(forward 등)
+    // 첫 번째 trace를 stale로 잘못 인식하여 강제 close하는 것을 방지.
+    // 깊이는 스레드가 아닌 Trace에 귀속된 TraceScope로 관리 (Trace당 scope 1개, 호출당 할당 없음)
+    // → 가상 스레드처럼 요청마다 새 스레드가 쓰이는 환경에서도 스레드별 ThreadLocal 엔트리를 만들지 않음
+    static final String DISPATCH_SCOPE = "JEUS_DISPATCH";
 
     // recordUriTemplate 지원 방식 캐시 (Pinpoint 버전마다 위치 다름)
     // 0: 미확인, 1: Trace에서 지원, 2: SpanRecorder에서 지원, 3: 미지원
@@ -49,9 +97,45 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
     private static final String ATTR_REQUEST_URI = "pinpoint.jeus.requestUri";
     private static final String ATTR_SERVER_PORT = "pinpoint.jeus.serverPort";
 
-    public WebActionDispatcherServiceInterceptor(TraceContext traceContext, MethodDescriptor descriptor) {
+    public WebActionDispatcherServiceInterceptor(TraceContext traceContext, MethodDescriptor descriptor,
+            CustomMetricRegistry customMetricRegistry) {
         this.traceContext = traceContext;
         this.descriptor = descriptor;
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        this.adaptiveSampler = AdaptiveSampler.create(config);
+        this.templateSampler = TemplateThroughputSampler.create(config);
+        this.customMetricRegistry = customMetricRegistry;
+        this.activeRequestRegistry = ActiveRequestRegistry.getInstance();
+        this.payloadSizeMonitor = PayloadSizeMonitor.getInstance();
+        this.uriStatMonitor = UriTemplateStatMonitor.getInstance();
+        this.hidePinpointHeader = config != null && config.isJeusHidePinpointHeader();
+        this.bodyPeek = XPlatformBodyPeek.create(config);
+
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "requestparam/captured.bytes", RequestParamCapture.getCapturedBytes());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "requestparam/saved.bytes", RequestParamCapture.getSavedBytes());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "requestparam/truncated", RequestParamCapture.getTruncatedCount());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "requestparam/redacted", RequestParamCapture.getRedactedCount());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "exception/recorded", TraceExceptionState.getRecordedCount());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "exception/deduplicated", TraceExceptionState.getDeduplicatedCount());
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "exception/suppressed", TraceExceptionState.getSuppressedCount());
+
+        ActiveRequestMonitor activeRequestMonitor = ActiveRequestMonitor.getInstance();
+        if (activeRequestMonitor != null) {
+            activeRequestMonitor.registerMetrics(customMetricRegistry);
+        }
+        if (activeRequestRegistry != null) {
+            JeusCustomMetrics.registerCounter(customMetricRegistry, "trace/ttl/expired", TraceTtlWatchdog.getExpiredCount());
+            JeusCustomMetrics.registerCounter(customMetricRegistry, "trace/ttl/reaped", TraceTtlWatchdog.getReapedCount());
+        }
+        if (payloadSizeMonitor != null) {
+            payloadSizeMonitor.registerMetrics(customMetricRegistry);
+        }
+        if (bodyPeek != null) {
+            bodyPeek.registerMetrics(customMetricRegistry);
+        }
+        if (uriStatMonitor != null) {
+            uriStatMonitor.registerMetrics(customMetricRegistry);
+        }
     }
 
     /**
@@ -67,7 +151,8 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
      *   Pinpoint-pSpanID  : 호출자(부모) Span ID
      *   Pinpoint-Flags    : 샘플링 플래그
      */
-    private Trace createTrace(Object request, MethodCache cache) {
+    private Trace createTrace(Object request, MethodCache cache, String requestURI, String uriTemplate,
+            JeusConfiguration config) {
         String transactionId = invokeStringMethodWithParam(cache.getHeader, request, "Pinpoint-TraceID");
 
         if (transactionId != null && !transactionId.isEmpty()) {
@@ -99,6 +184,32 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
         // newTraceObject() 호출 전 factory 내부 스토리지를 강제 정리한다.
         traceContext.removeTraceObject();
 
+        // 샘플링 판정은 신규 요청만 대상 (분산 트레이싱으로 이어받은 요청은 호출자 샘플링 결정을 따름)
+        // 1. URI 패턴 규칙: 첫 일치 규칙의 판정이 최종 (아래 샘플러보다 우선)
+        // 2. 일치 규칙 없음: 템플릿별 token bucket, 적응형 샘플러를 모두 통과해야 샘플링 → 이후 전역 샘플러
+        // 미샘플 판정 시 span 기록 없는 DisableTrace로 진행
+        UriSamplingRules rules = config != null ? config.getJeusSamplingRules() : UriSamplingRules.EMPTY;
+        String ruleTemplate = uriTemplate;
+        if (uriTemplate == null && (rules.hasTemplateRule() || templateSampler != null)) {
+            if (activeRequestRegistry == null) {
+                // before()에서 계산하지 않은 경우에만 (레지스트리 사용 시에는 이미 계산됨)
+                uriTemplate = buildEarlyUriTemplate(request, cache);
+            }
+            // 템플릿을 찾지 못한 요청: 규칙은 요청 URI로 비교, 템플릿 샘플러는 null → "_other" 버킷 (URI별 버킷 미생성)
+            ruleTemplate = uriTemplate != null ? uriTemplate : requestURI;
+        }
+        int ruleDecision = decideByRules(rules, requestURI, ruleTemplate);
+        boolean skip = ruleDecision == UriSamplingRules.SKIP
+                || (ruleDecision == UriSamplingRules.NO_MATCH && !isSampledBySamplers(uriTemplate));
+        if (skip) {
+            try {
+                return traceContext.disableSampling();
+            } catch (Exception e) {
+                traceContext.removeTraceObject();
+                return null;
+            }
+        }
+
         try {
             return traceContext.newTraceObject();
         } catch (Exception e) {
@@ -110,32 +221,75 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
         }
     }
 
+    private int decideByRules(UriSamplingRules rules, String requestURI, String uriTemplate) {
+        if (rules.isEmpty()) {
+            return UriSamplingRules.NO_MATCH;
+        }
+        if (rules != registeredSamplingRules) {
+            registerSamplingRuleMetrics(rules);
+        }
+        return rules.decide(requestURI, uriTemplate);
+    }
+
+    private boolean isSampledBySamplers(String uriTemplate) {
+        // token bucket 먼저: 거절 시 적응형 샘플러 카운터를 소비하지 않음
+        if (templateSampler != null && !templateSampler.isSampled(uriTemplate)) {
+            return false;
+        }
+        return adaptiveSampler == null || adaptiveSampler.isSampled();
+    }
+
+    private void registerSamplingRuleMetrics(UriSamplingRules rules) {
+        registeredSamplingRules = rules;
+        for (UriSamplingRules.Rule rule : rules.getRules()) {
+            String name = "sampling/rule/" + rule.getSpec();
+            JeusCustomMetrics.registerCounter(customMetricRegistry, name + "/hit", rule.getHitCounter());
+            JeusCustomMetrics.registerCounter(customMetricRegistry, name + "/sampled", rule.getSampledCounter());
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("[JEUS-PLUGIN] URI sampling rules active: " + rules);
+        }
+    }
+
     @Override
     public void before(Object target, Object[] args) {
         if (args == null || args.length < 2) {
             return;
         }
 
-        // 재진입 감지: depth counter 증가
-        int[] depth = dispatchDepth.get();
-        if (depth == null) {
-            depth = new int[]{0};
-            dispatchDepth.set(depth);
-        }
-        depth[0]++;
+        // watchdog이 TTL 만료로 close한 이전 trace(after() 누락)는 dispatch scope가 활성인 채 남아 있어 재진입으로 오인되므로 먼저 정리
+        releaseExpiredTrace(traceContext);
 
-        if (depth[0] > 1) {
-            // 재진입 호출 - 현재 trace를 stale로 잘못 인식하지 않도록 skip
-            if (logger.isDebugEnabled()) {
-                logger.debug("[JEUS-PLUGIN] Re-entrant WebActionDispatcher call (depth=" + depth[0] + "), skipping trace creation.");
+        // 재진입 감지: 현재 trace가 이 인터셉터가 시작한 요청(dispatch scope 활성)이면 깊이만 증가
+        Trace currentTrace = traceContext.currentRawTraceObject();
+        if (currentTrace != null) {
+            TraceScope scope = currentTrace.getScope(DISPATCH_SCOPE);
+            if (scope != null && scope.isActive()) {
+                // 재진입 호출 - 현재 trace를 stale로 잘못 인식하지 않도록 skip
+                scope.tryEnter();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("[JEUS-PLUGIN] Re-entrant entry point call, skipping trace creation.");
+                }
+                return;
             }
-            return;
         }
 
         Object request = args[0];
         if (request == null) {
             return;
         }
+        // 숨김 플래그 초기화: 컨테이너가 Request 객체를 재사용하므로 이전 요청의 값을 지우고 원본 헤더를 읽음
+        JeusPinpointHeaderAccessor headerAccessor = hidePinpointHeader && request instanceof JeusPinpointHeaderAccessor
+                ? (JeusPinpointHeaderAccessor) request : null;
+        if (headerAccessor != null) {
+            headerAccessor._$PINPOINT$_setJeusPinpointHeaderHidden(Boolean.FALSE);
+        }
+        // 재생 스트림도 같은 이유로 초기화 (peek은 excludeUrl 확인 후 수행)
+        XPlatformBodyAccessor bodyAccessor = bodyPeek != null && request instanceof XPlatformBodyAccessor
+                ? (XPlatformBodyAccessor) request : null;
+        if (bodyAccessor != null) {
+            bodyAccessor._$PINPOINT$_setXPlatformPeekStream(null);
+        }
         MethodCache cache = getMethodCache(request.getClass());
         String requestURI = invokeStringMethod(cache.getRequestURI, request);
 
@@ -143,27 +297,53 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
         // 제외 대상 URL이면 trace를 생성하지도, 기존 trace를 건드리지도 않고 즉시 반환
         JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
         if (config != null && requestURI != null && config.getJeusExcludeUrlFilter().filter(requestURI)) {
+            // 제외 URL도 Pinpoint 헤더는 애플리케이션에 숨김 (trace를 만들지 않으므로 헤더를 읽을 필요 없음)
+            hidePinpointHeaders(headerAccessor, request, cache);
             return;
         }
 
-        Trace staleTrace = traceContext.currentRawTraceObject();
+        Trace staleTrace = currentTrace;
         if (staleTrace != null) {
-            // depth==1이 확인된 상태이므로 현재 trace는 실제 stale trace
+            // dispatch scope가 비활성인 trace이므로 이 인터셉터가 시작한 요청이 아닌 실제 stale trace
             if (shouldLogThrottled(lastStaleTraceLogTime)) {
                 logger.warn("[JEUS-PLUGIN] Stale trace detected at request start. Force removing. (throttled 10s)");
             }
-            try {
-                staleTrace.close();  // ActiveTraceRepository에서 해제
-            } catch (Throwable t) {
-                logger.warn("[JEUS-PLUGIN] staleTrace.close() failed", t);
+            // stale trace가 점유하던 레지스트리 슬롯도 반환 (after()가 호출되지 않은 요청)
+            ActiveRequest staleRequest = findActiveRequest(staleTrace);
+            if (finishActiveRequest(staleRequest)) {
+                releaseActiveRequest(staleRequest, staleTrace);
+                try {
+                    staleTrace.close();  // ActiveTraceRepository에서 해제
+                } catch (Throwable t) {
+                    logger.warn("[JEUS-PLUGIN] staleTrace.close() failed", t);
+                }
+            } else {
+                releaseActiveRequest(staleRequest, null);
             }
             traceContext.removeTraceObject();
         }
 
-        Trace trace = createTrace(request, cache);
+        // URI 템플릿 계산 전에 XPlatform body peek (buildUriTemplate이 body의 서비스 ID를 사용)
+        if (bodyAccessor != null) {
+            peekXPlatformBody(bodyAccessor, request, cache);
+        }
+
+        // 요청 시작 시점 URI 템플릿: getParameter() 없이 query string/peek 결과로만 계산 (buildEarlyUriTemplate)
+        // 레지스트리 사용 시에는 진행 중 요청 진단(business_id/submit_id)을 위해 항상 계산, 없으면 null ("-" 표시)
+        String uriTemplate = activeRequestRegistry != null ? buildEarlyUriTemplate(request, cache) : null;
+        Trace trace = createTrace(request, cache, requestURI, uriTemplate, config);
+        if (payloadSizeMonitor != null) {
+            // 샘플링된 요청만 응답 출력 바이트 카운터 설정 (ResponseSizeAspect가 스트림/Writer를 감쌈)
+            payloadSizeMonitor.beginResponse(args[1], trace != null && trace.canSampled());
+        }
         if (trace == null) {
+            hidePinpointHeaders(headerAccessor, request, cache);
             return;
         }
+        enterDispatchScope(trace);
+        if (activeRequestRegistry != null) {
+            activeRequestRegistry.register(trace, requestURI, uriTemplate);
+        }
 
         try {
             if (trace.canSampled()) {
@@ -219,6 +399,9 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
                 }
             }
 
+            // Pinpoint 헤더는 여기까지 모두 읽었으므로 이후 애플리케이션 코드에서는 숨김
+            hidePinpointHeaders(headerAccessor, request, cache);
+
             // traceBlockBegin은 canSampled 여부와 무관하게 항상 호출
             // → after()의 traceBlockEnd와 쌍을 맞춤
             trace.traceBlockBegin();
@@ -228,37 +411,129 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
             if (logger.isWarnEnabled()) {
                 logger.warn("[JEUS-PLUGIN] BEFORE setup failed, cleaning up trace. Caused: " + t.getMessage(), t);
             }
-            try {
-                trace.close();
-            } catch (Throwable ignore) {
+            ActiveRequest activeRequest = findActiveRequest(trace);
+            if (finishActiveRequest(activeRequest)) {
+                releaseActiveRequest(activeRequest, null);
+                try {
+                    trace.close();
+                } catch (Throwable ignore) {
+                }
+            } else {
+                releaseActiveRequest(activeRequest, null);
             }
             traceContext.removeTraceObject();
         }
     }
 
-    @Override
-    public void after(Object target, Object[] args, Object result, Throwable throwable) {
-        // 재진입 depth 감소: before()에서 재진입으로 return된 경우에도 after()는 항상 호출됨
-        int[] depth = dispatchDepth.get();
-        if (depth != null) {
-            depth[0]--;
-            if (depth[0] > 0) {
-                // 재진입에 대한 after() - before()에서 trace를 만들지 않았으므로 skip
-                return;
+    /**
+     * Pinpoint 헤더가 있는 요청에만 숨김 플래그 설정 (없는 요청은 aspect가 원본 메서드를 그대로 호출).
+     * 분산 트레이싱 헤더 또는 상위 미샘플 전파(Pinpoint-Sampled) 헤더 존재 여부로 판단.
+     */
+    private void hidePinpointHeaders(JeusPinpointHeaderAccessor headerAccessor, Object request, MethodCache cache) {
+        if (headerAccessor == null) {
+            return;
+        }
+        if (invokeStringMethodWithParam(cache.getHeader, request, "Pinpoint-TraceID") != null
+                || invokeStringMethodWithParam(cache.getHeader, request, "Pinpoint-Sampled") != null) {
+            headerAccessor._$PINPOINT$_setJeusPinpointHeaderHidden(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * XPlatform POST body 앞부분을 읽고 재생 스트림을 Request 주입 필드에 설정.
+     * 이후 애플리케이션의 getInputStream()/getReader()는 XPlatformRequestAspect를 통해 재생 스트림을 받음.
+     */
+    private void peekXPlatformBody(XPlatformBodyAccessor bodyAccessor, Object request, MethodCache cache) {
+        if (!"POST".equalsIgnoreCase(invokeStringMethod(cache.getMethod, request))
+                || !bodyPeek.isTarget(invokeStringMethod(cache.getContentType, request))
+                || cache.getInputStream == null) {
+            return;
+        }
+        int contentLength = invokeIntMethod(cache.getContentLength, request, -1);
+        if (contentLength == 0) {
+            return;
+        }
+        try {
+            // weaving된 getInputStream(): 재생 스트림 설정 전이므로 원본 스트림 반환
+            Object in = cache.getInputStream.invoke(request);
+            if (in instanceof ServletInputStream) {
+                bodyAccessor._$PINPOINT$_setXPlatformPeekStream(bodyPeek.peek((ServletInputStream) in, contentLength));
             }
-            // depth <= 0: 정상(0) 또는 비정상 잔류 음수값 → 모두 ThreadLocal 정리
-            dispatchDepth.remove();
-            if (depth[0] < 0) {
-                // before() 없이 after()가 호출된 비정상 상태 → trace 처리 건너뜀
-                return;
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] XPlatform body peek failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * TTL watchdog이 이미 close한 현재 스레드의 trace 정리 (진입점/메서드 인터셉터 진입 시 호출).
+     *
+     * close는 watchdog이 수행했으므로 dispatch scope를 모두 해제하고 스레드 바인딩만 해제한 뒤 슬롯 반환.
+     * 이후 같은 요청의 인터셉터와 after()는 trace가 없으므로 기록 없이 통과한다.
+     * 만료 종료된 슬롯이 없으면 volatile 읽기 1회로 반환.
+     *
+     * @return 정리했으면 true
+     */
+    static boolean releaseExpiredTrace(TraceContext traceContext) {
+        ActiveRequest slot = TraceTtlWatchdog.claimExpired();
+        if (slot == null) {
+            return false;
+        }
+        Trace trace = slot.getTrace();
+        try {
+            if (trace != null) {
+                TraceScope scope = trace.getScope(DISPATCH_SCOPE);
+                while (scope != null && scope.canLeave()) {
+                    scope.leave();
+                }
+            }
+        } catch (Throwable ignore) {
+            // scope 해제 실패여도 스레드 바인딩과 슬롯은 정리
+        } finally {
+            if (trace != null && traceContext.currentRawTraceObject() == trace) {
+                traceContext.removeTraceObject();
             }
+            TraceTtlWatchdog.completeExpired(slot);
+        }
+        return true;
+    }
+
+    private void enterDispatchScope(Trace trace) {
+        TraceScope scope = trace.getScope(DISPATCH_SCOPE);
+        if (scope == null) {
+            scope = trace.addScope(DISPATCH_SCOPE);
         }
+        scope.tryEnter();
+    }
 
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
         Trace trace = traceContext.currentRawTraceObject();
         if (trace == null) {
             return;
         }
 
+        // 재진입 depth 감소: before()에서 재진입으로 return된 경우에도 after()는 항상 호출됨
+        TraceScope scope = trace.getScope(DISPATCH_SCOPE);
+        if (scope == null || !scope.canLeave()) {
+            // 이 인터셉터가 시작하지 않은 trace (excludeUrl 등으로 before()에서 미생성) → 건드리지 않음
+            return;
+        }
+        scope.leave();
+        if (scope.isActive()) {
+            // 재진입에 대한 after() - before()에서 trace를 만들지 않았으므로 skip
+            return;
+        }
+
+        ActiveRequest activeRequest = findActiveRequest(trace);
+        if (!finishActiveRequest(activeRequest)) {
+            // watchdog이 TTL 만료로 이미 close한 trace (ACTIVE → REAPING CAS에서 짐) → span 기록/close 없이 스레드 바인딩과 슬롯만 정리
+            releaseActiveRequest(activeRequest, null);
+            traceContext.removeTraceObject();
+            return;
+        }
+
         try {
             // URI Statistics는 샘플링 여부와 무관하게 모든 요청에 대해 기록
             if (args != null && args.length > 0 && args[0] != null) {
@@ -270,22 +545,39 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
                         ? (String) cachedUri
                         : invokeStringMethod(cache.getRequestURI, request);
 
-                String uriTemplate = buildUriTemplate(request, cache);
+                // before()에서 query string/peek으로 찾은 템플릿이 있으면 재사용, 없으면 파라미터 조회
+                // (애플리케이션 처리 후이므로 getParameter()가 인코딩/body 파싱에 영향 없음)
+                String uriTemplate = activeRequest != null ? activeRequest.getUriTemplate() : null;
+                if (uriTemplate == null) {
+                    uriTemplate = buildUriTemplate(request, cache);
+                }
                 if (uriTemplate == null) {
                     uriTemplate = extractUriTemplate(requestURI);
                 }
+                if (bodyPeek != null && request instanceof XPlatformBodyAccessor) {
+                    // 요청 종료: 재생 스트림(peek 버퍼) 참조 해제
+                    ((XPlatformBodyAccessor) request)._$PINPOINT$_setXPlatformPeekStream(null);
+                }
                 if (uriTemplate != null) {
                     invokeSetAttribute(cache.setAttribute, request, "pinpoint.metric.uri-template", uriTemplate);
                     recordUriTemplate(trace, uriTemplate);
                 }
 
+                if (payloadSizeMonitor != null) {
+                    recordPayloadSize(trace, request, cache, args.length > 1 ? args[1] : null, uriTemplate);
+                }
+                if (uriStatMonitor != null) {
+                    recordUriStat(trace, uriTemplate, args.length > 1 ? args[1] : null, throwable);
+                }
+
                 if (trace.canSampled()) {
                     SpanEventRecorder recorder = trace.currentSpanEventRecorder();
                     recorder.recordServiceType(JeusConstants.JEUS_METHOD);
                     recorder.recordApi(descriptor);
 
                     if (throwable != null) {
-                        recorder.recordException(throwable);
+                        // SpanEvent: Himed 프레임에서 이미 기록된 예외면 참조만 기록. Span은 에러 표시를 위해 항상 기록
+                        TraceExceptionState.record(trace, recorder, throwable, descriptor);
                         trace.getSpanRecorder().recordException(throwable);
                     }
 
@@ -295,8 +587,10 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
 
                     JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
                     if (config != null && config.isJeusTraceRequestParam()) {
-                        String params = invokeStringMethod(cache.getQueryString, request);
-                        if (params != null && !params.isEmpty()) {
+                        // 길이 제한 + 민감 파라미터 제거/마스킹 (원본 전체 복사 없음)
+                        String params = config.getJeusRequestParamCapture()
+                                .capture(invokeStringMethod(cache.getQueryString, request));
+                        if (params != null) {
                             recorder.recordAttribute(AnnotationKey.HTTP_PARAM_ENTITY, params);
                         }
                     }
@@ -316,17 +610,21 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
                 recorder.recordServiceType(JeusConstants.JEUS_METHOD);
                 recorder.recordApi(descriptor);
                 if (throwable != null) {
-                    recorder.recordException(throwable);
+                    TraceExceptionState.record(trace, recorder, throwable, descriptor);
                     trace.getSpanRecorder().recordException(throwable);
                 }
             } else if (throwable != null) {
                 trace.getSpanRecorder().recordException(throwable);
             }
+
+            recordLogState(trace);
         } catch (Throwable t) {
             if (logger.isWarnEnabled()) {
                 logger.warn("[JEUS-PLUGIN] AFTER. Caused: " + t.getMessage(), t);
             }
         } finally {
+            // stack 샘플 요약 기록 + 레지스트리 슬롯 반환 (예외 여부와 무관하게 반드시 반환)
+            releaseActiveRequest(activeRequest, trace);
             // 각 단계에서 예외가 발생해도 removeTraceObject()는 반드시 호출되도록 보장
             try {
                 trace.traceBlockEnd();
@@ -346,6 +644,173 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
         }
     }
 
+    /**
+     * 요청 처리 중 누적된 로그 레벨 카운트를 span annotation으로 기록 후 Trace 상태 해제.
+     * 로그가 없었던 요청(상태 없음)은 테이블 조회만으로 종료.
+     */
+    private void recordLogState(Trace trace) {
+        TraceLogState state = TraceLogState.peek(trace);
+        if (state == null) {
+            return;
+        }
+        try {
+            if (state.isSampled() && (state.getWarnCount() > 0 || state.getErrorCount() > 0)) {
+                SpanRecorder spanRecorder = trace.getSpanRecorder();
+                spanRecorder.recordAttribute(JeusConstants.JEUS_LOG_WARN_COUNT, state.getWarnCount());
+                spanRecorder.recordAttribute(JeusConstants.JEUS_LOG_ERROR_COUNT, state.getErrorCount());
+                String firstError = state.getFirstErrorMessage();
+                if (firstError != null) {
+                    spanRecorder.recordAttribute(JeusConstants.JEUS_LOG_FIRST_ERROR, firstError);
+                }
+            }
+        } finally {
+            TraceLogState.release(trace);
+        }
+    }
+
+    /**
+     * 요청 Content-Length와 응답 출력 바이트를 템플릿별 분포에 반영하고, 샘플링된 요청이면 Span에 기록.
+     * 응답 바이트는 샘플링된 요청이면 카운팅 래퍼 값, 미샘플 요청은 추가 할당 없이 리플렉션 조회만 수행.
+     */
+    private void recordPayloadSize(Trace trace, Object request, MethodCache cache, Object response, String uriTemplate) {
+        try {
+            long requestBytes = invokeIntMethod(cache.getContentLength, request, -1);
+            long responseBytes = payloadSizeMonitor.responseBytes(response);
+            payloadSizeMonitor.record(uriTemplate, requestBytes, responseBytes);
+
+            if (trace.canSampled()) {
+                SpanRecorder spanRecorder = trace.getSpanRecorder();
+                if (requestBytes >= 0) {
+                    spanRecorder.recordAttribute(JeusConstants.JEUS_REQUEST_BYTES, requestBytes);
+                }
+                if (responseBytes >= 0) {
+                    spanRecorder.recordAttribute(JeusConstants.JEUS_RESPONSE_BYTES, responseBytes);
+                }
+            }
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Failed to record payload size. Caused: " + t.getMessage());
+            }
+        }
+    }
+
+    /**
+     * URI 템플릿별 agent 내부 집계 (샘플링 여부 무관). 응답시간은 trace 시작 시각 기준.
+     * 에러: 예외 종료 또는 5xx 응답
+     */
+    private void recordUriStat(Trace trace, String uriTemplate, Object response, Throwable throwable) {
+        try {
+            long elapsedMillis = System.currentTimeMillis() - trace.getStartTime();
+            boolean error = throwable != null || getStatus(response) >= 500;
+            uriStatMonitor.record(uriTemplate, elapsedMillis, error);
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Failed to record URI template stat. Caused: " + t.getMessage());
+            }
+        }
+    }
+
+    /** @return 현재 스레드가 등록한 trace의 레지스트리 슬롯, 미등록이면 null */
+    private ActiveRequest findActiveRequest(Trace trace) {
+        if (activeRequestRegistry == null) {
+            return null;
+        }
+        ActiveRequest activeRequest = activeRequestRegistry.find(Thread.currentThread());
+        return activeRequest != null && activeRequest.getTrace() == trace ? activeRequest : null;
+    }
+
+    /**
+     * 요청 종료 선언 (TTL watchdog과 close 주체 결정).
+     *
+     * @return false면 TTL 만료로 이미 종료된 슬롯 → 호출 측은 span 기록/close 생략
+     */
+    private static boolean finishActiveRequest(ActiveRequest activeRequest) {
+        return activeRequest == null || activeRequest.tryFinish();
+    }
+
+    /**
+     * 레지스트리 슬롯 반환. trace가 주어지고 샘플링된 요청이면 stack 샘플 요약을 Span에 기록.
+     */
+    private void releaseActiveRequest(ActiveRequest activeRequest, Trace trace) {
+        if (activeRequest == null) {
+            return;
+        }
+        try {
+            if (trace != null && activeRequest.isSampled()) {
+                String stackSummary = activeRequest.drainStackSummary(StackSampler.SUMMARY_MAX_LENGTH);
+                if (stackSummary != null) {
+                    trace.getSpanRecorder().recordAttribute(JeusConstants.JEUS_STACK_SUMMARY, stackSummary);
+                }
+            }
+        } catch (Throwable t) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("[JEUS-PLUGIN] Failed to record stack summary. Caused: " + t.getMessage());
+            }
+        } finally {
+            activeRequestRegistry.release(activeRequest);
+        }
+    }
+
+    /**
+     * 요청 시작 시점(before) URI 템플릿. buildUriTemplate과 같은 우선순위이나 getParameter()를 호출하지 않는다.
+     *
+     * 애플리케이션 실행 전 getParameter()를 호출하면 요청 인코딩이 확정되어(이후 setCharacterEncoding 무시 → 한글 깨짐)
+     * form body가 미리 파싱되므로, query string에서 직접 값을 찾고 XPlatform peek 결과를 사용.
+     * body에만 있는 파라미터는 찾지 못함 → null (after()에서 getParameter()로 계산)
+     */
+    private String buildEarlyUriTemplate(Object request, MethodCache cache) {
+        String query = invokeStringMethod(cache.getQueryString, request);
+        if (query != null && !query.isEmpty()) {
+            String targetParam = queryParameter(query, "target");
+            String methodParam = targetParam != null ? queryParameter(query, "method") : null;
+            if (targetParam != null && methodParam != null) {
+                return '/' + targetParam + '/' + methodParam;
+            }
+            String businessId = queryParameter(query, "business_id");
+            String submitId = businessId != null ? queryParameter(query, "submit_id") : null;
+            if (businessId != null && submitId != null) {
+                return '/' + businessId + '/' + submitId;
+            }
+        }
+
+        if (bodyPeek != null && request instanceof XPlatformBodyAccessor) {
+            XPlatformPeekInputStream peeked = ((XPlatformBodyAccessor) request)._$PINPOINT$_getXPlatformPeekStream();
+            if (peeked != null) {
+                return peeked.getServiceTemplate();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * query string에서 첫 번째 name 파라미터 값 (없거나 빈 값이면 null). 인코딩된 값만 UTF-8로 디코딩.
+     */
+    static String queryParameter(String query, String name) {
+        int length = query.length();
+        int nameLength = name.length();
+        int pos = 0;
+        while (pos < length) {
+            int amp = query.indexOf('&', pos);
+            if (amp < 0) {
+                amp = length;
+            }
+            if (amp - pos > nameLength && query.charAt(pos + nameLength) == '='
+                    && query.regionMatches(pos, name, 0, nameLength)) {
+                String value = query.substring(pos + nameLength + 1, amp);
+                if (value.indexOf('%') >= 0 || value.indexOf('+') >= 0) {
+                    try {
+                        value = java.net.URLDecoder.decode(value, "UTF-8");
+                    } catch (Exception e) {
+                        // 잘못된 % 시퀀스: 원본 그대로 사용
+                    }
+                }
+                return value.isEmpty() ? null : value;
+            }
+            pos = amp + 1;
+        }
+        return null;
+    }
+
     /**
      * JEUS 특화 URI 템플릿 추출.
      *
@@ -353,7 +818,8 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
      * 1. target+method 파라미터 → /target/method
      * 2. business_id+submit_id 파라미터 → /businessId/submitId
      * 3. .xfdl 요청 → 파일명에서 폼 ID 추출 (예: SPZUM00400_암호확인.xfdl → /xpapps/SPZUM00400)
-     * 4. null (caller에서 requestURI fallback)
+     * 4. XPlatform body peek 결과 (profiler.jeus.xplatform.peek.params 값 → /businessId/submitId)
+     * 5. null (caller에서 requestURI fallback)
      */
     private String buildUriTemplate(Object request, MethodCache cache) {
         String targetParam = invokeStringMethodWithParam(cache.getParameter, request, "target");
@@ -368,6 +834,13 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
             return '/' + businessId + '/' + submitId;
         }
 
+        if (bodyPeek != null && request instanceof XPlatformBodyAccessor) {
+            XPlatformPeekInputStream peeked = ((XPlatformBodyAccessor) request)._$PINPOINT$_getXPlatformPeekStream();
+            if (peeked != null) {
+                return peeked.getServiceTemplate();
+            }
+        }
+
         return null;
     }
 
@@ -426,6 +899,10 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
         final Method getRemoteAddr;
         final Method getLocalName;
         final Method getQueryString;
+        final Method getContentLength;
+        final Method getMethod;
+        final Method getContentType;
+        final Method getInputStream;
         final Method setAttribute;
         final Method getAttribute;
 
@@ -439,6 +916,10 @@ public class WebActionDispatcherServiceInterceptor implements AroundInterceptor
             this.getRemoteAddr = findMethod(clazz, "getRemoteAddr");
             this.getLocalName = findMethod(clazz, "getLocalName");
             this.getQueryString = findMethod(clazz, "getQueryString");
+            this.getContentLength = findMethod(clazz, "getContentLength");
+            this.getMethod = findMethod(clazz, "getMethod");
+            this.getContentType = findMethod(clazz, "getContentType");
+            this.getInputStream = findMethod(clazz, "getInputStream");
             this.setAttribute = findMethod(clazz, "setAttribute", String.class, Object.class);
             this.getAttribute = findMethod(clazz, "getAttribute", String.class);
         }
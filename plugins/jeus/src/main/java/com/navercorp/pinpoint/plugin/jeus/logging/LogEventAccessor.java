@@ -0,0 +1,213 @@
+package com.navercorp.pinpoint.plugin.jeus.logging;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로깅 프레임워크별 이벤트 접근자 (레벨/메시지/로거명).
+ *
+ * 플러그인은 로깅 라이브러리에 컴파일 의존하지 않으므로 이벤트 클래스별 Method를 캐싱하여 리플렉션으로 접근.
+ *   Logback : ILoggingEvent.getLevel() / getFormattedMessage()              / getLoggerName()
+ *   Log4j2  : LogEvent.getLevel()      / getMessage().getFormattedMessage() / getLoggerName()
+ *   Log4j   : LoggingEvent.getLevel()  / getRenderedMessage()               / getLoggerName()
+ *
+ * 처리량 metric 크기는 포맷 전 원본 메시지(패턴) 길이로 계산하여 hot path에서 포맷하지 않음 (getRawMessageLength).
+ *
+ * 레벨 판정은 Level.toString()의 첫 글자로 수행 (세 프레임워크 모두 "TRACE"/"DEBUG"/"INFO"/"WARN"/"ERROR"/"FATAL"
+ * 상수 문자열 반환, 숫자 스케일은 프레임워크마다 달라 비교 불가).
+ */
+public final class LogEventAccessor {
+
+    public static final int LEVEL_OTHER = 0;
+    public static final int LEVEL_TRACE = 1;
+    public static final int LEVEL_DEBUG = 2;
+    public static final int LEVEL_INFO = 3;
+    public static final int LEVEL_WARN = 4;
+    public static final int LEVEL_ERROR = 5;  // FATAL 포함
+    public static final int LEVEL_COUNT = 6;
+
+    private static final String[] LEVEL_NAMES = {"other", "trace", "debug", "info", "warn", "error"};
+
+    private static final PLogger logger = PLoggerFactory.getLogger(LogEventAccessor.class);
+
+    // 이벤트 클래스명 → 접근자. String 키: ClassLoader GC 차단 방지 (hot deploy 시 교체)
+    private static final ConcurrentHashMap<String, LogEventAccessor> accessorCache =
+            new ConcurrentHashMap<String, LogEventAccessor>();
+    // 대부분 애플리케이션은 이벤트 클래스가 1종이므로 마지막 접근자를 우선 확인 (Map 조회 생략)
+    private static volatile LogEventAccessor lastAccessor;
+
+    private final Class<?> eventClass;  // identity check: hot deploy 시 ClassLoader 변경 감지용
+    private final Method getLevel;
+    private final Method getMessage;    // getFormattedMessage / getRenderedMessage / getMessage
+    private final Method formatMessage; // Log4j2: Message.getFormattedMessage() (인터페이스 Method, 구현체 무관)
+    private final Method getLoggerName;
+    private final Method getRawMessage;  // 포맷 전 메시지: Logback getMessage() / Log4j getMessage() / Log4j2 getMessage()
+    private final Method rawFormat;      // Log4j2: Message.getFormat() (패턴 문자열)
+
+    private LogEventAccessor(Class<?> eventClass) {
+        this.eventClass = eventClass;
+        this.getLevel = findMethod(eventClass, "getLevel");
+
+        Method message = findMethod(eventClass, "getFormattedMessage");
+        if (message == null) {
+            message = findMethod(eventClass, "getRenderedMessage");
+        }
+        Method format = null;
+        if (message == null) {
+            message = findMethod(eventClass, "getMessage");
+            if (message != null && message.getReturnType() != String.class) {
+                format = findMethod(message.getReturnType(), "getFormattedMessage");
+            }
+        }
+        this.getMessage = message;
+        this.formatMessage = format;
+        this.getLoggerName = findMethod(eventClass, "getLoggerName");
+
+        Method raw = findMethod(eventClass, "getMessage");
+        Method rawFormatMethod = null;
+        if (raw != null && raw.getReturnType() != String.class && raw.getReturnType() != Object.class) {
+            rawFormatMethod = findMethod(raw.getReturnType(), "getFormat");
+            if (rawFormatMethod == null || rawFormatMethod.getReturnType() != String.class) {
+                raw = null;
+                rawFormatMethod = null;
+            }
+        }
+        this.getRawMessage = raw;
+        this.rawFormat = rawFormatMethod;
+    }
+
+    public static LogEventAccessor get(Object event) {
+        Class<?> clazz = event.getClass();
+        LogEventAccessor accessor = lastAccessor;
+        if (accessor != null && accessor.eventClass == clazz) {
+            return accessor;
+        }
+        String key = clazz.getName();
+        accessor = accessorCache.get(key);
+        if (accessor == null || accessor.eventClass != clazz) {
+            // benign race: 두 스레드가 동시에 생성해도 결과 동일 (불변 객체)
+            accessor = new LogEventAccessor(clazz);
+            accessorCache.put(key, accessor);
+        }
+        lastAccessor = accessor;
+        return accessor;
+    }
+
+    public int getLevel(Object event) {
+        if (getLevel == null) {
+            return LEVEL_OTHER;
+        }
+        try {
+            Object level = getLevel.invoke(event);
+            if (level == null) {
+                return LEVEL_OTHER;
+            }
+            String name = level.toString();
+            if (name.isEmpty()) {
+                return LEVEL_OTHER;
+            }
+            switch (name.charAt(0)) {
+                case 'T':
+                    return LEVEL_TRACE;
+                case 'D':
+                    return LEVEL_DEBUG;
+                case 'I':
+                    return LEVEL_INFO;
+                case 'W':
+                    return LEVEL_WARN;
+                case 'E':
+                case 'F':
+                    return LEVEL_ERROR;
+                default:
+                    return LEVEL_OTHER;  // ALL / OFF / 사용자 정의 레벨
+            }
+        } catch (Exception e) {
+            return LEVEL_OTHER;
+        }
+    }
+
+    public static String levelName(int level) {
+        return LEVEL_NAMES[level];
+    }
+
+    public String getLoggerName(Object event) {
+        if (getLoggerName == null) {
+            return null;
+        }
+        try {
+            Object name = getLoggerName.invoke(event);
+            return name != null ? name.toString() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 포맷 전 원본 메시지(패턴) 길이(문자 수). 로그 처리량 metric의 크기 근사치로 사용.
+     *
+     * 모든 이벤트(미샘플 포함)에 대해 호출되므로 메시지를 포맷하지 않는다.
+     *   Logback : getMessage()             → 패턴 문자열
+     *   Log4j2  : getMessage().getFormat() → 패턴 문자열 (ParameterizedMessage/SimpleMessage)
+     *   Log4j   : getMessage()             → String이면 길이, 그 외 객체는 0 (toString 호출 안 함)
+     */
+    public int getRawMessageLength(Object event) {
+        if (getRawMessage == null) {
+            return 0;
+        }
+        try {
+            Object message = getRawMessage.invoke(event);
+            if (message != null && rawFormat != null) {
+                message = rawFormat.invoke(message);
+            }
+            return message instanceof String ? ((String) message).length() : 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 메시지 추출 후 maxLength로 절단. 첫 ERROR에서만 호출되므로 hot path 아님.
+     */
+    public String getMessage(Object event, int maxLength) {
+        String text = readMessage(event);
+        if (text == null) {
+            return null;
+        }
+        if (text.length() > maxLength) {
+            return text.substring(0, maxLength) + "...";
+        }
+        return text;
+    }
+
+    private String readMessage(Object event) {
+        if (getMessage == null) {
+            return null;
+        }
+        try {
+            Object message = getMessage.invoke(event);
+            if (message == null) {
+                return null;
+            }
+            if (formatMessage != null) {
+                message = formatMessage.invoke(message);
+            }
+            return String.valueOf(message);
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Failed to read log message from " + eventClass.getName(), e);
+            }
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> clazz, String name) {
+        try {
+            return clazz.getMethod(name);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.navercorp.pinpoint.plugin.jeus.logging;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 처리량 metric (레벨별 / 로거 카테고리별 건수·크기).
+ *
+ * 크기(chars)는 포맷 전 원본 메시지(패턴) 길이(문자 수) 근사치. hot path에서 메시지를 포맷하지 않기 위함
+ * (미샘플 요청 포함 모든 이벤트가 대상). 인자 치환분은 포함되지 않으므로 추세 비교용.
+ *
+ * Trace 유무와 관계없이 Appender로 전달되는 모든 로그 이벤트를 누적하여,
+ * 로그 폭주(log storm)를 응답시간 급증과 같은 화면(agent custom metric)에서 확인할 수 있게 함.
+ *
+ * 메모리 고정:
+ *   - 레벨: LEVEL_COUNT개 슬롯
+ *   - 카테고리: 로거명 앞 N개 패키지 세그먼트 (예: depth=2 → "com.company")
+ *     CATEGORY_CAPACITY개 고정 테이블(open addressing), 가득 차면 "other" 슬롯으로 합산
+ * 카운터는 LongAdder(스레드별 셀 분산)로 다수 요청 스레드의 동시 로그에도 경합 없음.
+ *
+ * 카테고리 조회는 로거명의 prefix 구간을 직접 해시/비교하므로 기존 카테고리는 할당 없이 처리.
+ * 새 카테고리 등록 시에만 substring 1회 + CAS.
+ *
+ * flush: CustomMetricRegistry에 등록된 LongCounter를 agent가 stat 수집 주기마다 읽어 전송 (누적값).
+ */
+public final class LogThroughputMetrics {
+
+    static final int CATEGORY_CAPACITY = 64;  // 2의 거듭제곱
+    private static final int OTHER_SLOT = CATEGORY_CAPACITY;
+    private static final String OTHER_CATEGORY = "other";
+
+    private static volatile LogThroughputMetrics instance;
+
+    private final int categoryDepth;
+    private final CustomMetricRegistry registry;
+
+    private final LongAdder[] levelCount = newAdders(LogEventAccessor.LEVEL_COUNT);
+    private final LongAdder[] levelChars = newAdders(LogEventAccessor.LEVEL_COUNT);
+
+    private final AtomicReferenceArray<String> categories = new AtomicReferenceArray<String>(CATEGORY_CAPACITY);
+    private final LongAdder[] categoryCount = newAdders(CATEGORY_CAPACITY + 1);
+    private final LongAdder[] categoryChars = newAdders(CATEGORY_CAPACITY + 1);
+
+    private LogThroughputMetrics(int categoryDepth, CustomMetricRegistry registry) {
+        this.categoryDepth = categoryDepth;
+        this.registry = registry;
+        for (int level = 0; level < LogEventAccessor.LEVEL_COUNT; level++) {
+            String name = "log/level/" + LogEventAccessor.levelName(level);
+            JeusCustomMetrics.registerCounter(registry, name + "/count", levelCount[level]);
+            JeusCustomMetrics.registerCounter(registry, name + "/chars", levelChars[level]);
+        }
+        registerCategory(OTHER_CATEGORY, OTHER_SLOT);
+    }
+
+    /**
+     * Appender 인터셉터 생성 시 호출. 첫 호출의 설정/registry로 1회 초기화.
+     */
+    public static LogThroughputMetrics getInstance(int categoryDepth, CustomMetricRegistry registry) {
+        LogThroughputMetrics metrics = instance;
+        if (metrics == null) {
+            synchronized (LogThroughputMetrics.class) {
+                metrics = instance;
+                if (metrics == null) {
+                    metrics = new LogThroughputMetrics(categoryDepth, registry);
+                    instance = metrics;
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /** @param length 원본 메시지(패턴) 길이(문자 수), 알 수 없으면 0 */
+    public void record(int level, String loggerName, int length) {
+        levelCount[level].increment();
+        levelChars[level].add(length);
+
+        int slot = categorySlot(loggerName);
+        categoryCount[slot].increment();
+        categoryChars[slot].add(length);
+    }
+
+    private int categorySlot(String loggerName) {
+        if (loggerName == null || loggerName.isEmpty()) {
+            return OTHER_SLOT;
+        }
+        int end = categoryEnd(loggerName);
+        int hash = 0;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + loggerName.charAt(i);
+        }
+        int mask = CATEGORY_CAPACITY - 1;
+        int index = (hash ^ (hash >>> 16)) & mask;
+        for (int probe = 0; probe < CATEGORY_CAPACITY; probe++) {
+            String category = categories.get(index);
+            if (category == null) {
+                String newCategory = loggerName.substring(0, end);
+                if (categories.compareAndSet(index, null, newCategory)) {
+                    registerCategory(newCategory, index);
+                    return index;
+                }
+                category = categories.get(index);
+            }
+            if (category.length() == end && loggerName.regionMatches(0, category, 0, end)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return OTHER_SLOT;
+    }
+
+    /** 로거명에서 앞 categoryDepth개 세그먼트가 끝나는 위치 */
+    private int categoryEnd(String loggerName) {
+        int dots = 0;
+        for (int i = 0; i < loggerName.length(); i++) {
+            if (loggerName.charAt(i) == '.' && ++dots == categoryDepth) {
+                return i;
+            }
+        }
+        return loggerName.length();
+    }
+
+    private void registerCategory(String category, int slot) {
+        String name = "log/category/" + category;
+        JeusCustomMetrics.registerCounter(registry, name + "/count", categoryCount[slot]);
+        JeusCustomMetrics.registerCounter(registry, name + "/chars", categoryChars[slot]);
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
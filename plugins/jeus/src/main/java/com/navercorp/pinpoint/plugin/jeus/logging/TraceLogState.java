@@ -0,0 +1,148 @@
+package com.navercorp.pinpoint.plugin.jeus.logging;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.trace.LoggingInfo;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Trace 단위 로그 상태 (LOGGED 마킹 여부, WARN/ERROR 카운트, 첫 ERROR 메시지).
+ *
+ * Trace의 첫 로그에서 1회 생성되어 Trace에 귀속된다 (스레드별 상태 없음 → 가상 스레드에도 ThreadLocal 엔트리 없음).
+ * TraceExceptionState와 같은 방식으로 Trace identity hash로 인덱싱한 전역 고정 크기 테이블에 Trace 약한 참조와 함께 보관.
+ * → 같은 Trace의 반복 로그는 테이블 조회 + identity 비교 1회로 바인딩 확인 (할당 없음)
+ * 충돌 시 최대 MAX_PROBE개 슬롯을 선형 탐색하여 빈 슬롯(또는 GC된 Trace의 슬롯)을 사용하고,
+ * 모두 진행 중인 다른 Trace가 점유하면 첫 슬롯을 덮어씀 (밀려난 Trace는 이후 로그부터 새 상태로 카운트).
+ *
+ * 비동기 Appender(Logback AsyncAppender, Log4j2 async logger) 사용 시에는 요청 스레드에서
+ * 로그 이벤트 생성 시점에 이 객체를 이벤트의 주입 필드(TraceLogStateAccessor)에 실어 보내고,
+ * 소비 스레드의 Appender 인터셉터가 이벤트에서 꺼내 카운트한다. 따라서 카운터는 원자적으로 갱신.
+ *
+ * WeakReference: 해제되지 않은 슬롯(진입점 밖에서 만든 Trace 등)이 종료된 Trace를 붙잡지 않도록 함.
+ * WebActionDispatcherServiceInterceptor.after()가 카운터를 span에 기록한 뒤 release(trace)로 슬롯을 비운다.
+ * 해제 이후 도착한 비동기 로그는 span에 반영되지 않음.
+ */
+public final class TraceLogState extends WeakReference<Trace> {
+
+    /** 이미 카운트된 이벤트 표시 (한 이벤트가 여러 Appender로 전달될 때 중복 카운트 방지) */
+    public static final TraceLogState COUNTED = new TraceLogState(null, false);
+
+    // 동시에 로그를 남기는 Trace 수보다 충분히 크게 (2의 거듭제곱)
+    private static final int TABLE_SIZE = 4096;
+    private static final int MAX_PROBE = 4;
+
+    private static final AtomicReferenceArray<TraceLogState> traceStates =
+            new AtomicReferenceArray<TraceLogState>(TABLE_SIZE);
+
+    private static final AtomicIntegerFieldUpdater<TraceLogState> WARN_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(TraceLogState.class, "warnCount");
+    private static final AtomicIntegerFieldUpdater<TraceLogState> ERROR_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(TraceLogState.class, "errorCount");
+
+    private final boolean sampled;
+    private volatile int warnCount;
+    private volatile int errorCount;
+    private volatile String firstErrorMessage;
+
+    private TraceLogState(Trace trace, boolean sampled) {
+        super(trace);
+        this.sampled = sampled;
+    }
+
+    /**
+     * 주어진 Trace의 상태 반환.
+     * 이 Trace의 첫 로그이면 새 상태를 만들고 LOGGED 마킹 (Trace당 1회).
+     */
+    public static TraceLogState bind(Trace trace) {
+        int start = System.identityHashCode(trace);
+        int free = -1;
+        for (int i = 0; i < MAX_PROBE; i++) {
+            int index = (start + i) & (TABLE_SIZE - 1);
+            TraceLogState state = traceStates.get(index);
+            if (state == null || state.get() == null) {
+                if (free < 0) {
+                    free = index;
+                }
+            } else if (state.get() == trace) {
+                return state;
+            }
+        }
+        boolean sampled = trace.canSampled();
+        TraceLogState state = new TraceLogState(trace, sampled);
+        // 같은 Trace는 한 스레드에서만 로그 이벤트를 만들므로 set으로 충분 (경합은 다른 Trace끼리의 덮어쓰기뿐)
+        traceStates.set(free >= 0 ? free : start & (TABLE_SIZE - 1), state);
+        if (sampled) {
+            try {
+                SpanRecorder recorder = trace.getSpanRecorder();
+                recorder.recordLogging(LoggingInfo.LOGGED);
+            } catch (Throwable t) {
+                // 로깅 인터셉터 실패가 애플리케이션 로직에 영향을 주지 않도록 방어
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 주어진 Trace의 상태가 있으면 반환, 아니면 null.
+     * 로그가 한 번도 발생하지 않은 Trace에는 상태 객체를 만들지 않음.
+     */
+    public static TraceLogState peek(Trace trace) {
+        int index = find(trace);
+        return index >= 0 ? traceStates.get(index) : null;
+    }
+
+    /** 요청 종료: Trace의 슬롯 해제 */
+    public static void release(Trace trace) {
+        int index = find(trace);
+        if (index >= 0) {
+            TraceLogState state = traceStates.get(index);
+            if (state != null && state.get() == trace) {
+                traceStates.compareAndSet(index, state, null);
+            }
+        }
+    }
+
+    private static int find(Trace trace) {
+        int start = System.identityHashCode(trace);
+        for (int i = 0; i < MAX_PROBE; i++) {
+            int index = (start + i) & (TABLE_SIZE - 1);
+            TraceLogState state = traceStates.get(index);
+            if (state != null && state.get() == trace) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void incrementWarn() {
+        WARN_UPDATER.incrementAndGet(this);
+    }
+
+    /** @return 이 Trace의 첫 ERROR이면 true (호출 측에서 메시지 캡처) */
+    public boolean incrementError() {
+        return ERROR_UPDATER.incrementAndGet(this) == 1;
+    }
+
+    public void setFirstErrorMessage(String message) {
+        this.firstErrorMessage = message;
+    }
+
+    public int getWarnCount() {
+        return warnCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public String getFirstErrorMessage() {
+        return firstErrorMessage;
+    }
+}
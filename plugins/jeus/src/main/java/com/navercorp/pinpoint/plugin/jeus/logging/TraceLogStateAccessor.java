@@ -0,0 +1,13 @@
+package com.navercorp.pinpoint.plugin.jeus.logging;
+
+/**
+ * 로그 이벤트 클래스에 주입되는 TraceLogState 필드 accessor.
+ *
+ * 이벤트 생성(요청 스레드) 시점에 Trace의 로그 상태를 실어 보내어,
+ * 비동기 Appender의 소비 스레드에서도 원래 Trace 기준으로 카운트할 수 있게 함.
+ */
+public interface TraceLogStateAccessor {
+    void _$PINPOINT$_setTraceLogState(TraceLogState state);
+
+    TraceLogState _$PINPOINT$_getTraceLogState();
+}
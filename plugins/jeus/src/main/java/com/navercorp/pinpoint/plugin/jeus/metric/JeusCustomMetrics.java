@@ -0,0 +1,130 @@
+package com.navercorp.pinpoint.plugin.jeus.metric;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * jeus 플러그인 custom metric 등록 헬퍼.
+ *
+ * CustomMetricRegistry는 agent stat 수집 주기마다 등록된 metric의 값을 읽어 전송하므로
+ * 플러그인은 값을 누적만 하고 별도 flush 스레드를 두지 않는다.
+ * 같은 이름의 중복 등록(인터셉터 인스턴스가 여러 개인 경우)은 이름 기준으로 1회만 수행.
+ *
+ * metric 이름 규칙: custom/jeus/{영역}/{항목}
+ */
+public final class JeusCustomMetrics {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(JeusCustomMetrics.class);
+
+    public static final String PREFIX = "custom/jeus/";
+
+    private static final ConcurrentHashMap<String, Boolean> registeredNames = new ConcurrentHashMap<String, Boolean>();
+
+    private JeusCustomMetrics() {
+    }
+
+    public static void registerCounter(CustomMetricRegistry registry, String name, final LongAdder adder) {
+        registerCounter(registry, new AdderCounter(PREFIX + name, adder));
+    }
+
+    public static void registerCounter(CustomMetricRegistry registry, String name, final AtomicLong value) {
+        registerCounter(registry, new AtomicCounter(PREFIX + name, value));
+    }
+
+    public static void registerCounter(CustomMetricRegistry registry, LongCounter counter) {
+        if (registry == null || registeredNames.putIfAbsent(counter.getName(), Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            if (!registry.register(counter) && logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] custom metric already registered: " + counter.getName());
+            }
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Failed to register custom metric: " + counter.getName(), t);
+        }
+    }
+
+    public static void registerGauge(CustomMetricRegistry registry, String name, final AtomicLong value) {
+        registerGauge(registry, new AtomicGauge(PREFIX + name, value));
+    }
+
+    public static void registerGauge(CustomMetricRegistry registry, LongGauge gauge) {
+        if (registry == null || registeredNames.putIfAbsent(gauge.getName(), Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            if (!registry.register(gauge) && logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] custom metric already registered: " + gauge.getName());
+            }
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Failed to register custom metric: " + gauge.getName(), t);
+        }
+    }
+
+    private static final class AdderCounter implements LongCounter {
+        private final String name;
+        private final LongAdder adder;
+
+        AdderCounter(String name, LongAdder adder) {
+            this.name = name;
+            this.adder = adder;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getValue() {
+            return adder.sum();
+        }
+    }
+
+    private static final class AtomicCounter implements LongCounter {
+        private final String name;
+        private final AtomicLong value;
+
+        AtomicCounter(String name, AtomicLong value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getValue() {
+            return value.get();
+        }
+    }
+
+    private static final class AtomicGauge implements LongGauge {
+        private final String name;
+        private final AtomicLong value;
+
+        AtomicGauge(String name, AtomicLong value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getValue() {
+            return value.get();
+        }
+    }
+}
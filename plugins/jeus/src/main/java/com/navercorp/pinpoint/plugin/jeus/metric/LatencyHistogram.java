@@ -0,0 +1,160 @@
+package com.navercorp.pinpoint.plugin.jeus.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free 로그 버킷 히스토그램 (지연시간 기본, 값의 단위는 호출 측이 결정).
+ *
+ * 버킷 i는 [2^(i-1), 2^i) 구간을 담당 (버킷 0은 1 미만).
+ * 마지막 버킷은 그 이상 전부를 흡수하므로 메모리는 인스턴스당 고정 (버킷 32개).
+ * 지연시간은 recordNanos()로 마이크로초 단위로 기록하며 Snapshot.toString()은 이 단위를 ms로 표기.
+ * 다른 단위(예: payload 바이트)는 record()/getPercentile()/getMax()로 값 그대로 사용.
+ *
+ * - record(): AtomicLongArray 증가 1회 + max CAS (대부분 1회 비교로 종료)
+ * - percentile은 버킷 상한값으로 근사 (최대 2배 오차, 운영 지표 용도로 충분)
+ * - snapshotAndReset(): 구간 리셋 방식. 버킷별 getAndSet이므로 리셋 도중
+ *   기록된 값 일부가 다음 구간으로 넘어갈 수 있으나 유실은 없음
+ */
+public class LatencyHistogram {
+
+    public static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxValue = new AtomicLong(0);
+
+    /** 지연시간 기록 (마이크로초 단위로 변환) */
+    public void recordNanos(long elapsedNanos) {
+        record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(value));
+
+        long max = maxValue.get();
+        while (value > max) {
+            if (maxValue.compareAndSet(max, value)) {
+                break;
+            }
+            max = maxValue.get();
+        }
+    }
+
+    public static int bucketIndex(long value) {
+        int index = 64 - Long.numberOfLeadingZeros(value);
+        return index < BUCKET_COUNT ? index : BUCKET_COUNT - 1;
+    }
+
+    /** 버킷 i의 상한값. 마지막 버킷은 상한이 없으므로 Long.MAX_VALUE */
+    public static long bucketUpperBound(int index) {
+        if (index >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return 1L << index;
+    }
+
+    /** 다른 히스토그램의 스냅샷 합산 (구간 스냅샷을 더 긴 리포트 구간으로 누적할 때) */
+    public void add(Snapshot snapshot) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = snapshot.counts[i];
+            if (count > 0) {
+                buckets.addAndGet(i, count);
+            }
+        }
+        long max = maxValue.get();
+        while (snapshot.max > max) {
+            if (maxValue.compareAndSet(max, snapshot.max)) {
+                break;
+            }
+            max = maxValue.get();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(counts, maxValue.get());
+    }
+
+    public Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.getAndSet(i, 0);
+        }
+        return new Snapshot(counts, maxValue.getAndSet(0));
+    }
+
+    /**
+     * 히스토그램의 불변 스냅샷. 리포트/로그 출력 시점에만 생성되므로 hot path와 무관.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long totalCount;
+        private final long max;
+
+        Snapshot(long[] counts, long max) {
+            this.counts = counts;
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            this.totalCount = total;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return totalCount;
+        }
+
+        public long getBucketCount(int index) {
+            return counts[index];
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * percentile(0.0 ~ 1.0)에 해당하는 버킷 상한값.
+         * 실제 최대값보다 커지지 않도록 max로 보정.
+         */
+        public long getPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(totalCount * percentile);
+            if (rank < 1) {
+                rank = 1;
+            }
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /** recordNanos()로 기록한 지연시간(us)을 ms로 표기 */
+        @Override
+        public String toString() {
+            return "count=" + totalCount
+                    + ", p50=" + toMillisString(getPercentile(0.50))
+                    + ", p99=" + toMillisString(getPercentile(0.99))
+                    + ", max=" + toMillisString(max);
+        }
+
+        private static String toMillisString(long micros) {
+            // 소수점 1자리 ms 표기 (String.format 회피)
+            long tenths = micros / 100;
+            return (tenths / 10) + "." + (tenths % 10) + "ms";
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 진행 중 요청 1건의 슬롯 (ActiveRequestRegistry에 미리 할당되어 재사용).
+ *
+ * 요청 스레드가 claim → activate → release 순으로 사용하고, 백그라운드 작업(stack sampler 등)은
+ * generation을 먼저 읽고 작업 후 같은 generation인지 확인하여 슬롯 재사용과의 경합을 판별한다.
+ *
+ * 상태 전이 (정상 종료와 TTL 만료 종료 중 한쪽만 trace를 close하도록 ACTIVE에서의 CAS로 결정):
+ *   FREE → ACTIVE                : 요청 시작 (tryClaim)
+ *   ACTIVE → FINISHING → FREE    : 요청 스레드의 정상 종료 (tryFinish → release) → 요청 스레드가 close
+ *   ACTIVE → REAPING → REAPED    : TTL 만료 (tryReap → markReaped) → watchdog이 close (요청 스레드 생존 여부 무관)
+ *   REAPED → FREE                : 요청 스레드가 after() 또는 다음 인터셉터 진입 시 close 없이 스레드 바인딩만 해제
+ *                                  (tryFinish가 false) 후 반환. 소유 스레드가 종료되었으면 watchdog이 바로 반환
+ * REAPED 슬롯은 isActive()가 false이므로 만료 즉시 진행 중 요청 집계에서 빠진다.
+ */
+public final class ActiveRequest {
+
+    static final int FREE = 0;
+    static final int ACTIVE = 1;
+    static final int FINISHING = 2;
+    static final int REAPING = 3;
+    static final int REAPED = 4;
+
+    // watchdog이 close하고 요청 스레드의 정리를 기다리는 슬롯 수: 인터셉터 진입 시 volatile 읽기 1회로 확인
+    private static final AtomicInteger reapedSlots = new AtomicInteger();
+
+    private final int index;
+    private final AtomicInteger state = new AtomicInteger(FREE);
+
+    // activate() 시점에 기록, release() 시점에 해제 (요청 스레드만 쓰기)
+    private volatile long generation;
+    private volatile Thread thread;
+    private volatile Trace trace;
+    private volatile long startNanos;
+    private volatile boolean sampled;
+    // 진단용 요청 정보: 요청 경로에서 이미 만들어진 객체의 참조만 보관 (문자열 생성은 읽는 측에서)
+    private volatile String requestUri;
+    private volatile String uriTemplate;
+    private volatile TraceId traceId;  // 미샘플(DisableTrace)이면 null
+
+    // 슬롯마다 미리 할당되어 재사용 (요청당 할당 없음)
+    private final StackSummary stackSummary;
+
+    ActiveRequest(int index, int maxStacks) {
+        this.index = index;
+        this.stackSummary = new StackSummary(maxStacks);
+    }
+
+    boolean tryClaim() {
+        return state.get() == FREE && state.compareAndSet(FREE, ACTIVE);
+    }
+
+    void activate(Thread thread, Trace trace, long startNanos, String requestUri, String uriTemplate) {
+        stackSummary.lock();
+        try {
+            stackSummary.reset();
+        } finally {
+            stackSummary.unlock();
+        }
+        // startNanos를 trace보다 먼저 기록: trace를 먼저 읽은 쪽은 같은 요청의 startNanos를 보게 됨
+        this.startNanos = startNanos;
+        this.thread = thread;
+        this.trace = trace;
+        this.sampled = trace.canSampled();
+        this.traceId = sampled ? trace.getTraceId() : null;
+        this.requestUri = requestUri;
+        this.uriTemplate = uriTemplate;
+        this.generation = generation + 1;  // 마지막에 증가 → 읽는 측은 generation 확인 후 필드 사용
+    }
+
+    /**
+     * 요청 스레드의 종료 선언.
+     *
+     * @return false면 TTL 만료로 watchdog이 이미 close함 (호출 측은 trace를 기록/close하지 않음)
+     */
+    public boolean tryFinish() {
+        while (true) {
+            if (state.compareAndSet(ACTIVE, FINISHING)) {
+                return true;
+            }
+            int current = state.get();
+            if (current == REAPING) {
+                // TTL 만료 종료 중 (close 완료 또는 판정 취소까지 짧은 구간)
+                Thread.yield();
+            } else if (current != ACTIVE) {
+                return current == FINISHING;
+            }
+        }
+    }
+
+    /** watchdog: TTL 만료 종료 선점 (요청 스레드의 tryFinish와 경합, 한쪽만 성공) */
+    boolean tryReap() {
+        return state.compareAndSet(ACTIVE, REAPING);
+    }
+
+    /**
+     * tryReap() 성공 후 슬롯의 trace가 판정 대상과 다르면 (그 사이 요청이 바뀜) 원복.
+     */
+    void cancelReap() {
+        state.set(ACTIVE);
+    }
+
+    /** watchdog: close 완료, 살아 있는 요청 스레드가 바인딩을 해제할 때까지 슬롯 유지 */
+    void markReaped() {
+        reapedSlots.incrementAndGet();
+        state.set(REAPED);
+    }
+
+    boolean isReaped() {
+        return state.get() == REAPED;
+    }
+
+    static boolean hasReapedSlots() {
+        return reapedSlots.get() > 0;
+    }
+
+    /** 만료 종료된 슬롯 반환 (요청 스레드 정리 완료 또는 소유 스레드 종료) */
+    void releaseReaped() {
+        clear();
+    }
+
+    void release() {
+        // ACTIVE 상태에서 바로 반환하는 경우(before() 실패 등)도 watchdog과 경합하지 않도록 종료 선언을 거침
+        // REAPING이면 watchdog의 close가 끝날 때까지 대기
+        tryFinish();
+        clear();
+    }
+
+    private void clear() {
+        // REAPED 슬롯은 요청 스레드 또는 (소유 스레드 종료 후) watchdog 한쪽만 반환하므로 경합 없음
+        if (state.get() == REAPED) {
+            reapedSlots.decrementAndGet();
+        }
+        this.thread = null;
+        this.trace = null;
+        this.traceId = null;
+        this.requestUri = null;
+        this.uriTemplate = null;
+        state.set(FREE);
+    }
+
+    public boolean isActive() {
+        return state.get() == ACTIVE;
+    }
+
+    boolean isFree() {
+        return state.get() == FREE;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+
+    public Trace getTrace() {
+        return trace;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public String getUriTemplate() {
+        return uriTemplate;
+    }
+
+    public TraceId getTraceId() {
+        return traceId;
+    }
+
+    StackSummary getStackSummary() {
+        return stackSummary;
+    }
+
+    /**
+     * 요청 종료 시 stack 샘플 요약 문자열 (샘플이 없으면 null).
+     */
+    public String drainStackSummary(int maxLength) {
+        stackSummary.lock();
+        try {
+            return stackSummary.isEmpty() ? null : stackSummary.format(maxLength);
+        } finally {
+            stackSummary.unlock();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중 요청 현황 (경과 시간 구간별 건수 + 최장 진행 요청 top-N).
+ *
+ * 데몬 스레드가 주기적으로 ActiveRequestRegistry 슬롯을 순회하여 집계하고 결과를 AtomicLong에 게시한다.
+ * custom metric은 게시된 값을 읽기만 하므로 agent stat 수집 주기와 무관하게 비용이 고정.
+ * 집계용 배열은 모두 미리 할당되어 재사용 (요청 경로에는 아무 작업도 추가하지 않음).
+ *
+ * metric:
+ *   activerequest/total, activerequest/untracked
+ *   activerequest/elapsed/{lt1s, 1s-3s, 3s-5s, 5s-10s, 10s-30s, ge30s}
+ *   activerequest/top/{순위}/elapsed.ms
+ *
+ * profiler.jeus.activerequest.dump.file 지정 시 매 주기 진단 덤프를 파일로 갱신 (임시 파일 작성 후 교체).
+ * Agent Inspector의 active thread 화면에 없는 URI 템플릿(business_id/submit_id), trace id를 현장에서 바로 확인하는 용도.
+ */
+public final class ActiveRequestMonitor implements Runnable {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(ActiveRequestMonitor.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-active-request-monitor";
+
+    // 경과 시간 구간 상한 (ms), 마지막 구간은 상한 없음
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1000L, 3000L, 5000L, 10000L, 30000L};
+    private static final String[] BUCKET_NAMES = {"lt1s", "1s-3s", "3s-5s", "5s-10s", "10s-30s", "ge30s"};
+
+    private static volatile ActiveRequestMonitor instance;
+
+    private final ActiveRequestRegistry registry;
+    private final long intervalMillis;
+    private final Path dumpFile;
+
+    // 게시 값 (metric 읽기용)
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong[] bucketCounts = new AtomicLong[BUCKET_NAMES.length];
+    private final AtomicLong[] topElapsedMillis;
+
+    // 집계용 작업 배열 (monitor 스레드 전용)
+    private final long[] counts = new long[BUCKET_NAMES.length];
+    private final ActiveRequest[] topSlots;
+    private final long[] topGenerations;
+    private final long[] topElapsed;
+    private int topSize;
+    private final StringBuilder dumpBuffer = new StringBuilder(1024);
+
+    private ActiveRequestMonitor(ActiveRequestRegistry registry, JeusConfiguration config) {
+        this.registry = registry;
+        this.intervalMillis = Math.max(config.getJeusActiveRequestInterval(), 1000L);
+        String dumpPath = config.getJeusActiveRequestDumpFile();
+        this.dumpFile = dumpPath.isEmpty() ? null : Paths.get(dumpPath).toAbsolutePath();
+
+        int topN = Math.max(config.getJeusActiveRequestTopN(), 1);
+        this.topSlots = new ActiveRequest[topN];
+        this.topGenerations = new long[topN];
+        this.topElapsed = new long[topN];
+        this.topElapsedMillis = new AtomicLong[topN];
+        for (int i = 0; i < topN; i++) {
+            topElapsedMillis[i] = new AtomicLong();
+        }
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new AtomicLong();
+        }
+    }
+
+    public static synchronized ActiveRequestMonitor start(ActiveRequestRegistry registry, JeusConfiguration config) {
+        if (instance != null) {
+            return instance;
+        }
+        ActiveRequestMonitor monitor = new ActiveRequestMonitor(registry, config);
+        Thread thread = new Thread(monitor, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        instance = monitor;
+        logger.info("[JEUS-PLUGIN] Active request monitor started. interval=" + monitor.intervalMillis
+                + "ms, topN=" + monitor.topSlots.length + ", dumpFile=" + monitor.dumpFile);
+        return monitor;
+    }
+
+    /** start() 전이거나 profiler.jeus.activerequest.enable=false 이면 null */
+    public static ActiveRequestMonitor getInstance() {
+        return instance;
+    }
+
+    /**
+     * CustomMetricRegistry는 인터셉터 생성 시점에만 주입되므로 진입점 인터셉터 생성자에서 호출.
+     */
+    public void registerMetrics(CustomMetricRegistry customMetricRegistry) {
+        JeusCustomMetrics.registerGauge(customMetricRegistry, "activerequest/total", total);
+        JeusCustomMetrics.registerCounter(customMetricRegistry, "activerequest/untracked", registry.getUntrackedCount());
+        for (int i = 0; i < BUCKET_NAMES.length; i++) {
+            JeusCustomMetrics.registerGauge(customMetricRegistry, "activerequest/elapsed/" + BUCKET_NAMES[i], bucketCounts[i]);
+        }
+        for (int i = 0; i < topElapsedMillis.length; i++) {
+            JeusCustomMetrics.registerGauge(customMetricRegistry, "activerequest/top/" + (i + 1) + "/elapsed.ms", topElapsedMillis[i]);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(intervalMillis);
+                collect(System.nanoTime());
+                if (dumpFile != null) {
+                    writeDump();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Active request monitor stopped unexpectedly", t);
+        }
+    }
+
+    private void collect(long now) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        topSize = 0;
+        long activeCount = 0;
+
+        for (ActiveRequest slot : registry.getSlots()) {
+            if (!slot.isActive()) {
+                continue;
+            }
+            long generation = slot.getGeneration();
+            long elapsedNanos = now - slot.getStartNanos();
+            if (elapsedNanos < 0) {
+                // activate() 도중 (startNanos 미기록) → 다음 주기에 집계
+                continue;
+            }
+            activeCount++;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            counts[bucketIndex(elapsedMillis)]++;
+            offerTop(slot, generation, elapsedMillis);
+        }
+
+        total.set(activeCount);
+        for (int i = 0; i < counts.length; i++) {
+            bucketCounts[i].set(counts[i]);
+        }
+        for (int i = 0; i < topElapsedMillis.length; i++) {
+            topElapsedMillis[i].set(i < topSize ? topElapsed[i] : 0L);
+        }
+    }
+
+    private static int bucketIndex(long elapsedMillis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (elapsedMillis < BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    /** 경과 시간 내림차순 삽입 정렬 (topN은 작으므로 배열 이동으로 충분) */
+    private void offerTop(ActiveRequest slot, long generation, long elapsedMillis) {
+        int capacity = topSlots.length;
+        if (topSize == capacity && elapsedMillis <= topElapsed[capacity - 1]) {
+            return;
+        }
+        int pos = topSize < capacity ? topSize++ : capacity - 1;
+        while (pos > 0 && topElapsed[pos - 1] < elapsedMillis) {
+            topSlots[pos] = topSlots[pos - 1];
+            topGenerations[pos] = topGenerations[pos - 1];
+            topElapsed[pos] = topElapsed[pos - 1];
+            pos--;
+        }
+        topSlots[pos] = slot;
+        topGenerations[pos] = generation;
+        topElapsed[pos] = elapsedMillis;
+    }
+
+    private void writeDump() {
+        StringBuilder sb = dumpBuffer;
+        sb.setLength(0);
+        sb.append("# JEUS active requests ")
+                .append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()))
+                .append("\ntotal=").append(total.get())
+                .append(" untracked=").append(registry.getUntrackedCount().sum())
+                .append("\nelapsed");
+        for (int i = 0; i < BUCKET_NAMES.length; i++) {
+            sb.append(' ').append(BUCKET_NAMES[i]).append('=').append(bucketCounts[i].get());
+        }
+        sb.append("\n\n# top ").append(topSlots.length).append(" longest running\n");
+        for (int i = 0; i < topSize; i++) {
+            ActiveRequest slot = topSlots[i];
+            Thread thread = slot.getThread();
+            String requestUri = slot.getRequestUri();
+            String uriTemplate = slot.getUriTemplate();
+            TraceId traceId = slot.getTraceId();
+            // 집계 이후 요청이 끝나 슬롯이 재사용되었으면 생략
+            if (!slot.isActive() || slot.getGeneration() != topGenerations[i]) {
+                continue;
+            }
+            sb.append(topElapsed[i]).append("ms")
+                    .append(" thread=").append(thread != null ? thread.getName() : "-")
+                    .append(" uri=").append(requestUri)
+                    .append(" template=").append(uriTemplate != null ? uriTemplate : "-")
+                    .append(" txId=").append(traceId != null ? traceId.getTransactionId() : "-")
+                    .append('\n');
+        }
+
+        Path tmp = dumpFile.resolveSibling(dumpFile.getFileName() + ".tmp");
+        OutputStream out = null;
+        try {
+            out = Files.newOutputStream(tmp);
+            out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+            out.close();
+            out = null;
+            Files.move(tmp, dumpFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Failed to write active request dump. file=" + dumpFile + ", error=" + e.getMessage());
+            }
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+}
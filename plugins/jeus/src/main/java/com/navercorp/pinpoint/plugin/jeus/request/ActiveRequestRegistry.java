@@ -0,0 +1,96 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중 요청 레지스트리 (lock-free, 고정 크기 슬롯 배열).
+ *
+ * 슬롯은 기동 시 capacity개를 미리 할당하고 재사용하므로 요청당 할당이 없다.
+ * 시작 위치는 스레드 identity hash로 정하고 최대 MAX_PROBE개까지 선형 탐색하여 CAS로 슬롯을 점유.
+ *   - register(): 요청 시작 시 (진입점 인터셉터 before)
+ *   - find()    : 요청 종료 시 같은 스레드의 슬롯 탐색 (ThreadLocal 없이 동일 탐색 경로 재사용)
+ *   - release() : 요청 종료 시 슬롯 반환
+ * 탐색 한도 내에 빈 슬롯이 없으면 등록하지 않고 untracked 카운트만 증가 (요청 처리에는 영향 없음).
+ *
+ * 백그라운드 작업(stack sampler, ActiveRequestMonitor 등)은 getSlots()를 순회하며 isActive()인 슬롯만 읽는다.
+ */
+public final class ActiveRequestRegistry {
+
+    private static final int MAX_PROBE = 64;
+    private static final int DEFAULT_MAX_STACKS = 16;
+
+    private static volatile ActiveRequestRegistry instance;
+
+    private final ActiveRequest[] slots;
+    private final int mask;
+    private final int maxProbe;
+    private final LongAdder untrackedCount = new LongAdder();
+
+    ActiveRequestRegistry(int capacity, int maxStacks) {
+        int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;  // 2의 거듭제곱으로 올림
+        this.slots = new ActiveRequest[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ActiveRequest(i, maxStacks);
+        }
+        this.mask = size - 1;
+        this.maxProbe = Math.min(MAX_PROBE, size);
+    }
+
+    /**
+     * 플러그인 setup 시 1회 초기화. 레지스트리를 사용하는 기능이 모두 꺼져 있으면 호출하지 않음 (getInstance() == null).
+     */
+    public static synchronized ActiveRequestRegistry init(int capacity, int maxStacks) {
+        if (instance == null) {
+            instance = new ActiveRequestRegistry(capacity, maxStacks > 0 ? maxStacks : DEFAULT_MAX_STACKS);
+        }
+        return instance;
+    }
+
+    public static ActiveRequestRegistry getInstance() {
+        return instance;
+    }
+
+    public ActiveRequest register(Trace trace, String requestUri, String uriTemplate) {
+        Thread thread = Thread.currentThread();
+        int start = startIndex(thread);
+        for (int i = 0; i < maxProbe; i++) {
+            ActiveRequest slot = slots[(start + i) & mask];
+            if (slot.tryClaim()) {
+                slot.activate(thread, trace, System.nanoTime(), requestUri, uriTemplate);
+                return slot;
+            }
+        }
+        untrackedCount.increment();
+        return null;
+    }
+
+    public ActiveRequest find(Thread thread) {
+        int start = startIndex(thread);
+        for (int i = 0; i < maxProbe; i++) {
+            ActiveRequest slot = slots[(start + i) & mask];
+            if (slot.getThread() == thread && !slot.isFree()) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    public void release(ActiveRequest slot) {
+        slot.release();
+    }
+
+    public ActiveRequest[] getSlots() {
+        return slots;
+    }
+
+    public LongAdder getUntrackedCount() {
+        return untrackedCount;
+    }
+
+    private int startIndex(Thread thread) {
+        // Fibonacci hashing: identityHashCode 하위 비트 편향 완화
+        return (System.identityHashCode(thread) * 0x9E3779B9) >>> 7;
+    }
+}
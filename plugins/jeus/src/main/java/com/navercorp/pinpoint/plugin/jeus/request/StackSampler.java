@@ -0,0 +1,139 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 요청의 stack 샘플링 (메서드 트레이싱 없이 "어디서 시간을 쓰는지" 파악용).
+ *
+ * 데몬 스레드 1개가 주기적으로 ActiveRequestRegistry 슬롯을 순회하여,
+ * threshold 이상 진행 중인 (샘플링된) 요청 스레드의 stack을 캡처하고 슬롯별 StackSummary에 누적한다.
+ * 요약은 요청 종료 시 진입점 인터셉터가 JEUS_STACK_SUMMARY 어노테이션으로 Span에 기록.
+ *
+ * 부하 제한:
+ *   - CPU 예산: 한 라운드 소요 시간이 cpu.budget(%)를 넘지 않도록 다음 라운드까지의 대기 시간을 늘림
+ *   - 라운드당 최대 MAX_THREADS_PER_ROUND개 스레드, 요청당 max.samples회까지만 캡처
+ *     (다음 라운드는 이전 라운드가 멈춘 슬롯부터 순회 → 앞쪽 슬롯만 반복 샘플링되지 않음)
+ *   - stack은 leaf 쪽 max.depth 프레임만 접어서 보관, 요청당 서로 다른 stack은 고정 개수(ActiveRequest 참조)
+ */
+public final class StackSampler implements Runnable {
+
+    public static final int SUMMARY_MAX_LENGTH = 2048;
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-stack-sampler";
+    static final int MAX_THREADS_PER_ROUND = 32;
+
+    private static final PLogger logger = PLoggerFactory.getLogger(StackSampler.class);
+
+    private final ActiveRequestRegistry registry;
+    private final long thresholdNanos;
+    private final long intervalMillis;
+    private final int maxSamples;
+    private final int maxDepth;
+    private final int cpuBudgetPercent;
+    private int cursor;  // 다음 라운드 시작 슬롯 (샘플러 스레드 전용)
+
+    StackSampler(ActiveRequestRegistry registry, JeusConfiguration config) {
+        this.registry = registry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getJeusStackSamplingThreshold());
+        this.intervalMillis = Math.max(config.getJeusStackSamplingInterval(), 10L);
+        this.maxSamples = Math.max(config.getJeusStackSamplingMaxSamples(), 1);
+        this.maxDepth = Math.max(config.getJeusStackSamplingMaxDepth(), 1);
+        this.cpuBudgetPercent = Math.min(Math.max(config.getJeusStackSamplingCpuBudget(), 1), 100);
+    }
+
+    public static void start(ActiveRequestRegistry registry, JeusConfiguration config) {
+        StackSampler sampler = new StackSampler(registry, config);
+        Thread thread = new Thread(sampler, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("[JEUS-PLUGIN] Stack sampling started. threshold=" + config.getJeusStackSamplingThreshold()
+                + "ms, interval=" + sampler.intervalMillis + "ms, cpuBudget=" + sampler.cpuBudgetPercent + "%");
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long roundStart = System.nanoTime();
+                sampleRound(roundStart);
+                long roundMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - roundStart);
+                // 라운드 소요 시간 / (소요 + 대기) <= budget
+                long budgetSleep = roundMillis * (100 - cpuBudgetPercent) / cpuBudgetPercent;
+                Thread.sleep(Math.max(intervalMillis, budgetSleep));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Stack sampler stopped unexpectedly", t);
+        }
+    }
+
+    void sampleRound(long now) {
+        ActiveRequest[] slots = registry.getSlots();
+        int length = slots.length;
+        int start = cursor;
+        int sampledThreads = 0;
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            ActiveRequest slot = slots[index];
+            if (!slot.isActive() || !slot.isSampled()) {
+                continue;
+            }
+            long generation = slot.getGeneration();
+            Thread thread = slot.getThread();
+            if (thread == null || now - slot.getStartNanos() < thresholdNanos) {
+                continue;
+            }
+            StackSummary summary = slot.getStackSummary();
+            summary.lock();
+            try {
+                if (summary.getTotalSamples() >= maxSamples) {
+                    continue;
+                }
+            } finally {
+                summary.unlock();
+            }
+
+            String folded = fold(thread.getStackTrace());
+            if (folded == null) {
+                continue;
+            }
+            summary.lock();
+            try {
+                // 캡처 중 요청이 끝나고 슬롯이 재사용되었으면 버림
+                if (slot.isActive() && slot.getGeneration() == generation && slot.getThread() == thread) {
+                    summary.add(folded);
+                }
+            } finally {
+                summary.unlock();
+            }
+            if (++sampledThreads >= MAX_THREADS_PER_ROUND) {
+                cursor = (index + 1) % length;
+                return;
+            }
+        }
+    }
+
+    /**
+     * root → leaf 순서로 "클래스.메서드"를 ';'로 연결 (leaf 쪽 maxDepth 프레임만).
+     */
+    private String fold(StackTraceElement[] stack) {
+        if (stack == null || stack.length == 0) {
+            return null;
+        }
+        int depth = Math.min(stack.length, maxDepth);
+        StringBuilder sb = new StringBuilder(depth * 48);
+        for (int i = depth - 1; i >= 0; i--) {
+            StackTraceElement frame = stack[i];
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+            sb.append(frame.getClassName()).append('.').append(frame.getMethodName());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 1건의 stack 샘플 집계 (접힌 stack 문자열 → 샘플 수).
+ *
+ * 고정 크기 배열: 서로 다른 stack은 maxStacks개까지만 보관하고 나머지는 other로 합산.
+ * sampler 스레드 쓰기 / 요청 스레드 초기화·읽기는 호출 측이 lock()/unlock()으로 직렬화.
+ * synchronized 대신 CAS spin: 요청 스레드가 가상 스레드여도 carrier에 pin되지 않음
+ * (임계 구역은 고정 크기 배열 비교와 최대 StackSampler.SUMMARY_MAX_LENGTH 길이의 문자열 생성뿐이라 짧음).
+ */
+final class StackSummary {
+
+    private final AtomicBoolean locked = new AtomicBoolean();
+
+    private final String[] stacks;
+    private final int[] counts;
+    private int size;
+    private int totalSamples;
+    private int otherSamples;
+
+    StackSummary(int maxStacks) {
+        this.stacks = new String[maxStacks];
+        this.counts = new int[maxStacks];
+    }
+
+    void lock() {
+        while (!locked.compareAndSet(false, true)) {
+            Thread.yield();
+        }
+    }
+
+    void unlock() {
+        locked.set(false);
+    }
+
+    void reset() {
+        for (int i = 0; i < size; i++) {
+            stacks[i] = null;
+            counts[i] = 0;
+        }
+        size = 0;
+        totalSamples = 0;
+        otherSamples = 0;
+    }
+
+    void add(String foldedStack) {
+        totalSamples++;
+        for (int i = 0; i < size; i++) {
+            if (stacks[i].equals(foldedStack)) {
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < stacks.length) {
+            stacks[size] = foldedStack;
+            counts[size] = 1;
+            size++;
+        } else {
+            otherSamples++;
+        }
+    }
+
+    int getTotalSamples() {
+        return totalSamples;
+    }
+
+    boolean isEmpty() {
+        return totalSamples == 0;
+    }
+
+    /**
+     * 샘플 수 내림차순 요약. 예)
+     *   samples=12
+     *   8 kr.co.A.service;kr.co.B.query;oracle.jdbc.X.read
+     *   3 kr.co.A.service;kr.co.C.calc
+     *   1 (other)
+     */
+    String format(int maxLength) {
+        // 정렬용 인덱스 (size는 maxStacks 이하로 작음 → 선택 정렬)
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            int best = i;
+            for (int j = i + 1; j < size; j++) {
+                if (counts[order[j]] > counts[order[best]]) {
+                    best = j;
+                }
+            }
+            int tmp = order[i];
+            order[i] = order[best];
+            order[best] = tmp;
+        }
+
+        StringBuilder sb = new StringBuilder(Math.min(maxLength, 512));
+        sb.append("samples=").append(totalSamples);
+        for (int i = 0; i < size; i++) {
+            int idx = order[i];
+            sb.append('\n').append(counts[idx]).append(' ').append(stacks[idx]);
+            if (sb.length() >= maxLength) {
+                sb.setLength(maxLength);
+                return sb.append("...").toString();
+            }
+        }
+        if (otherSamples > 0) {
+            sb.append('\n').append(otherSamples).append(" (other)");
+        }
+        return sb.length() > maxLength ? sb.substring(0, maxLength) + "..." : sb.toString();
+    }
+}
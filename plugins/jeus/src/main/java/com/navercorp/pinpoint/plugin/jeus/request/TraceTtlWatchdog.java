@@ -0,0 +1,158 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trace TTL watchdog.
+ *
+ * 누수된 trace(after()가 호출되지 않은 요청)는 기존에는 같은 스레드의 다음 요청 before()에서야 정리되어,
+ * 그 사이 ActiveTraceRepository에 남아 active thread 수를 왜곡하고 span 메모리를 붙잡았다.
+ * 주기적으로 ActiveRequestRegistry를 순회하여 TTL을 넘긴 trace를 종료시킨다.
+ *
+ * 만료된 trace는 watchdog이 직접 close한다 (유휴 상태의 pooled 스레드에 누수된 trace도 즉시 ActiveTraceRepository에서 해제).
+ * 정상 종료와의 경합은 슬롯 상태 CAS(ACTIVE → REAPING, ActiveRequest 참조)로 한쪽만 close하도록 결정:
+ *   - 소유 스레드가 살아 있음: close 후 슬롯을 REAPED로 두고, 요청 스레드가 after() 또는 다음 인터셉터 진입 시
+ *     (WebActionDispatcherServiceInterceptor.releaseExpiredTrace) close 없이 dispatch scope와 스레드 바인딩만 해제
+ *   - 소유 스레드가 이미 종료됨: 정리할 스레드가 없으므로 close 후 바로 슬롯 반환
+ * 요청 스레드가 아직 실행 중이면 close 이후의 기록은 유실된다 (TTL을 넘긴 요청이므로 허용).
+ */
+public final class TraceTtlWatchdog implements Runnable {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(TraceTtlWatchdog.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-trace-ttl-watchdog";
+
+    private static final LongAdder expiredCount = new LongAdder();  // 요청 스레드가 살아 있는 상태에서 close
+    private static final LongAdder reapedCount = new LongAdder();   // 요청 스레드가 종료된 상태에서 close
+
+    private final ActiveRequestRegistry registry;
+    private final long ttlNanos;
+    private final long intervalMillis;
+
+    TraceTtlWatchdog(ActiveRequestRegistry registry, long ttlMillis, long intervalMillis) {
+        this.registry = registry;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.intervalMillis = intervalMillis;
+    }
+
+    public static void start(ActiveRequestRegistry registry, JeusConfiguration config) {
+        long ttlMillis = config.getJeusTraceTtl();
+        long intervalMillis = Math.max(config.getJeusTraceTtlCheckInterval(), 1000L);
+        Thread thread = new Thread(new TraceTtlWatchdog(registry, ttlMillis, intervalMillis), THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("[JEUS-PLUGIN] Trace TTL watchdog started. ttl=" + ttlMillis + "ms, interval=" + intervalMillis + "ms");
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(intervalMillis);
+                scan(System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            logger.warn("[JEUS-PLUGIN] Trace TTL watchdog stopped unexpectedly", t);
+        }
+    }
+
+    void scan(long now) {
+        for (ActiveRequest slot : registry.getSlots()) {
+            if (!slot.isActive()) {
+                continue;
+            }
+            // trace를 먼저 읽음: activate()가 startNanos → trace 순으로 기록하므로 같은 요청의 시작 시각을 보게 됨
+            Trace trace = slot.getTrace();
+            if (trace == null || now - slot.getStartNanos() < ttlNanos) {
+                continue;
+            }
+            reap(slot, trace);
+        }
+        releaseOrphanedReaped();
+    }
+
+    private void reap(ActiveRequest slot, Trace trace) {
+        if (!slot.tryReap()) {
+            return;  // 종료 선언 경합에서 짐 (요청 스레드가 정상 종료 중)
+        }
+        if (slot.getTrace() != trace) {
+            // 판정 사이에 슬롯이 다른 요청에 재사용됨
+            slot.cancelReap();
+            return;
+        }
+        String uri = slot.getRequestUri();
+        try {
+            trace.close();  // ActiveTraceRepository에서 해제 + span flush
+        } catch (Throwable t) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Close of expired trace failed: " + t.getMessage());
+            }
+        }
+        Thread thread = slot.getThread();
+        if (thread != null && thread.isAlive()) {
+            slot.markReaped();
+            expiredCount.increment();
+            if (logger.isWarnEnabled()) {
+                logger.warn("[JEUS-PLUGIN] Trace exceeded TTL, closed. thread=" + thread.getName() + ", uri=" + uri);
+            }
+        } else {
+            slot.releaseReaped();
+            reapedCount.increment();
+            if (logger.isWarnEnabled()) {
+                logger.warn("[JEUS-PLUGIN] Trace exceeded TTL and its thread has terminated, closed. uri=" + uri);
+            }
+        }
+    }
+
+    /** REAPED 상태로 요청 스레드를 기다리던 중 스레드가 종료된 슬롯 반환 */
+    private void releaseOrphanedReaped() {
+        if (!ActiveRequest.hasReapedSlots()) {
+            return;
+        }
+        for (ActiveRequest slot : registry.getSlots()) {
+            if (slot.isReaped()) {
+                Thread thread = slot.getThread();
+                if (thread == null || !thread.isAlive()) {
+                    slot.releaseReaped();
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 스레드 전용: 현재 스레드의 슬롯을 watchdog이 만료 종료했으면 반환.
+     * 만료 종료된 슬롯이 없으면 volatile 읽기 1회로 null 반환 (인터셉터 진입마다 호출).
+     * 반환된 슬롯은 호출 측이 스레드 바인딩을 해제한 뒤 {@link #completeExpired(ActiveRequest)}로 반환한다.
+     */
+    public static ActiveRequest claimExpired() {
+        if (!ActiveRequest.hasReapedSlots()) {
+            return null;
+        }
+        ActiveRequestRegistry registry = ActiveRequestRegistry.getInstance();
+        if (registry == null) {
+            return null;
+        }
+        ActiveRequest slot = registry.find(Thread.currentThread());
+        return slot != null && slot.isReaped() ? slot : null;
+    }
+
+    public static void completeExpired(ActiveRequest slot) {
+        slot.releaseReaped();
+    }
+
+    public static LongAdder getExpiredCount() {
+        return expiredCount;
+    }
+
+    public static LongAdder getReapedCount() {
+        return reapedCount;
+    }
+}
@@ -0,0 +1,75 @@
+package com.navercorp.pinpoint.plugin.jeus.sampler;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 포화 연동 적응형 샘플러.
+ *
+ * - 평상시: baseline rate (N건 중 1건) counting 샘플링
+ * - 포화 구간(PoolHealthSignal boost): boost rate로 샘플링하되 초당 maxPerSecond건으로 제한
+ *   → 제한 초과분은 baseline 판정으로 fallback (collector 폭주 방지)
+ *
+ * 모든 상태는 Atomic 변수로만 관리 (요청당 CAS/증가 1~2회).
+ */
+public class AdaptiveSampler {
+
+    private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+    private final int baselineRate;
+    private final int boostRate;
+    private final int boostMaxPerSecond;
+
+    private final AtomicLong baselineCounter = new AtomicLong(0);
+    private final AtomicLong boostCounter = new AtomicLong(0);
+
+    // 초 단위 rate limit 윈도우
+    private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowCount = new AtomicInteger(0);
+
+    public AdaptiveSampler(int baselineRate, int boostRate, int boostMaxPerSecond) {
+        this.baselineRate = Math.max(baselineRate, 0);
+        this.boostRate = Math.max(boostRate, 1);
+        this.boostMaxPerSecond = Math.max(boostMaxPerSecond, 0);
+    }
+
+    public static AdaptiveSampler create(JeusConfiguration config) {
+        if (config == null || !config.isJeusAdaptiveSamplingEnabled()) {
+            return null;
+        }
+        return new AdaptiveSampler(config.getJeusAdaptiveSamplingBaselineRate(),
+                config.getJeusAdaptiveSamplingBoostRate(),
+                config.getJeusAdaptiveSamplingBoostMaxPerSecond());
+    }
+
+    public boolean isSampled() {
+        long now = System.nanoTime();
+        if (PoolHealthSignal.isBoosted(now) && boostCounter.getAndIncrement() % boostRate == 0) {
+            if (tryAcquireBoostPermit(now)) {
+                return true;
+            }
+        }
+        return isBaselineSampled();
+    }
+
+    private boolean isBaselineSampled() {
+        // baselineRate=0: 평상시 샘플링 안 함
+        if (baselineRate == 0) {
+            return false;
+        }
+        return baselineCounter.getAndIncrement() % baselineRate == 0;
+    }
+
+    private boolean tryAcquireBoostPermit(long now) {
+        long windowStart = windowStartNanos.get();
+        if (now - windowStart >= ONE_SECOND_NANOS) {
+            // 윈도우 전환: CAS 성공한 스레드만 카운터 리셋 (전환 경계의 소량 초과는 허용)
+            if (windowStartNanos.compareAndSet(windowStart, now)) {
+                windowCount.set(0);
+            }
+        }
+        return windowCount.incrementAndGet() <= boostMaxPerSecond;
+    }
+}
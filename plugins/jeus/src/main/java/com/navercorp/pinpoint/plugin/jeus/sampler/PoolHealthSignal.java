@@ -0,0 +1,60 @@
+package com.navercorp.pinpoint.plugin.jeus.sampler;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 포화 상태 공유 신호 (lock-free).
+ *
+ * JeusDataSourceMonitor가 수집 주기(agent stat interval)마다 active/max를 보고하고,
+ * 임계치 이상이면 boost 종료 시각을 현재+window로 연장한다.
+ * AdaptiveSampler는 요청마다 volatile read 1회 + nanoTime 비교로 boost 여부를 판단.
+ *
+ * 풀이 여러 개여도 하나라도 포화되면 boost (종료 시각은 CAS로 최대값만 반영).
+ */
+public final class PoolHealthSignal {
+
+    private static final AtomicLong boostUntilNanos = new AtomicLong(0);
+
+    private PoolHealthSignal() {
+    }
+
+    public static boolean isEnabled() {
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        return config != null && config.isJeusAdaptiveSamplingEnabled();
+    }
+
+    /**
+     * @param active 현재 사용 중 커넥션 수
+     * @param max    최대 커넥션 수
+     */
+    public static void report(int active, int max) {
+        if (active < 0 || max <= 0) {
+            return;
+        }
+        JeusConfiguration config = JeusConfigurationHolder.getConfiguration();
+        if (config == null || !config.isJeusAdaptiveSamplingEnabled()) {
+            return;
+        }
+        // 정수 연산으로 비율 비교: active * 100 >= max * threshold
+        if ((long) active * 100 < (long) max * config.getJeusAdaptiveSamplingSaturationPercent()) {
+            return;
+        }
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getJeusAdaptiveSamplingBoostWindowMillis());
+        long current = boostUntilNanos.get();
+        while (until - current > 0) {
+            if (boostUntilNanos.compareAndSet(current, until)) {
+                break;
+            }
+            current = boostUntilNanos.get();
+        }
+    }
+
+    public static boolean isBoosted(long nowNanos) {
+        long until = boostUntilNanos.get();
+        return until != 0 && until - nowNanos > 0;
+    }
+}
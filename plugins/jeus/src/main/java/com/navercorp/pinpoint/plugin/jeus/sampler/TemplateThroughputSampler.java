@@ -0,0 +1,164 @@
+package com.navercorp.pinpoint.plugin.jeus.sampler;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * URI 템플릿별 초당 샘플 수 제한 샘플러 (token bucket).
+ *
+ * 전역 profiler.sampling.new.throughput은 agent 전체 한도라 호출이 많은 endpoint 하나가 샘플을 독식한다.
+ * 이 샘플러는 템플릿마다 초당 perTemplate건까지 샘플링하고, 전체 합계는 totalPerSecond건으로 제한한다.
+ *   - 템플릿 한도: endpoint 간 공정성 (드문 endpoint도 호출되면 샘플 확보)
+ *   - 전체 한도 : agent 전체 tracing 비용 상한
+ *
+ * 버킷은 GCRA(이론적 도착 시각) 방식으로 AtomicLong 1개, 판정당 CAS 1회 (락/타이머 없음).
+ *   tat(다음 토큰 도착 시각) - now <= burst 이면 허용, tat = max(tat, now) + interval
+ *   → 1초 분량까지 burst 허용 후 초당 rate로 회복
+ *
+ * 템플릿 토큰은 전체 한도까지 통과한 경우에만 소비: 전체 한도로 거절되면 템플릿 토큰을 반환(tat 되돌림).
+ * 템플릿을 찾지 못한 요청은 요청 URI가 아닌 "_other" 버킷 1개로 합산 (UriTemplateStatMonitor와 동일, 버킷 수 폭증 방지).
+ *
+ * 템플릿 수는 maxTemplates로 제한. 초과 시 새 템플릿 1개당 버킷 EVICTION_SAMPLE개를 훑어 그중 가장 오래 사용되지
+ * 않은 버킷 1개를 제거 (표본 기반 근사 LRU, 전체 복사/정렬 없이 요청 스레드에서 상수 비용).
+ * 제거는 한 스레드만 수행하며(AtomicBoolean), 그동안 다른 스레드는 그대로 진행.
+ */
+public class TemplateThroughputSampler {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(TemplateThroughputSampler.class);
+
+    private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+    static final String OTHER_TEMPLATE = "_other";
+    static final int EVICTION_SAMPLE = 32;
+
+    private final int perTemplatePerSecond;
+    private final int maxTemplates;
+    private final Bucket totalBucket;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    public TemplateThroughputSampler(int perTemplatePerSecond, int totalPerSecond, int maxTemplates) {
+        this.perTemplatePerSecond = Math.max(perTemplatePerSecond, 1);
+        this.maxTemplates = Math.max(maxTemplates, 16);
+        this.totalBucket = new Bucket(Math.max(totalPerSecond, 1), System.nanoTime());
+    }
+
+    public static TemplateThroughputSampler create(JeusConfiguration config) {
+        if (config == null || !config.isJeusTemplateSamplingEnabled()) {
+            return null;
+        }
+        return new TemplateThroughputSampler(config.getJeusTemplateSamplingPerSecond(),
+                config.getJeusTemplateSamplingTotalPerSecond(),
+                config.getJeusTemplateSamplingMaxTemplates());
+    }
+
+    /**
+     * @param uriTemplate URI 템플릿 (null이면 "_other" 버킷)
+     */
+    public boolean isSampled(String uriTemplate) {
+        long now = System.nanoTime();
+        Bucket bucket = getBucket(uriTemplate != null ? uriTemplate : OTHER_TEMPLATE, now);
+        if (!bucket.tryAcquire(now)) {
+            return false;
+        }
+        if (!totalBucket.tryAcquire(now)) {
+            // 전체 한도로 거절: 템플릿 한도를 소모하지 않도록 토큰 반환
+            bucket.refund();
+            return false;
+        }
+        return true;
+    }
+
+    public int getTemplateCount() {
+        return buckets.size();
+    }
+
+    private Bucket getBucket(String uriTemplate, long now) {
+        Bucket bucket = buckets.get(uriTemplate);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxTemplates) {
+            evictLeastRecentlyUsed();
+        }
+        Bucket newBucket = new Bucket(perTemplatePerSecond, now);
+        bucket = buckets.putIfAbsent(uriTemplate, newBucket);
+        return bucket != null ? bucket : newBucket;
+    }
+
+    int templateCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 버킷 EVICTION_SAMPLE개 중 가장 오래 사용되지 않은 1개 제거 ("_other" 버킷은 제외).
+     */
+    private void evictLeastRecentlyUsed() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+            Map.Entry<String, Bucket> oldest = null;
+            for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+                Map.Entry<String, Bucket> entry = iterator.next();
+                if (OTHER_TEMPLATE.equals(entry.getKey())) {
+                    continue;
+                }
+                if (oldest == null || entry.getValue().lastUsedNanos - oldest.getValue().lastUsedNanos < 0) {
+                    oldest = entry;
+                }
+            }
+            if (oldest != null && buckets.remove(oldest.getKey(), oldest.getValue()) && logger.isDebugEnabled()) {
+                logger.debug("[JEUS-PLUGIN] Template sampler evicted idle template: " + oldest.getKey()
+                        + ", size=" + buckets.size());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * GCRA token bucket. tat: 다음 토큰이 도착하는 이론적 시각(nanoTime 기준).
+     */
+    static final class Bucket {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong tat;
+        volatile long lastUsedNanos;
+
+        Bucket(int perSecond, long now) {
+            this.intervalNanos = ONE_SECOND_NANOS / perSecond;
+            this.burstNanos = ONE_SECOND_NANOS - intervalNanos;
+            this.tat = new AtomicLong(now);
+            this.lastUsedNanos = now;
+        }
+
+        boolean tryAcquire(long now) {
+            lastUsedNanos = now;
+            while (true) {
+                long current = tat.get();
+                long base = current - now > 0 ? current : now;
+                if (base - now > burstNanos) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+
+        /** tryAcquire()로 얻은 토큰 1개 반환 (tat를 interval만큼 되돌림) */
+        void refund() {
+            tat.addAndGet(-intervalNanos);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.navercorp.pinpoint.plugin.jeus.sampler;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * URI 패턴별 샘플링 규칙 (신규 요청 대상, 설정 순서대로 첫 일치 규칙 적용).
+ *
+ * profiler.jeus.sampling.rules=패턴:샘플링, ...
+ *   패턴
+ *     /health          requestURI 완전 일치
+ *     /order/*         requestURI prefix 일치
+ *     *.xfdl           requestURI suffix 일치
+ *     template:/ORD/save   URI 템플릿(target/method, business_id/submit_id) 일치 (* prefix/suffix 동일 적용)
+ *                          템플릿 파라미터가 없는 요청은 requestURI로 비교
+ *     *                모든 요청 (기본 규칙, 마지막에 둘 것)
+ *   샘플링
+ *     N%  : 백분율 (0~100)
+ *     N   : N건 중 1건 (0 = 샘플링 안 함)
+ *   예) /health:0, *.xfdl:0, template:/ORD/*:100%, *:20
+ *
+ * 판정 결과는 전역 샘플러(profiler.sampling.rate) 위에서 동작하므로, 100% 규칙이 의미를 가지려면
+ * 전역 rate=1로 두고 기본 규칙(*)으로 평상시 비율을 지정한다.
+ *
+ * 설정 로드 시 1회 컴파일(JeusConfiguration 생성 시점, 요청 경로 밖). 판정은 규칙 순회 + 문자열 비교 + 카운터 증가만 수행.
+ * 규칙별 hit/sampled 카운터는 규칙 문자열 기준으로 유지되어 설정 재적용 후에도 누적된다.
+ */
+public final class UriSamplingRules {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(UriSamplingRules.class);
+
+    public static final int NO_MATCH = 0;
+    public static final int SAMPLE = 1;
+    public static final int SKIP = 2;
+
+    private static final String TEMPLATE_PREFIX = "template:";
+
+    public static final UriSamplingRules EMPTY = new UriSamplingRules(Collections.<Rule>emptyList());
+
+    // 규칙 문자열 → 카운터 (설정 재적용 시에도 같은 규칙은 같은 카운터 사용)
+    private static final ConcurrentHashMap<String, Counters> countersBySpec = new ConcurrentHashMap<String, Counters>();
+
+    private final Rule[] rules;
+    private final boolean hasTemplateRule;
+
+    private UriSamplingRules(List<Rule> rules) {
+        this.rules = rules.toArray(new Rule[0]);
+        boolean template = false;
+        for (Rule rule : this.rules) {
+            template |= rule.template;
+        }
+        this.hasTemplateRule = template;
+    }
+
+    public static UriSamplingRules parse(List<String> specs) {
+        if (specs == null || specs.isEmpty()) {
+            return EMPTY;
+        }
+        List<Rule> rules = new ArrayList<Rule>(specs.size());
+        for (String spec : specs) {
+            Rule rule = Rule.parse(spec.trim());
+            if (rule == null) {
+                logger.warn("[JEUS-PLUGIN] Invalid sampling rule ignored: " + spec);
+                continue;
+            }
+            rules.add(rule);
+        }
+        return rules.isEmpty() ? EMPTY : new UriSamplingRules(rules);
+    }
+
+    public boolean isEmpty() {
+        return rules.length == 0;
+    }
+
+    /** template 규칙이 있을 때만 호출 측에서 URI 템플릿 계산 (없으면 파라미터 조회 생략) */
+    public boolean hasTemplateRule() {
+        return hasTemplateRule;
+    }
+
+    /**
+     * @param requestURI  요청 URI (null 가능)
+     * @param uriTemplate URI 템플릿 (template 규칙이 없으면 null 전달)
+     * @return NO_MATCH / SAMPLE / SKIP
+     */
+    public int decide(String requestURI, String uriTemplate) {
+        for (Rule rule : rules) {
+            String value = rule.template ? uriTemplate : requestURI;
+            if (value != null && rule.matches(value)) {
+                return rule.decide() ? SAMPLE : SKIP;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    public List<Rule> getRules() {
+        List<Rule> list = new ArrayList<Rule>(rules.length);
+        Collections.addAll(list, rules);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Rule rule : rules) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(rule.spec);
+        }
+        return sb.toString();
+    }
+
+    static final class Counters {
+        final LongAdder hit = new LongAdder();
+        final LongAdder sampled = new LongAdder();
+        final AtomicLong sequence = new AtomicLong();
+    }
+
+    public static final class Rule {
+        private static final int EXACT = 0;
+        private static final int PREFIX = 1;
+        private static final int SUFFIX = 2;
+        private static final int ANY = 3;
+
+        private final String spec;
+        private final boolean template;
+        private final int matchType;
+        private final String pattern;
+        private final boolean percent;
+        private final int value;  // percent: 0~100, rate: N건 중 1건
+        private final Counters counters;
+
+        private Rule(String spec, boolean template, int matchType, String pattern, boolean percent, int value) {
+            this.spec = spec;
+            this.template = template;
+            this.matchType = matchType;
+            this.pattern = pattern;
+            this.percent = percent;
+            this.value = value;
+            Counters counters = countersBySpec.get(spec);
+            if (counters == null) {
+                Counters newCounters = new Counters();
+                counters = countersBySpec.putIfAbsent(spec, newCounters);
+                if (counters == null) {
+                    counters = newCounters;
+                }
+            }
+            this.counters = counters;
+        }
+
+        static Rule parse(String spec) {
+            int colon = spec.lastIndexOf(':');
+            if (colon <= 0 || colon == spec.length() - 1) {
+                return null;
+            }
+            String target = spec.substring(0, colon).trim();
+            String sampling = spec.substring(colon + 1).trim();
+
+            boolean template = target.startsWith(TEMPLATE_PREFIX);
+            if (template) {
+                target = target.substring(TEMPLATE_PREFIX.length()).trim();
+            }
+            if (target.isEmpty()) {
+                return null;
+            }
+
+            int matchType;
+            String pattern;
+            if (target.equals("*")) {
+                matchType = ANY;
+                pattern = "";
+            } else if (target.endsWith("*")) {
+                matchType = PREFIX;
+                pattern = target.substring(0, target.length() - 1);
+            } else if (target.startsWith("*")) {
+                matchType = SUFFIX;
+                pattern = target.substring(1);
+            } else {
+                matchType = EXACT;
+                pattern = target;
+            }
+
+            boolean percent = sampling.endsWith("%");
+            int value;
+            try {
+                value = Integer.parseInt(percent ? sampling.substring(0, sampling.length() - 1).trim() : sampling);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (value < 0 || (percent && value > 100)) {
+                return null;
+            }
+            return new Rule(spec, template, matchType, pattern, percent, value);
+        }
+
+        boolean matches(String value) {
+            switch (matchType) {
+                case EXACT:
+                    return value.equals(pattern);
+                case PREFIX:
+                    return value.startsWith(pattern);
+                case SUFFIX:
+                    return value.endsWith(pattern);
+                default:
+                    return true;
+            }
+        }
+
+        boolean decide() {
+            counters.hit.increment();
+            boolean sampled;
+            if (value == 0) {
+                sampled = false;
+            } else if (percent) {
+                // 카운터 기반 균등 분산: n*value/100의 정수부가 증가하는 순번만 샘플링 (난수 미사용)
+                long n = counters.sequence.getAndIncrement();
+                sampled = value == 100 || (n + 1) * value / 100 > n * value / 100;
+            } else {
+                sampled = value == 1 || counters.sequence.getAndIncrement() % value == 0;
+            }
+            if (sampled) {
+                counters.sampled.increment();
+            }
+            return sampled;
+        }
+
+        public String getSpec() {
+            return spec;
+        }
+
+        public LongAdder getHitCounter() {
+            return counters.hit;
+        }
+
+        public LongAdder getSampledCounter() {
+            return counters.sampled;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.navercorp.pinpoint.plugin.jeus.session;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 웹 모듈(컨텍스트)별 세션 집계.
+ *
+ * metric: custom/jeus/session/{컨텍스트}/{active|created|invalidated|estimated.bytes}
+ */
+final class ContextSessionStats {
+
+    private final String contextName;
+    private final AtomicLong active = new AtomicLong();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    ContextSessionStats(String contextName) {
+        this.contextName = contextName;
+    }
+
+    void registerMetrics(CustomMetricRegistry registry) {
+        String prefix = "session/" + contextName + "/";
+        JeusCustomMetrics.registerGauge(registry, prefix + "active", active);
+        JeusCustomMetrics.registerCounter(registry, prefix + "created", created);
+        JeusCustomMetrics.registerCounter(registry, prefix + "invalidated", invalidated);
+        JeusCustomMetrics.registerGauge(registry, prefix + "estimated.bytes", estimatedBytes);
+    }
+
+    void onCreated() {
+        created.increment();
+        active.incrementAndGet();
+    }
+
+    void onInvalidated(long releasedBytes) {
+        invalidated.increment();
+        active.decrementAndGet();
+        addEstimatedBytes(-releasedBytes);
+    }
+
+    void addEstimatedBytes(long delta) {
+        if (delta != 0L) {
+            estimatedBytes.addAndGet(delta);
+        }
+    }
+
+    String getContextName() {
+        return contextName;
+    }
+
+    long getActive() {
+        return active.get();
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes.get();
+    }
+}
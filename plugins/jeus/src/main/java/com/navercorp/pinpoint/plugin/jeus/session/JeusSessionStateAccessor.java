@@ -0,0 +1,13 @@
+package com.navercorp.pinpoint.plugin.jeus.session;
+
+/**
+ * HttpSession 구현 클래스에 주입되는 추적 상태 필드 accessor.
+ *
+ * 세션별 상태(소속 컨텍스트, 추정 크기)를 세션 인스턴스에 보관하여 static Map 조회 없이 필드 read로 처리.
+ * 세션이 GC되면 상태도 함께 수거됨.
+ */
+public interface JeusSessionStateAccessor {
+    void _$PINPOINT$_setJeusSessionState(SessionState state);
+
+    SessionState _$PINPOINT$_getJeusSessionState();
+}
@@ -0,0 +1,346 @@
+package com.navercorp.pinpoint.plugin.jeus.session;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfiguration;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JEUS HTTP 세션 수/추정 메모리 모니터.
+ *
+ * 세션 비대화 → old gen 압박 → 긴 GC pause 패턴을 조기에 보기 위한 지표:
+ *   - 컨텍스트별 active/created/invalidated 세션 수
+ *   - 컨텍스트별 속성 payload 추정 크기 (표본 추출 + 얕은 크기 추정, 객체 그래프를 순회하지 않음)
+ *   - 추정 크기 상위 LARGEST_SIZE개 세션 요약 (요청 시 덤프)
+ *
+ * 표본 추출: 세션마다 처음 보는 속성은 항상, 같은 속성의 재설정은 sample.rate번에 1번만 크기 추정.
+ * 추정값은 마지막 표본 기준이므로 실제와 차이가 있으나 컨텍스트 간 비교/증가 추세 확인에는 충분.
+ *
+ * 덤프: profiler.jeus.session.dump.file 지정 시 "{파일}.trigger" 파일을 만들면 다음 확인 주기(5초)에
+ * 덤프 파일을 갱신하고 trigger 파일을 삭제 (예: touch /tmp/jeus-session.txt.trigger).
+ */
+public final class SessionMonitor {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(SessionMonitor.class);
+
+    private static final String THREAD_NAME = "Pinpoint-jeus-session-dump";
+    private static final long TRIGGER_CHECK_MILLIS = 5000L;
+
+    private static final int MAX_CONTEXTS = 128;
+    private static final String OTHER_CONTEXT = "_other";
+    private static final String UNKNOWN_CONTEXT = "_unknown";
+    private static final int LARGEST_SIZE = 10;
+
+    private static final ConcurrentHashMap<String, ContextSessionStats> contexts =
+            new ConcurrentHashMap<String, ContextSessionStats>();
+
+    // 세션 클래스별 getServletContext/getId 메서드 (String 키: ClassLoader 누수 방지)
+    private static final ConcurrentHashMap<String, Method[]> sessionMethodCache = new ConcurrentHashMap<String, Method[]>();
+    private static final ConcurrentHashMap<String, Method> contextPathMethodCache = new ConcurrentHashMap<String, Method>();
+
+    // 세션 상태 최초 생성은 세션당 1회뿐인 slow path → 단일 lock (세션 객체 자체로 synchronized 하지 않음)
+    private static final Object stateLock = new Object();
+
+    // 추정 크기 상위 세션 (largest 모니터로 보호, 속성 표본 추출 시에만 갱신)
+    private static final SessionState[] largest = new SessionState[LARGEST_SIZE];
+
+    private static volatile CustomMetricRegistry metricRegistry;
+    private static volatile int sampleRate = 10;
+
+    private SessionMonitor() {
+    }
+
+    public static void start(JeusConfiguration config) {
+        sampleRate = Math.max(config.getJeusSessionSampleRate(), 1);
+        String dumpPath = config.getJeusSessionDumpFile();
+        if (dumpPath.isEmpty()) {
+            return;
+        }
+        final Path dumpFile = Paths.get(dumpPath).toAbsolutePath();
+        final Path triggerFile = dumpFile.resolveSibling(dumpFile.getFileName() + ".trigger");
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                watchTrigger(dumpFile, triggerFile);
+            }
+        }, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("[JEUS-SESSION] Session dump on demand enabled. trigger=" + triggerFile);
+    }
+
+    /**
+     * CustomMetricRegistry는 인터셉터 생성 시점에만 주입되므로 세션 인터셉터 생성자에서 호출.
+     * 이미 만들어진 컨텍스트 metric도 이 시점에 등록.
+     */
+    public static void setMetricRegistry(CustomMetricRegistry registry) {
+        if (registry == null || metricRegistry != null) {
+            return;
+        }
+        metricRegistry = registry;
+        for (ContextSessionStats stats : contexts.values()) {
+            stats.registerMetrics(registry);
+        }
+    }
+
+    public static void onCreated(Object session) {
+        stateOf(session);
+    }
+
+    public static void onSetAttribute(Object session, String name, Object value) {
+        if (name == null) {
+            return;
+        }
+        if (value == null) {
+            onRemoveAttribute(session, name);
+            return;
+        }
+        SessionState state = stateOf(session);
+        if (state == null || !state.shouldSample(name, sampleRate)) {
+            return;
+        }
+        long delta = state.updateAttribute(name, ShallowSizeEstimator.estimate(value));
+        if (delta != 0L) {
+            state.getStats().addEstimatedBytes(delta);
+            offerLargest(state);
+        }
+    }
+
+    public static void onRemoveAttribute(Object session, String name) {
+        if (name == null) {
+            return;
+        }
+        SessionState state = stateOf(session);
+        if (state == null) {
+            return;
+        }
+        long delta = state.removeAttribute(name);
+        state.getStats().addEstimatedBytes(delta);
+    }
+
+    public static void onInvalidate(Object session) {
+        SessionState state = stateOf(session);
+        if (state == null) {
+            return;
+        }
+        long releasedBytes = state.invalidate();
+        if (releasedBytes < 0) {
+            return;  // 이미 무효화 처리됨 (invalidate 내부에서 다른 계측 메서드 호출 등)
+        }
+        state.getStats().onInvalidated(releasedBytes);
+        removeLargest(state);
+    }
+
+    private static SessionState stateOf(Object session) {
+        if (!(session instanceof JeusSessionStateAccessor)) {
+            return null;
+        }
+        JeusSessionStateAccessor accessor = (JeusSessionStateAccessor) session;
+        SessionState state = accessor._$PINPOINT$_getJeusSessionState();
+        if (state != null) {
+            return state;
+        }
+        synchronized (stateLock) {
+            state = accessor._$PINPOINT$_getJeusSessionState();
+            if (state != null) {
+                return state;
+            }
+            Method[] methods = sessionMethods(session.getClass());
+            String contextName;
+            if (methods[0] == null) {
+                // getServletContext() 미지원 세션 클래스: 컨텍스트 구분 없이 집계 (매 이벤트 재시도 방지)
+                contextName = UNKNOWN_CONTEXT;
+            } else {
+                String contextPath = invokeContextPath(methods[0], session);
+                if (contextPath == null) {
+                    // 생성자 시점 등 컨텍스트가 아직 연결되지 않은 경우 → 다음 이벤트에서 재시도
+                    return null;
+                }
+                contextName = contextName(contextPath);
+            }
+            ContextSessionStats stats = statsOf(contextName);
+            state = new SessionState(stats, invokeString(methods[1], session));
+            accessor._$PINPOINT$_setJeusSessionState(state);
+            stats.onCreated();
+            return state;
+        }
+    }
+
+    private static ContextSessionStats statsOf(String name) {
+        ContextSessionStats stats = contexts.get(name);
+        if (stats != null) {
+            return stats;
+        }
+        if (contexts.size() >= MAX_CONTEXTS) {
+            name = OTHER_CONTEXT;
+            stats = contexts.get(name);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        stats = new ContextSessionStats(name);
+        ContextSessionStats previous = contexts.putIfAbsent(name, stats);
+        if (previous != null) {
+            return previous;
+        }
+        CustomMetricRegistry registry = metricRegistry;
+        if (registry != null) {
+            stats.registerMetrics(registry);
+        }
+        logger.info("[JEUS-SESSION] Session monitoring started for context: " + name);
+        return stats;
+    }
+
+    /** "/his" → "his", "" → "ROOT" (metric 이름 구분자 '/' 제거) */
+    private static String contextName(String contextPath) {
+        String name = contextPath.startsWith("/") ? contextPath.substring(1) : contextPath;
+        return name.isEmpty() ? "ROOT" : name.replace('/', '_');
+    }
+
+    private static void offerLargest(SessionState state) {
+        long bytes = state.getEstimatedBytes();
+        synchronized (largest) {
+            int minIndex = 0;
+            for (int i = 0; i < LARGEST_SIZE; i++) {
+                SessionState entry = largest[i];
+                if (entry == state) {
+                    return;  // 이미 포함 (크기는 덤프 시점에 다시 읽음)
+                }
+                if (entry == null) {
+                    largest[i] = state;
+                    return;
+                }
+                if (entry.getEstimatedBytes() < largest[minIndex].getEstimatedBytes()) {
+                    minIndex = i;
+                }
+            }
+            if (bytes > largest[minIndex].getEstimatedBytes()) {
+                largest[minIndex] = state;
+            }
+        }
+    }
+
+    private static void removeLargest(SessionState state) {
+        synchronized (largest) {
+            for (int i = 0; i < LARGEST_SIZE; i++) {
+                if (largest[i] == state) {
+                    largest[i] = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    public static String dump() {
+        StringBuilder sb = new StringBuilder(2048);
+        sb.append("# JEUS sessions ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()))
+                .append(" (estimated bytes: sampled shallow size)\n");
+        for (ContextSessionStats stats : contexts.values()) {
+            sb.append(stats.getContextName()).append(" active=").append(stats.getActive())
+                    .append(" estimatedBytes=").append(stats.getEstimatedBytes()).append('\n');
+        }
+        sb.append("\n# largest sessions\n");
+        SessionState[] snapshot;
+        synchronized (largest) {
+            snapshot = largest.clone();
+        }
+        for (SessionState state : snapshot) {
+            if (state != null) {
+                sb.append(state.summary()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void watchTrigger(Path dumpFile, Path triggerFile) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(TRIGGER_CHECK_MILLIS);
+                if (!Files.exists(triggerFile)) {
+                    continue;
+                }
+                try {
+                    Files.write(dumpFile, dump().getBytes(StandardCharsets.UTF_8));
+                    logger.info("[JEUS-SESSION] Session dump written. file=" + dumpFile);
+                } catch (IOException e) {
+                    logger.warn("[JEUS-SESSION] Failed to write session dump. file=" + dumpFile + ", error=" + e.getMessage());
+                } finally {
+                    try {
+                        Files.deleteIfExists(triggerFile);
+                    } catch (IOException ignore) {
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Method[] sessionMethods(Class<?> sessionClass) {
+        String key = sessionClass.getName();
+        Method[] methods = sessionMethodCache.get(key);
+        if (methods == null) {
+            methods = new Method[]{findMethod(sessionClass, "getServletContext"), findMethod(sessionClass, "getId")};
+            sessionMethodCache.put(key, methods);
+        }
+        return methods;
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            Method method = type.getMethod(name);
+            method.setAccessible(true);
+            return method;
+        } catch (Exception e) {
+            logger.warn("[JEUS-SESSION] " + name + "() not found in " + type.getName());
+            return null;
+        }
+    }
+
+    private static String invokeContextPath(Method getServletContext, Object session) {
+        if (getServletContext == null) {
+            return null;
+        }
+        try {
+            Object servletContext = getServletContext.invoke(session);
+            if (servletContext == null) {
+                return null;
+            }
+            Class<?> contextClass = servletContext.getClass();
+            Method getContextPath = contextPathMethodCache.get(contextClass.getName());
+            if (getContextPath == null) {
+                getContextPath = findMethod(contextClass, "getContextPath");
+                if (getContextPath == null) {
+                    return null;
+                }
+                contextPathMethodCache.put(contextClass.getName(), getContextPath);
+            }
+            Object path = getContextPath.invoke(servletContext);
+            return path instanceof String ? (String) path : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String invokeString(Method method, Object target) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            Object value = method.invoke(target);
+            return value instanceof String ? (String) value : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.navercorp.pinpoint.plugin.jeus.session;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 세션 1개의 추적 상태 (세션 인스턴스의 주입 필드에 보관).
+ *
+ * 속성별 추정 크기는 표본 추출된 속성만 보관하며 세션당 MAX_TRACKED_ATTRIBUTES개로 제한.
+ * 세션 객체 자체는 참조하지 않으므로 largest-session 표에 남아 있어도 세션 GC를 막지 않음.
+ */
+public final class SessionState {
+
+    static final int MAX_TRACKED_ATTRIBUTES = 64;
+
+    private final ContextSessionStats stats;
+    private final String sessionId;
+    private final long createdTimeMillis;
+
+    // 아래 필드는 this 모니터로 보호 (세션 속성 변경은 세션당 동시성이 낮음)
+    private final Map<String, Long> attributeSizes = new HashMap<String, Long>();
+    private long estimatedBytes;
+    private int setCount;
+    private boolean invalidated;
+
+    SessionState(ContextSessionStats stats, String sessionId) {
+        this.stats = stats;
+        this.sessionId = sessionId;
+        this.createdTimeMillis = System.currentTimeMillis();
+    }
+
+    ContextSessionStats getStats() {
+        return stats;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    synchronized long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * 이번 setAttribute를 표본 추출할지 결정. 처음 보는 속성은 항상, 그 외는 sampleRate번에 1번.
+     */
+    synchronized boolean shouldSample(String name, int sampleRate) {
+        if (invalidated) {
+            return false;
+        }
+        if (!attributeSizes.containsKey(name)) {
+            return attributeSizes.size() < MAX_TRACKED_ATTRIBUTES;
+        }
+        return ++setCount % sampleRate == 0;
+    }
+
+    /** @return 세션 추정 크기 변화량 */
+    synchronized long updateAttribute(String name, long size) {
+        if (invalidated) {
+            return 0L;
+        }
+        Long previous = attributeSizes.put(name, size);
+        long delta = size - (previous != null ? previous : 0L);
+        estimatedBytes += delta;
+        return delta;
+    }
+
+    /** @return 세션 추정 크기 변화량 (추적하지 않던 속성이면 0) */
+    synchronized long removeAttribute(String name) {
+        if (invalidated) {
+            return 0L;
+        }
+        Long previous = attributeSizes.remove(name);
+        if (previous == null) {
+            return 0L;
+        }
+        estimatedBytes -= previous;
+        return -previous;
+    }
+
+    /** @return 처음 무효화된 경우 해제할 추정 크기, 이미 무효화되었으면 -1 */
+    synchronized long invalidate() {
+        if (invalidated) {
+            return -1L;
+        }
+        invalidated = true;
+        long bytes = estimatedBytes;
+        attributeSizes.clear();
+        estimatedBytes = 0L;
+        return bytes;
+    }
+
+    synchronized String summary() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(estimatedBytes).append("B id=").append(sessionId)
+                .append(" context=").append(stats.getContextName())
+                .append(" ageSec=").append((System.currentTimeMillis() - createdTimeMillis) / 1000L)
+                .append(" attributes=");
+        // 큰 속성 순 상위 5개 (표본 추정치)
+        Map.Entry<?, ?>[] entries = attributeSizes.entrySet().toArray(new Map.Entry<?, ?>[0]);
+        Arrays.sort(entries, new Comparator<Map.Entry<?, ?>>() {
+            @Override
+            public int compare(Map.Entry<?, ?> o1, Map.Entry<?, ?> o2) {
+                return Long.compare((Long) o2.getValue(), (Long) o1.getValue());
+            }
+        });
+        for (int i = 0; i < entries.length && i < 5; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(entries[i].getKey()).append('=').append(entries[i].getValue()).append('B');
+        }
+        return sb.toString();
+    }
+}
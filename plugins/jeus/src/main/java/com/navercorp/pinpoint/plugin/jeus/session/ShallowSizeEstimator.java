@@ -0,0 +1,98 @@
+package com.navercorp.pinpoint.plugin.jeus.session;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 속성 값의 얕은(shallow) 크기 추정 (64bit JVM, compressed oops 기준 근사).
+ *
+ * 객체 그래프를 따라가지 않음: 문자열/배열은 길이, 컬렉션/Map은 원소 수 × 엔트리 오버헤드,
+ * 그 외 객체는 클래스의 인스턴스 필드 크기 합 (클래스별 캐시).
+ * 절대값보다 컨텍스트/세션 간 상대 비교와 증가 추세 확인 용도.
+ */
+final class ShallowSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int COLLECTION_ENTRY = 32;  // 노드 객체 + 원소 참조 (원소 자체는 미포함)
+    private static final int MAP_ENTRY = 48;
+
+    private static final int MAX_CACHED_CLASSES = 1024;
+
+    // 클래스명 키: Class 강참조로 인한 ClassLoader 누수 방지 (동명 클래스는 크기 동일로 간주)
+    private static final ConcurrentHashMap<String, Integer> instanceSizeCache = new ConcurrentHashMap<String, Integer>();
+
+    private ShallowSizeEstimator() {
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            // String 객체 + char[]/byte[] (JDK 버전에 따라 다르므로 2바이트 문자 기준 상한)
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + 2L * ((String) value).length());
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return align(ARRAY_HEADER + (long) Array.getLength(value) * componentSize(type.getComponentType()));
+        }
+        if (value instanceof Collection) {
+            return align(OBJECT_HEADER + 36) + (long) ((Collection<?>) value).size() * COLLECTION_ENTRY;
+        }
+        if (value instanceof Map) {
+            return align(OBJECT_HEADER + 36) + (long) ((Map<?, ?>) value).size() * MAP_ENTRY;
+        }
+        return instanceSize(type);
+    }
+
+    private static int instanceSize(Class<?> type) {
+        String name = type.getName();
+        Integer cached = instanceSizeCache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        int size = OBJECT_HEADER;
+        try {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += componentSize(field.getType());
+                    }
+                }
+            }
+        } catch (Throwable ignore) {
+            // SecurityManager/클래스 로딩 실패: 헤더 크기만 사용
+        }
+        size = (int) align(size);
+        if (instanceSizeCache.size() < MAX_CACHED_CLASSES) {
+            instanceSizeCache.put(name, size);
+        }
+        return size;
+    }
+
+    private static int componentSize(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE;
+        }
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
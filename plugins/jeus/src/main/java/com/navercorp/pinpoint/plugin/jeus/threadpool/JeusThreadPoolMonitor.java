@@ -0,0 +1,287 @@
+package com.navercorp.pinpoint.plugin.jeus.threadpool;
+
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+import com.navercorp.pinpoint.plugin.jeus.metric.JeusCustomMetrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JEUS 웹 엔진 워커 스레드 풀 모니터 (JeusDataSourceMonitor의 스레드 풀 버전).
+ *
+ * 장애 시 DB 커넥션 풀보다 워커 스레드 풀 고갈이 먼저 나타나므로 active/idle/max/queue를 custom metric으로 노출.
+ * 풀 생성 시점(생성자 인터셉터)에 1회 메서드를 찾아 풀 인스턴스에 bind된 MethodHandle로 보관하고,
+ * agent stat 수집 주기마다 LongGauge.getValue()에서 바로 호출 (리플렉션 조회/박싱 없음).
+ *
+ * 메서드 이름은 JEUS 버전마다 다를 수 있어 후보를 순서대로 찾음 (java.util.concurrent.ThreadPoolExecutor 호환 포함):
+ *   active : getActiveCount, getActiveThreadCount
+ *   current: getPoolSize, getCurrentPoolSize, getCurrentThreadCount  (idle = current - active)
+ *   max    : getMaximumPoolSize, getMaxPoolSize, getMaxThreadCount
+ *   queue  : getQueueSize, getWaitingQueueSize, getQueue().size()
+ *   queue 대기시간(ms, 노출하는 풀만): getAverageQueueWaitTime, getQueueWaitTime
+ * 찾지 못한 항목은 metric을 등록하지 않음.
+ *
+ * metric 이름: custom/jeus/threadpool/{풀 이름}/{active|idle|max|queue|queue.wait.ms}
+ *
+ * CustomMetricRegistry는 등록 해제를 지원하지 않으므로 gauge는 풀 이름당 1회만 등록하고 이름별 slot을 통해 값을 읽는다.
+ * 재배포 등으로 같은 이름의 풀이 다시 생성되면 slot의 모니터를 새 풀로 교체 (이전 풀은 gauge에서 더 이상 참조되지 않음).
+ * slot은 모니터를 WeakReference로 보관하므로 교체 없이 폐기된 풀도 GC되며, 이후 gauge 값은 -1.
+ */
+public class JeusThreadPoolMonitor {
+
+    private static final PLogger logger = PLoggerFactory.getLogger(JeusThreadPoolMonitor.class);
+
+    private static final MethodType LONG_RETURN = MethodType.methodType(long.class);
+
+    private static final int ACTIVE = 0;
+    private static final int IDLE = 1;
+    private static final int MAX = 2;
+    private static final int QUEUE = 3;
+    private static final int QUEUE_WAIT = 4;
+
+    // 풀 이름 → 현재 모니터 slot (gauge는 slot만 참조)
+    private static final ConcurrentHashMap<String, PoolSlot> slots = new ConcurrentHashMap<String, PoolSlot>();
+
+    private final String poolName;
+    private final MethodHandle active;
+    private final MethodHandle current;
+    private final MethodHandle max;
+    private final MethodHandle queue;
+    private final MethodHandle queueWait;
+
+    private JeusThreadPoolMonitor(String poolName, MethodHandle active, MethodHandle current, MethodHandle max,
+            MethodHandle queue, MethodHandle queueWait) {
+        this.poolName = poolName;
+        this.active = active;
+        this.current = current;
+        this.max = max;
+        this.queue = queue;
+        this.queueWait = queueWait;
+    }
+
+    /**
+     * @return active 수를 조회할 수 없는 풀(지원하지 않는 JEUS 버전)이면 null
+     */
+    public static JeusThreadPoolMonitor create(Object pool) {
+        Class<?> poolClass = pool.getClass();
+        MethodHandle active = bind(pool, "getActiveCount", "getActiveThreadCount");
+        if (active == null) {
+            logger.warn("[JEUS-THREADPOOL] Active count method not found. Check JEUS version compatibility. class="
+                    + poolClass.getName());
+            return null;
+        }
+        MethodHandle current = bind(pool, "getPoolSize", "getCurrentPoolSize", "getCurrentThreadCount");
+        MethodHandle max = bind(pool, "getMaximumPoolSize", "getMaxPoolSize", "getMaxThreadCount");
+        MethodHandle queue = bind(pool, "getQueueSize", "getWaitingQueueSize");
+        if (queue == null) {
+            queue = bindQueueSize(pool);
+        }
+        MethodHandle queueWait = bind(pool, "getAverageQueueWaitTime", "getQueueWaitTime");
+
+        String poolName = resolveName(pool);
+        logger.info("[JEUS-THREADPOOL] Initialized monitor for: " + poolName + " (" + poolClass.getName()
+                + ") current=" + (current != null) + ", max=" + (max != null) + ", queue=" + (queue != null)
+                + ", queueWait=" + (queueWait != null));
+        return new JeusThreadPoolMonitor(poolName, active, current, max, queue, queueWait);
+    }
+
+    /**
+     * 같은 이름으로 등록된 이전 풀이 있으면 교체하고, 아직 등록되지 않은 metric만 registry에 추가.
+     * 호출자(생성자 인터셉터)가 직렬화하므로 교체 자체는 동기화하지 않음.
+     */
+    public void registerMetrics(CustomMetricRegistry registry) {
+        PoolSlot slot = slots.get(poolName);
+        if (slot == null) {
+            slot = new PoolSlot();
+            slots.put(poolName, slot);
+        }
+        if (slot.replace(this)) {
+            logger.info("[JEUS-THREADPOOL] Replaced monitor for: " + poolName + " (previous pool released)");
+        }
+
+        String prefix = JeusCustomMetrics.PREFIX + "threadpool/" + poolName + "/";
+        register(registry, prefix + "active", slot, ACTIVE, active);
+        register(registry, prefix + "idle", slot, IDLE, current);
+        register(registry, prefix + "max", slot, MAX, max);
+        register(registry, prefix + "queue", slot, QUEUE, queue);
+        register(registry, prefix + "queue.wait.ms", slot, QUEUE_WAIT, queueWait);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    private static void register(CustomMetricRegistry registry, String name, PoolSlot slot, int kind,
+            MethodHandle handle) {
+        if (handle != null) {
+            JeusCustomMetrics.registerGauge(registry, new SlotGauge(name, slot, kind));
+        }
+    }
+
+    private long value(int kind) {
+        switch (kind) {
+            case ACTIVE:
+                return read(active);
+            case IDLE:
+                return idle();
+            case MAX:
+                return read(max);
+            case QUEUE:
+                return read(queue);
+            case QUEUE_WAIT:
+                return read(queueWait);
+            default:
+                return -1L;
+        }
+    }
+
+    private long idle() {
+        long currentSize = read(current);
+        long activeCount = read(active);
+        if (currentSize < 0 || activeCount < 0) {
+            return -1L;
+        }
+        return Math.max(currentSize - activeCount, 0L);
+    }
+
+    private static long read(MethodHandle handle) {
+        if (handle == null) {
+            // 같은 이름의 이전 풀에는 있던 항목이 교체된 풀에는 없는 경우
+            return -1L;
+        }
+        try {
+            return (long) handle.invokeExact();
+        } catch (Throwable t) {
+            // 수집 실패 시 -1 (DataSourceMonitor와 동일한 규칙)
+            return -1L;
+        }
+    }
+
+    private static MethodHandle bind(Object pool, String... names) {
+        for (String name : names) {
+            Method method = findMethod(pool.getClass(), name);
+            if (method == null) {
+                continue;
+            }
+            Class<?> type = method.getReturnType();
+            if (type != int.class && type != long.class) {
+                continue;
+            }
+            try {
+                return MethodHandles.publicLookup().unreflect(method).bindTo(pool).asType(LONG_RETURN);
+            } catch (Exception e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("[JEUS-THREADPOOL] Failed to bind " + name + ": " + e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    /** getQueue().size() 합성 핸들 */
+    private static MethodHandle bindQueueSize(Object pool) {
+        Method getQueue = findMethod(pool.getClass(), "getQueue");
+        if (getQueue == null || !Collection.class.isAssignableFrom(getQueue.getReturnType())) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle queueHandle = lookup.unreflect(getQueue).bindTo(pool)
+                    .asType(MethodType.methodType(Collection.class));
+            MethodHandle sizeHandle = lookup.findVirtual(Collection.class, "size", MethodType.methodType(int.class));
+            return MethodHandles.filterReturnValue(queueHandle, sizeHandle).asType(LONG_RETURN);
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JEUS-THREADPOOL] Failed to bind getQueue().size(): " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /** public 메서드 중 파라미터 없는 메서드 (public 클래스에 선언된 것만 publicLookup으로 호출 가능) */
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            Method method = type.getMethod(name);
+            if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                return null;
+            }
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String resolveName(Object pool) {
+        for (String name : new String[]{"getName", "getPoolName", "getThreadPoolName"}) {
+            Method method = findMethod(pool.getClass(), name);
+            if (method == null || method.getReturnType() != String.class) {
+                continue;
+            }
+            try {
+                String value = (String) method.invoke(pool);
+                if (value != null && !value.trim().isEmpty()) {
+                    return sanitize(value.trim());
+                }
+            } catch (Exception ignore) {
+                // 다음 후보
+            }
+        }
+        return pool.getClass().getSimpleName();
+    }
+
+    /** metric 이름 구분자('/')와 공백 치환 */
+    private static String sanitize(String name) {
+        return name.replace('/', '_').replace(' ', '_');
+    }
+
+    /** 풀 이름별 현재 모니터. 모니터는 풀 인스턴스의 주입 필드가 강참조하므로 풀이 살아 있는 동안 유지됨 */
+    private static final class PoolSlot {
+        private volatile WeakReference<JeusThreadPoolMonitor> monitor;
+
+        /**
+         * @return 살아 있는 이전 모니터를 교체했으면 true
+         */
+        boolean replace(JeusThreadPoolMonitor next) {
+            WeakReference<JeusThreadPoolMonitor> previous = monitor;
+            monitor = new WeakReference<JeusThreadPoolMonitor>(next);
+            return previous != null && previous.get() != null;
+        }
+
+        JeusThreadPoolMonitor get() {
+            WeakReference<JeusThreadPoolMonitor> ref = monitor;
+            return ref != null ? ref.get() : null;
+        }
+    }
+
+    private static final class SlotGauge implements LongGauge {
+        private final String name;
+        private final PoolSlot slot;
+        private final int kind;
+
+        SlotGauge(String name, PoolSlot slot, int kind) {
+            this.name = name;
+            this.slot = slot;
+            this.kind = kind;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getValue() {
+            JeusThreadPoolMonitor monitor = slot.get();
+            return monitor != null ? monitor.value(kind) : -1L;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.navercorp.pinpoint.plugin.jeus.threadpool;
+
+/**
+ * 워커 스레드 풀 클래스에 주입되는 모니터 필드 accessor.
+ *
+ * 생성자 체인(this(...)/super(...))으로 인터셉터가 여러 번 호출되어도 풀 인스턴스당 1회만 등록하기 위함.
+ */
+public interface JeusThreadPoolMonitorAccessor {
+    void _$PINPOINT$_setJeusThreadPoolMonitor(JeusThreadPoolMonitor monitor);
+
+    JeusThreadPoolMonitor _$PINPOINT$_getJeusThreadPoolMonitor();
+}
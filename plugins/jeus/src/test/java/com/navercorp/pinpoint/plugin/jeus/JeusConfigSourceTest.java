@@ -0,0 +1,42 @@
+package com.navercorp.pinpoint.plugin.jeus;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 설정 키 적용 시점 레지스트리 (JeusConfigurationWatcher 변경 안내 기준) 검증.
+ */
+public class JeusConfigSourceTest {
+
+    @BeforeClass
+    public static void setUp() {
+        // 모든 키는 기본값으로 읽힘 (ProfilerConfig는 defaultValue 반환)
+        JeusTestSupport.defaultConfiguration();
+    }
+
+    @Test
+    public void requestTimeKeysAreLive() {
+        assertEquals(JeusConfigSource.Reload.LIVE, JeusConfigSource.reloadOf("profiler.jeus.excludeurl"));
+        assertEquals(JeusConfigSource.Reload.LIVE, JeusConfigSource.reloadOf("profiler.jeus.trace.requestparam.mask"));
+        assertEquals(JeusConfigSource.Reload.LIVE, JeusConfigSource.reloadOf("profiler.jeus.sampling.rules"));
+        assertEquals(JeusConfigSource.Reload.LIVE, JeusConfigSource.reloadOf("profiler.jeus.exception.dedup"));
+        assertEquals(JeusConfigSource.Reload.LIVE, JeusConfigSource.reloadOf("profiler.jeus.exception.max.per.trace"));
+    }
+
+    @Test
+    public void interceptorConstructorKeysRequireRestart() {
+        assertEquals(JeusConfigSource.Reload.RESTART, JeusConfigSource.reloadOf("profiler.jeus.datasource.wait.threshold"));
+        assertEquals(JeusConfigSource.Reload.RESTART, JeusConfigSource.reloadOf("profiler.jeus.datasource.holdtime.stack"));
+        assertEquals(JeusConfigSource.Reload.RESTART, JeusConfigSource.reloadOf("profiler.jeus.datasource.leak.threshold"));
+        assertEquals(JeusConfigSource.Reload.RESTART, JeusConfigSource.reloadOf("profiler.jeus.logging.level.count.enable"));
+        assertEquals(JeusConfigSource.Reload.RESTART, JeusConfigSource.reloadOf("profiler.jeus.logging.metric.enable"));
+    }
+
+    @Test
+    public void unknownKeyIsNotClassified() {
+        assertNull(JeusConfigSource.reloadOf("profiler.jeus.excludeurls"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.navercorp.pinpoint.plugin.jeus;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * 테스트 공용: 기본값 설정, 인터페이스 fake 생성.
+ */
+public final class JeusTestSupport {
+
+    private JeusTestSupport() {
+    }
+
+    /** 모든 키를 기본값으로 읽는 ProfilerConfig (readList는 빈 목록) */
+    public static ProfilerConfig defaultProfilerConfig() {
+        return proxy(ProfilerConfig.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("readList")) {
+                    return Collections.emptyList();
+                }
+                if (method.getName().startsWith("read") && args != null && args.length == 2) {
+                    return args[1];
+                }
+                return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    public static JeusConfiguration configuration(Properties overrides) {
+        return new JeusConfiguration(new JeusConfigSource(defaultProfilerConfig(), overrides));
+    }
+
+    public static JeusConfiguration defaultConfiguration() {
+        return configuration(new Properties());
+    }
+
+    public static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    public static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.navercorp.pinpoint.plugin.jeus.datasource;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class JeusDataSourceMonitorTest {
+
+    private static final String PREFIX = "custom/jeus/datasource/jdbc_wait-test/wait.";
+
+    @Test
+    public void waitPercentilesArePublishedPerCollection() {
+        JeusDataSourceMonitor monitor = new JeusDataSourceMonitor(new FakePool());
+        monitor.initialize();
+        assertTrue(monitor.isInitialized());
+        RecordingRegistry registry = new RecordingRegistry();
+        monitor.registerWaitMetrics(registry);
+
+        for (int i = 0; i < 99; i++) {
+            monitor.recordConnectionWait(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        monitor.recordConnectionWait(TimeUnit.MILLISECONDS.toNanos(50));
+        monitor.getActiveConnectionSize();  // DataSourceMonitor 수집 주기
+
+        // 버킷 상한 근사: 100us → 128us 버킷
+        assertEquals(128L, registry.value(PREFIX + "p50.us"));
+        assertEquals(128L, registry.value(PREFIX + "p99.us"));
+        assertEquals(50000L, registry.value(PREFIX + "max.us"));
+
+        // 다음 구간은 대기 기록이 없으면 0
+        monitor.getActiveConnectionSize();
+        assertEquals(0L, registry.value(PREFIX + "max.us"));
+    }
+
+    public static class FakePool {
+        public int getCurrentPoolSize() {
+            return 10;
+        }
+
+        public int getNumberOfIdleConnections() {
+            return 4;
+        }
+
+        public FakePoolInfo getPoolInfo() {
+            return new FakePoolInfo();
+        }
+    }
+
+    public static class FakePoolInfo {
+        public int getMaxPoolSize() {
+            return 20;
+        }
+
+        public String getConnectionPoolId() {
+            return "jdbc/wait-test";
+        }
+    }
+
+    private static class RecordingRegistry implements CustomMetricRegistry {
+        private final Map<String, LongGauge> gauges = new HashMap<String, LongGauge>();
+
+        @Override
+        public boolean register(LongCounter counter) {
+            return true;
+        }
+
+        @Override
+        public boolean register(LongGauge gauge) {
+            return gauges.put(gauge.getName(), gauge) == null;
+        }
+
+        long value(String name) {
+            LongGauge gauge = gauges.get(name);
+            assertNotNull(name, gauge);
+            return gauge.getValue();
+        }
+    }
+}
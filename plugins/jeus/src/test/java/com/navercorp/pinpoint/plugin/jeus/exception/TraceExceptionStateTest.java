@@ -0,0 +1,101 @@
+package com.navercorp.pinpoint.plugin.jeus.exception;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+public class TraceExceptionStateTest {
+
+    private final CountingRecorder counting = new CountingRecorder();
+    private final SpanEventRecorder recorder = JeusTestSupport.proxy(SpanEventRecorder.class, counting);
+
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("profiler.jeus.exception.max.per.trace", "2");
+        JeusConfigurationHolder.setConfiguration(JeusTestSupport.configuration(properties));
+    }
+
+    @After
+    public void tearDown() {
+        JeusConfigurationHolder.setConfiguration(null);
+    }
+
+    @Test
+    public void nestedFramesRecordSameThrowableOnce() {
+        Trace trace = trace();
+        Throwable error = new IllegalStateException("boom");
+
+        // 안쪽 프레임부터 3단계 전파
+        for (int frame = 0; frame < 3; frame++) {
+            TraceExceptionState.record(trace, recorder, error, null);
+        }
+
+        assertEquals(1, counting.exceptions);
+        assertEquals(2, counting.references);
+    }
+
+    @Test
+    public void fullRecordsAreLimitedPerTrace() {
+        Trace trace = trace();
+        for (int i = 0; i < 4; i++) {
+            TraceExceptionState.record(trace, recorder, new IllegalStateException("boom " + i), null);
+        }
+
+        assertEquals(2, counting.exceptions);
+        assertEquals("over the limit: reference only", 2, counting.references);
+    }
+
+    @Test
+    public void stateBelongsToTraceNotThread() {
+        Throwable shared = new IllegalStateException("preallocated");
+        Trace first = trace();
+        Trace second = trace();
+
+        // 같은 스레드, 같은 Throwable이라도 다른 Trace면 다시 전체 기록 (요청 종료 처리 없이)
+        TraceExceptionState.record(first, recorder, shared, null);
+        TraceExceptionState.record(second, recorder, shared, null);
+        // 앞선 Trace로 돌아와도 상태가 유지됨
+        TraceExceptionState.record(first, recorder, shared, null);
+
+        assertEquals(2, counting.exceptions);
+        assertEquals(1, counting.references);
+    }
+
+    private static Trace trace() {
+        return JeusTestSupport.proxy(Trace.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                return JeusTestSupport.defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static class CountingRecorder implements InvocationHandler {
+        int exceptions;
+        int references;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("recordException")) {
+                exceptions++;
+            } else if (method.getName().equals("recordAttribute")) {
+                references++;
+            }
+            return JeusTestSupport.defaultValue(method.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RequestParamCaptureTest {
+
+    @Test
+    public void returnsOriginalWhenWithinLimit() {
+        RequestParamCapture capture = new RequestParamCapture(512, null, null);
+        String query = "a=1&b=2";
+        assertSame(query, capture.capture(query));
+    }
+
+    @Test
+    public void truncatesByUtf8Bytes() {
+        RequestParamCapture capture = new RequestParamCapture(9, null, null);
+        // "q=" 2 bytes + "한글" 6 bytes + "a" 1 byte = 9 bytes, 다음 "b"부터 절단
+        assertEquals("q=한글a...", capture.capture("q=한글ab"));
+        // 문자 중간에서 자르지 않음: 7 bytes면 "글"(3 bytes)이 들어가지 않음
+        assertEquals("q=한...", new RequestParamCapture(7, null, null).capture("q=한글ab"));
+    }
+
+    @Test
+    public void encodedNamesAreExcludedAndMasked() {
+        RequestParamCapture capture = new RequestParamCapture(512,
+                Collections.singletonList("password"), Arrays.asList("ssn", "user id"));
+        assertEquals("a=1", capture.capture("pass%77ord=secret&a=1"));
+        assertEquals("%73sn=***&user+id=***", capture.capture("%73sn=900101&user+id=kim"));
+    }
+
+    @Test
+    public void malformedEncodingIsComparedAsIs() {
+        RequestParamCapture capture = new RequestParamCapture(512, Collections.singletonList("password"), null);
+        assertEquals("pass%7=x", capture.capture("pass%7=x"));
+    }
+
+    @Test
+    public void countersUseUtf8Bytes() {
+        RequestParamCapture capture = new RequestParamCapture(512, Collections.singletonList("name"), null);
+        long capturedBefore = RequestParamCapture.getCapturedBytes().sum();
+        long savedBefore = RequestParamCapture.getSavedBytes().sum();
+
+        // "name=홍길동&" = 5 + 9 + 1 bytes 제거, "a=1" = 3 bytes 기록
+        assertEquals("a=1", capture.capture("name=홍길동&a=1"));
+
+        assertEquals(3, RequestParamCapture.getCapturedBytes().sum() - capturedBefore);
+        assertEquals(15, RequestParamCapture.getSavedBytes().sum() - savedBefore);
+    }
+}
@@ -0,0 +1,151 @@
+package com.navercorp.pinpoint.plugin.jeus.http;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import org.junit.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseByteCounterTest {
+
+    @Test
+    public void outputStreamBytesAreCounted() throws IOException {
+        ResponseByteCounter counter = new ResponseByteCounter();
+        Object response = response(counter, null);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ServletOutputStream original = servletOutputStream(sink);
+
+        ServletOutputStream wrapped = ResponseByteCounter.countOutputStream(response, original);
+        assertNotSame(original, wrapped);
+        assertSame("same wrapper for repeated calls", wrapped, ResponseByteCounter.countOutputStream(response, original));
+
+        wrapped.write(new byte[100], 0, 100);
+        wrapped.write('x');
+        wrapped.print("abc");
+
+        assertTrue(counter.isUsed());
+        assertEquals(sink.size(), counter.getCount());
+        assertEquals(104, counter.getCount());
+    }
+
+    @Test
+    public void writerCharsAreCountedInResponseEncoding() {
+        assertEquals(1 + 3 + 4 + 2, writerBytes("UTF-8", "a가😀é"));
+        assertEquals(1 + 2, writerBytes("EUC-KR", "a가"));
+        assertEquals(2, writerBytes(null, "aé"));
+        // println()의 줄바꿈도 포함
+        assertEquals(3 + System.lineSeparator().length(), writerBytes("UTF-8", null));
+    }
+
+    @Test
+    public void streamBytesWinWhenContainerWriterUsesStream() throws IOException {
+        ResponseByteCounter counter = new ResponseByteCounter();
+        Object response = response(counter, "UTF-8");
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        // 컨테이너 getWriter()가 계측된 getOutputStream() 위에 만들어진 경우: 같은 출력이 양쪽에서 세어짐
+        ServletOutputStream stream = ResponseByteCounter.countOutputStream(response, servletOutputStream(sink));
+        PrintWriter writer = ResponseByteCounter.countWriter(response, new PrintWriter(new OutputStreamWriter(stream, "UTF-8")));
+        writer.print("한글");
+        writer.flush();
+
+        assertEquals(6, sink.size());
+        assertEquals(6, counter.getCount());
+    }
+
+    @Test
+    public void requestWithoutCounterGetsOriginal() {
+        Object response = response(null, null);
+        PrintWriter original = new PrintWriter(new StringWriter());
+        ServletOutputStream stream = servletOutputStream(new ByteArrayOutputStream());
+
+        assertSame(original, ResponseByteCounter.countWriter(response, original));
+        assertSame(stream, ResponseByteCounter.countOutputStream(response, stream));
+        assertFalse(new ResponseByteCounter().isUsed());
+    }
+
+    @Test
+    public void isReadyDelegatesThroughCachedMethod() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ServletOutputStream servlet30 = servletOutputStream(sink);
+        ServletOutputStream servlet31 = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                sink.write(b);
+            }
+
+            public boolean isReady() {
+                return false;
+            }
+        };
+
+        assertTrue(new CountingServletOutputStream(servlet30, new ResponseByteCounter()).isReady());
+        assertFalse(new CountingServletOutputStream(servlet31, new ResponseByteCounter()).isReady());
+
+        // 메서드 유무 모두 클래스별로 캐싱
+        assertNull(CountingServletOutputStream.getIsReadyMethod(servlet30.getClass()));
+        Method isReady = CountingServletOutputStream.getIsReadyMethod(servlet31.getClass());
+        assertSame(isReady, CountingServletOutputStream.getIsReadyMethod(servlet31.getClass()));
+    }
+
+    private static long writerBytes(String encoding, String text) {
+        ResponseByteCounter counter = new ResponseByteCounter();
+        StringWriter sink = new StringWriter();
+        PrintWriter writer = ResponseByteCounter.countWriter(response(counter, encoding), new PrintWriter(sink));
+        if (text != null) {
+            writer.print(text);
+        } else {
+            writer.println("abc");
+        }
+        writer.flush();
+        return counter.getCount();
+    }
+
+    private static ServletOutputStream servletOutputStream(final ByteArrayOutputStream sink) {
+        return new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                sink.write(b);
+            }
+        };
+    }
+
+    /** 계측된 JEUS Response 대역: 주입 필드 accessor + getCharacterEncoding() */
+    private static Object response(final ResponseByteCounter counter, final String encoding) {
+        return Proxy.newProxyInstance(ResponseByteCounterTest.class.getClassLoader(),
+                new Class<?>[]{ServletResponse.class, ResponseSizeAccessor.class}, new InvocationHandler() {
+                    private ResponseByteCounter field = counter;
+
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if (name.equals("_$PINPOINT$_getResponseByteCounter")) {
+                            return field;
+                        }
+                        if (name.equals("_$PINPOINT$_setResponseByteCounter")) {
+                            field = (ResponseByteCounter) args[0];
+                            return null;
+                        }
+                        if (name.equals("getCharacterEncoding")) {
+                            return encoding;
+                        }
+                        return JeusTestSupport.defaultValue(method.getReturnType());
+                    }
+                });
+    }
+}
@@ -0,0 +1,164 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 요청 단위 상태(dispatch 재진입 깊이, traceBlockBegin 실패 구간)가 스레드가 아닌 Trace에 귀속되는지 검증.
+ *
+ * 모든 요청이 동시에 진행 중인 상태(진입점 + 중첩 메서드 before 후 대기)를 만든 뒤 한꺼번에 종료시켜
+ * 요청마다 trace가 1회 close되고 begin/end 쌍이 맞는지 확인하고, 진행 중/종료 후 heap 사용량을 측정한다.
+ * 종료 후 요청당 잔존 heap이 한도를 넘으면 실패 (스레드별 상태가 남는 구현 검출).
+ *
+ * 가상 스레드 10만 요청은 JDK 21 이상에서만 실행 (리플렉션으로 executor 생성, 없으면 skip).
+ * 플랫폼 스레드 1,000 요청은 모든 JDK에서 같은 시나리오를 실행.
+ */
+public class ConcurrentRequestTest {
+
+    private static final int VIRTUAL_THREAD_REQUESTS = 100000;
+    private static final int PLATFORM_THREAD_REQUESTS = 1000;
+
+    private static final long MAX_RETAINED_BYTES_PER_REQUEST = 256;
+    // System.gc() 후 used heap 측정 오차 (JUnit/JIT 등 요청과 무관한 할당)
+    private static final long MEASUREMENT_SLACK_BYTES = 4L * 1024 * 1024;
+
+    private FakeTraceContext traceContext;
+    private WebActionDispatcherServiceInterceptor dispatcher;
+    private HimedMethodInterceptor method;
+
+    @Before
+    public void setUp() {
+        JeusConfigurationHolder.setConfiguration(null);
+        traceContext = new FakeTraceContext();
+        dispatcher = new WebActionDispatcherServiceInterceptor(traceContext.context, HimedMethodInterceptorTest.descriptor(), null);
+        method = new HimedMethodInterceptor(traceContext.context, HimedMethodInterceptorTest.descriptor());
+    }
+
+    @Test
+    public void virtualThreadRequests() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        Assume.assumeTrue("virtual threads require JDK 21+", executor != null);
+        runConcurrentRequests(executor, VIRTUAL_THREAD_REQUESTS, "virtual");
+    }
+
+    @Test
+    public void platformThreadRequests() throws Exception {
+        runConcurrentRequests(Executors.newFixedThreadPool(PLATFORM_THREAD_REQUESTS), PLATFORM_THREAD_REQUESTS, "platform");
+    }
+
+    private void runConcurrentRequests(ExecutorService executor, int requests, String kind) throws Exception {
+        final CountDownLatch inFlight = new CountDownLatch(requests);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicReference<String> failure = new AtomicReference<String>();
+
+        long baseline = usedHeap();
+        try {
+            for (int i = 0; i < requests; i++) {
+                final int failAt = i % 3;  // 0: 실패 없음, 1: 첫 메서드 begin 실패, 2: 중첩 메서드 begin 실패
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            String error = handleRequest(failAt, inFlight, release);
+                            if (error == null) {
+                                completed.incrementAndGet();
+                            } else {
+                                failure.compareAndSet(null, error);
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t.toString());
+                            inFlight.countDown();
+                        }
+                    }
+                });
+            }
+            assertTrue("all requests in flight", inFlight.await(60, TimeUnit.SECONDS));
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+            long retained = usedHeap() - baseline;
+
+            assertNull(failure.get());
+            assertEquals(requests, completed.get());
+            assertTrue("retained heap " + retained + "B after " + requests + " " + kind + " requests",
+                    retained < MEASUREMENT_SLACK_BYTES + requests * MAX_RETAINED_BYTES_PER_REQUEST);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 진입점 → 메서드 2단계 중첩 → (대기) → forward 재진입 → 역순 종료.
+     *
+     * @return 검증 실패 메시지, 정상이면 null
+     */
+    private String handleRequest(int failAt, CountDownLatch inFlight, CountDownLatch release) throws InterruptedException {
+        Object[] args = {new FakeRequest("/order.do", "target=Order&method=save"), null};
+        dispatcher.before(null, args);
+        FakeTrace fake = traceContext.current();
+        if (fake == null) {
+            inFlight.countDown();
+            return "trace not created";
+        }
+        // dispatcher가 begin 1회 → 메서드 begin은 2, 3번째 호출
+        if (failAt > 0) {
+            fake.failBeginAt(failAt + 1);
+        }
+        method.before(null, null);
+        method.before(null, null);
+        inFlight.countDown();
+        release.await();
+
+        method.after(null, null, null, null);
+        method.after(null, null, null, null);
+        dispatcher.before(null, new Object[]{new FakeRequest("/order/view.do", null), null});
+        dispatcher.after(null, args, null, null);
+        dispatcher.after(null, args, null, null);
+
+        if (fake.getCloseCount() != 1) {
+            return "closeCount=" + fake.getCloseCount();
+        }
+        if (fake.getBlockDepth() != 0 || fake.getEndCount() != (failAt == 0 ? 3 : failAt)) {
+            return "failAt=" + failAt + " blockDepth=" + fake.getBlockDepth() + " endCount=" + fake.getEndCount();
+        }
+        if (fake.scope(WebActionDispatcherServiceInterceptor.DISPATCH_SCOPE).isActive()) {
+            return "dispatch scope still active";
+        }
+        if (traceContext.current() != null) {
+            return "trace still bound";
+        }
+        return null;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
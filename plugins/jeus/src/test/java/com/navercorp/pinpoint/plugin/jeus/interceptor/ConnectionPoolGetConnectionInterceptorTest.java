@@ -0,0 +1,108 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckout;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionCheckoutAccessor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.ConnectionHoldTracker;
+import com.navercorp.pinpoint.plugin.jeus.datasource.JeusDataSourceMonitor;
+import com.navercorp.pinpoint.plugin.jeus.datasource.JeusDataSourceMonitorAccessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ConnectionPoolGetConnectionInterceptorTest {
+
+    private FakeTraceContext traceContext;
+    private ConnectionPoolGetConnectionInterceptor interceptor;
+    private FakePool pool;
+
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("profiler.jeus.datasource.holdtime.enable", "true");
+        JeusConfigurationHolder.setConfiguration(JeusTestSupport.configuration(properties));
+        traceContext = new FakeTraceContext();
+        // 레지스트리 없음: 모니터 등록 없이 hold tracker만 사용
+        interceptor = new ConnectionPoolGetConnectionInterceptor(traceContext.context,
+                HimedMethodInterceptorTest.descriptor(), null, null);
+
+        pool = new FakePool();
+        JeusDataSourceMonitor monitor = new JeusDataSourceMonitor(pool);
+        monitor.setHoldTracker(new ConnectionHoldTracker(false, 60000L));
+        pool._$PINPOINT$_setJeusDataSourceMonitor(monitor);
+    }
+
+    @After
+    public void tearDown() {
+        traceContext.context.removeTraceObject();
+        JeusConfigurationHolder.setConfiguration(null);
+    }
+
+    @Test
+    public void sampledCheckoutIsTaggedWithTransactionId() {
+        traceContext.bind(new FakeTrace(true));
+
+        ConnectionCheckout checkout = getConnection();
+
+        assertNotNull(checkout);
+        assertEquals(FakeTrace.TRANSACTION_ID, checkout.getTransactionId());
+    }
+
+    @Test
+    public void unsampledCheckoutIsTaggedWithoutTransactionId() {
+        // DisableTrace의 getTraceId()는 예외 → 체크아웃 누락 없이 트랜잭션 ID만 비움
+        traceContext.bind(new FakeTrace(false));
+
+        ConnectionCheckout checkout = getConnection();
+
+        assertNotNull("unsampled requests must still be tracked", checkout);
+        assertNull(checkout.getTransactionId());
+    }
+
+    @Test
+    public void checkoutWithoutTraceIsTagged() {
+        assertNotNull(getConnection());
+    }
+
+    private ConnectionCheckout getConnection() {
+        FakeConnection connection = new FakeConnection();
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, connection, null);
+        return connection._$PINPOINT$_getConnectionCheckout();
+    }
+
+    private static class FakePool implements JeusDataSourceMonitorAccessor {
+        private JeusDataSourceMonitor monitor;
+
+        @Override
+        public void _$PINPOINT$_setJeusDataSourceMonitor(JeusDataSourceMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        @Override
+        public JeusDataSourceMonitor _$PINPOINT$_getJeusDataSourceMonitor() {
+            return monitor;
+        }
+    }
+
+    private static class FakeConnection implements ConnectionCheckoutAccessor {
+        private ConnectionCheckout checkout;
+
+        @Override
+        public void _$PINPOINT$_setConnectionCheckout(ConnectionCheckout checkout) {
+            this.checkout = checkout;
+        }
+
+        @Override
+        public ConnectionCheckout _$PINPOINT$_getConnectionCheckout() {
+            return checkout;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 진입점 인터셉터가 리플렉션으로 조회하는 Request 메서드만 가진 fake (public: MethodCache가 getMethod로 조회).
+ */
+public final class FakeRequest {
+
+    private final String requestURI;
+    private final String queryString;
+    private Map<String, Object> attributes;
+
+    public FakeRequest(String requestURI, String queryString) {
+        this.requestURI = requestURI;
+        this.queryString = queryString;
+    }
+
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    public String getQueryString() {
+        return queryString;
+    }
+
+    public String getParameter(String name) {
+        return WebActionDispatcherServiceInterceptor.queryParameter(queryString, name);
+    }
+
+    public String getHeader(String name) {
+        return null;
+    }
+
+    public String getServerName() {
+        return "localhost";
+    }
+
+    public int getServerPort() {
+        return 8080;
+    }
+
+    public String getRemoteAddr() {
+        return "127.0.0.1";
+    }
+
+    public String getLocalName() {
+        return "localhost";
+    }
+
+    public int getContentLength() {
+        return -1;
+    }
+
+    public String getMethod() {
+        return "GET";
+    }
+
+    public String getContentType() {
+        return null;
+    }
+
+    public Object getAttribute(String name) {
+        return attributes != null ? attributes.get(name) : null;
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<String, Object>(4);
+        }
+        attributes.put(name, value);
+    }
+}
@@ -0,0 +1,141 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trace fake: scope 보관, traceBlockBegin/End 깊이, close 횟수를 기록 (recorder는 no-op).
+ * 미샘플 trace의 getTraceId()는 DisableTrace처럼 예외를 던진다.
+ * 한 요청 스레드에서만 사용 (실제 Trace와 동일한 전제).
+ */
+final class FakeTrace implements InvocationHandler {
+
+    private static final InvocationHandler NO_OP = new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return JeusTestSupport.defaultValue(method.getReturnType());
+        }
+    };
+    private static final SpanRecorder SPAN_RECORDER = JeusTestSupport.proxy(SpanRecorder.class, NO_OP);
+    private static final SpanEventRecorder SPAN_EVENT_RECORDER = JeusTestSupport.proxy(SpanEventRecorder.class, NO_OP);
+    static final String TRANSACTION_ID = "jeus-test^1^1";
+    private static final TraceId TRACE_ID = JeusTestSupport.proxy(TraceId.class, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if ("getTransactionId".equals(method.getName())) {
+                return TRANSACTION_ID;
+            }
+            return JeusTestSupport.defaultValue(method.getReturnType());
+        }
+    });
+
+    final Trace trace = JeusTestSupport.proxy(Trace.class, this);
+
+    private final boolean sampled;
+    private Map<String, FakeTraceScope> scopes;
+    private int blockDepth;
+    private int beginCount;
+    private int endCount;
+    private int closeCount;
+    // traceBlockBegin 호출 순번(1부터) 중 실패시킬 번호
+    private int failBeginAt = -1;
+
+    FakeTrace(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    void failBeginAt(int call) {
+        this.failBeginAt = call;
+    }
+
+    FakeTraceScope scope(String name) {
+        return scopes != null ? scopes.get(name) : null;
+    }
+
+    int getBlockDepth() {
+        return blockDepth;
+    }
+
+    int getBeginCount() {
+        return beginCount;
+    }
+
+    int getEndCount() {
+        return endCount;
+    }
+
+    int getCloseCount() {
+        return closeCount;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if ("canSampled".equals(name)) {
+            return sampled;
+        }
+        if ("getScope".equals(name)) {
+            return scope((String) args[0]);
+        }
+        if ("addScope".equals(name)) {
+            return addScope((String) args[0]);
+        }
+        if ("traceBlockBegin".equals(name)) {
+            if (++beginCount == failBeginAt) {
+                throw new IllegalStateException("traceBlockBegin failure #" + beginCount);
+            }
+            blockDepth++;
+            return SPAN_EVENT_RECORDER;
+        }
+        if ("traceBlockEnd".equals(name)) {
+            endCount++;
+            blockDepth--;
+            return null;
+        }
+        if ("getTraceId".equals(name)) {
+            if (!sampled) {
+                // DisableTrace와 동일하게 미샘플 trace는 TraceId를 제공하지 않음
+                throw new UnsupportedOperationException();
+            }
+            return TRACE_ID;
+        }
+        if ("currentSpanEventRecorder".equals(name)) {
+            return SPAN_EVENT_RECORDER;
+        }
+        if ("getSpanRecorder".equals(name)) {
+            return SPAN_RECORDER;
+        }
+        if ("close".equals(name)) {
+            closeCount++;
+            return null;
+        }
+        if ("hashCode".equals(name)) {
+            return System.identityHashCode(proxy);
+        }
+        if ("equals".equals(name)) {
+            return proxy == args[0];
+        }
+        return JeusTestSupport.defaultValue(method.getReturnType());
+    }
+
+    private TraceScope addScope(String name) {
+        if (scopes == null) {
+            scopes = new HashMap<String, FakeTraceScope>(4);
+        }
+        FakeTraceScope scope = scopes.get(name);
+        if (scope == null) {
+            scope = new FakeTraceScope(name);
+            scopes.put(name, scope);
+        }
+        return scope;
+    }
+}
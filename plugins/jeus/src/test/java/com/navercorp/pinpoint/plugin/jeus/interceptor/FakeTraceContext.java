@@ -0,0 +1,63 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TraceContext fake: Pinpoint binder처럼 현재 스레드에 Trace를 바인딩 (미샘플 trace는 raw 조회로만 보임).
+ * newTraceObject()가 만든 FakeTrace는 스레드별로 조회 가능.
+ */
+final class FakeTraceContext implements InvocationHandler {
+
+    final TraceContext context = JeusTestSupport.proxy(TraceContext.class, this);
+
+    private final ThreadLocal<FakeTrace> bound = new ThreadLocal<FakeTrace>();
+    private final AtomicInteger newTraceCount = new AtomicInteger();
+
+    FakeTrace current() {
+        return bound.get();
+    }
+
+    void bind(FakeTrace fake) {
+        bound.set(fake);
+    }
+
+    int getNewTraceCount() {
+        return newTraceCount.get();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        FakeTrace fake = bound.get();
+        if ("currentTraceObject".equals(name)) {
+            return fake != null && fake.trace.canSampled() ? fake.trace : null;
+        }
+        if ("currentRawTraceObject".equals(name)) {
+            return fake != null ? fake.trace : null;
+        }
+        if ("newTraceObject".equals(name)) {
+            return newTrace(true);
+        }
+        if ("disableSampling".equals(name)) {
+            return newTrace(false);
+        }
+        if ("removeTraceObject".equals(name)) {
+            bound.remove();
+            return fake != null ? fake.trace : null;
+        }
+        return JeusTestSupport.defaultValue(method.getReturnType());
+    }
+
+    private Trace newTrace(boolean sampled) {
+        newTraceCount.incrementAndGet();
+        FakeTrace fake = new FakeTrace(sampled);
+        bound.set(fake);
+        return fake.trace;
+    }
+}
@@ -0,0 +1,48 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
+
+/**
+ * Pinpoint DefaultTraceScope와 같은 깊이 규칙: tryEnter()는 항상 깊이를 늘리고 첫 진입에서만 true.
+ */
+final class FakeTraceScope implements TraceScope {
+
+    private final String name;
+    private int depth;
+
+    FakeTraceScope(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean tryEnter() {
+        return ++depth == 1;
+    }
+
+    @Override
+    public boolean canLeave() {
+        return depth > 0;
+    }
+
+    @Override
+    public void leave() {
+        if (depth == 0) {
+            throw new IllegalStateException("cannot leave " + name);
+        }
+        depth--;
+    }
+
+    @Override
+    public boolean isActive() {
+        return depth > 0;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+}
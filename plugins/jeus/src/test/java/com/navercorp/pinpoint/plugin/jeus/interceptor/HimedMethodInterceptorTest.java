@@ -0,0 +1,129 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * traceBlockBegin 실패 구간(BLOCK_FAILED_SCOPE) 중첩 처리: begin/end 쌍이 깨지지 않는지 검증.
+ */
+public class HimedMethodInterceptorTest {
+
+    private FakeTraceContext traceContext;
+    private HimedMethodInterceptor interceptor;
+    private FakeTrace fake;
+
+    @Before
+    public void setUp() {
+        traceContext = new FakeTraceContext();
+        interceptor = new HimedMethodInterceptor(traceContext.context, descriptor());
+        fake = new FakeTrace(true);
+        traceContext.bind(fake);
+    }
+
+    @After
+    public void tearDown() {
+        traceContext.context.removeTraceObject();
+    }
+
+    @Test
+    public void nestedCallsPairBeginAndEnd() {
+        enter(3);
+        assertEquals(3, fake.getBlockDepth());
+        exit(3);
+
+        assertEquals(3, fake.getEndCount());
+        assertEquals(0, fake.getBlockDepth());
+        assertNull("no failure scope on the normal path", fake.scope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE));
+    }
+
+    @Test
+    public void callsBelowFailedBeginSkipEnd() {
+        // outer(성공) → middle(begin 실패) → inner 2단계(begin 생략)
+        fake.failBeginAt(2);
+        enter(4);
+        assertEquals("only outer began", 1, fake.getBlockDepth());
+        assertEquals("inner calls do not try to begin", 2, fake.getBeginCount());
+        assertEquals(3, fake.scope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE).getDepth());
+
+        exit(3);
+        assertEquals("failed section closed without end", 0, fake.getEndCount());
+        assertFalse(fake.scope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE).isActive());
+
+        // 실패 구간 이후 형제 호출은 다시 정상 begin/end
+        enter(1);
+        exit(1);
+        exit(1);  // outer
+        assertEquals(2, fake.getEndCount());
+        assertEquals(0, fake.getBlockDepth());
+    }
+
+    @Test
+    public void failureAtOutermostCall() {
+        fake.failBeginAt(1);
+        enter(2);
+        exit(2);
+
+        assertEquals(0, fake.getEndCount());
+        assertEquals(0, fake.getBlockDepth());
+        assertFalse(fake.scope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE).isActive());
+    }
+
+    @Test
+    public void failureStateDoesNotLeakToNextTrace() {
+        fake.failBeginAt(1);
+        enter(1);
+        // after() 누락 상태로 요청 종료 → 다음 요청은 새 Trace (상태가 Trace에 귀속되어 이어지지 않음)
+        FakeTrace next = new FakeTrace(true);
+        traceContext.bind(next);
+        enter(1);
+        exit(1);
+
+        assertEquals(1, next.getEndCount());
+        assertNull(next.scope(HimedMethodInterceptor.BLOCK_FAILED_SCOPE));
+    }
+
+    @Test
+    public void unsampledTraceIsNotTouched() {
+        FakeTrace unsampled = new FakeTrace(false);
+        traceContext.bind(unsampled);
+        enter(2);
+        exit(2);
+
+        assertEquals(0, unsampled.getBeginCount());
+        assertEquals(0, unsampled.getEndCount());
+    }
+
+    private void enter(int calls) {
+        for (int i = 0; i < calls; i++) {
+            interceptor.before(null, null);
+        }
+    }
+
+    private void exit(int calls) {
+        for (int i = 0; i < calls; i++) {
+            interceptor.after(null, null, null, null);
+        }
+    }
+
+    static MethodDescriptor descriptor() {
+        return JeusTestSupport.proxy(MethodDescriptor.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getReturnType() == String.class) {
+                    return method.getName();
+                }
+                return JeusTestSupport.defaultValue(method.getReturnType());
+            }
+        });
+    }
+}
@@ -0,0 +1,214 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.plugin.jeus.logging.TraceLogState;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * LoggingAppenderInterceptor Trace당 1회 LOGGED 마킹 검증.
+ *
+ * 이전 구현은 로그 1줄마다 canSampled/getSpanRecorder/recordLogging을 호출했으므로,
+ * 요청당 로그 1/10/1,000줄에서 Trace 호출 수가 줄 수와 무관하게 일정한지를 호출 횟수로 검증한다 (시간 측정 없음).
+ */
+public class LoggingAppenderInterceptorTest {
+
+    private static final int[] LINES_PER_REQUEST = {1, 10, 1000};
+    private static final int REQUESTS = 100;
+    // 요청(Trace)당 호출: canSampled + getSpanRecorder (+ recorder의 recordLogging)
+    private static final int TRACE_CALLS_PER_REQUEST = 3;
+
+    @Test
+    public void markLoggedOncePerTrace() {
+        for (int lines : LINES_PER_REQUEST) {
+            FakeTrace fake = new FakeTrace(true);
+            FakeTraceContext context = new FakeTraceContext();
+            context.current = fake.trace;
+            LoggingAppenderInterceptor interceptor = new LoggingAppenderInterceptor(context.proxy, null);
+
+            for (int i = 0; i < lines; i++) {
+                interceptor.before(null, new Object[]{new Object()});
+            }
+            TraceLogState.release(fake.trace);
+
+            assertEquals("currentTraceObject per line", lines, context.count("currentTraceObject"));
+            assertEquals("canSampled once per trace, lines=" + lines, 1, fake.count("canSampled"));
+            assertEquals("getSpanRecorder once per trace, lines=" + lines, 1, fake.count("getSpanRecorder"));
+            assertEquals("recordLogging once per trace, lines=" + lines, 1, fake.count("recordLogging"));
+        }
+    }
+
+    @Test
+    public void unsampledTraceIsRememberedToo() {
+        FakeTrace fake = new FakeTrace(false);
+        FakeTraceContext context = new FakeTraceContext();
+        context.current = fake.trace;
+        LoggingAppenderInterceptor interceptor = new LoggingAppenderInterceptor(context.proxy, null);
+
+        for (int i = 0; i < 100; i++) {
+            interceptor.before(null, new Object[]{new Object()});
+        }
+
+        assertEquals(1, fake.count("canSampled"));
+        assertEquals(0, fake.count("recordLogging"));
+    }
+
+    @Test
+    public void newTraceIsMarkedAgain() {
+        FakeTraceContext context = new FakeTraceContext();
+        LoggingAppenderInterceptor interceptor = new LoggingAppenderInterceptor(context.proxy, null);
+
+        FakeTrace first = new FakeTrace(true);
+        context.current = first.trace;
+        interceptor.before(null, new Object[]{new Object()});
+        interceptor.before(null, new Object[]{new Object()});
+
+        // release() 없이 다음 요청이 시작되어도 Trace별 상태이므로 새 Trace를 감지
+        FakeTrace second = new FakeTrace(true);
+        context.current = second.trace;
+        interceptor.before(null, new Object[]{new Object()});
+
+        assertEquals(1, first.count("recordLogging"));
+        assertEquals(1, second.count("recordLogging"));
+    }
+
+    @Test
+    public void stateFollowsTraceAcrossThreads() throws InterruptedException {
+        final FakeTrace fake = new FakeTrace(true);
+        final FakeTraceContext context = new FakeTraceContext();
+        context.current = fake.trace;
+        final LoggingAppenderInterceptor interceptor = new LoggingAppenderInterceptor(context.proxy, null);
+        interceptor.before(null, new Object[]{new Object()});
+
+        // 같은 Trace가 다른 스레드(가상 스레드 carrier 변경 등)에서 이어져도 상태는 Trace에 귀속
+        Thread other = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                interceptor.before(null, new Object[]{new Object()});
+            }
+        });
+        other.start();
+        other.join(10000);
+
+        assertEquals(1, fake.count("recordLogging"));
+        assertSame(TraceLogState.peek(fake.trace), TraceLogState.bind(fake.trace));
+        TraceLogState.release(fake.trace);
+        assertNull(TraceLogState.peek(fake.trace));
+    }
+
+    @Test
+    public void traceCallsPerRequestDoNotGrowWithLines() {
+        Object[] args = {new Object()};
+        for (int lines : LINES_PER_REQUEST) {
+            FakeTraceContext context = new FakeTraceContext();
+            LoggingAppenderInterceptor interceptor = new LoggingAppenderInterceptor(context.proxy, null);
+            int traceCalls = 0;
+            for (int request = 0; request < REQUESTS; request++) {
+                FakeTrace fake = new FakeTrace(true);
+                context.current = fake.trace;
+                for (int i = 0; i < lines; i++) {
+                    interceptor.before(null, args);
+                }
+                TraceLogState.release(fake.trace);
+                traceCalls += fake.count("canSampled") + fake.count("getSpanRecorder") + fake.count("recordLogging");
+            }
+
+            assertEquals("trace calls per request, lines/request=" + lines,
+                    TRACE_CALLS_PER_REQUEST * REQUESTS, traceCalls);
+            assertEquals("currentTraceObject per line, lines/request=" + lines,
+                    lines * REQUESTS, context.count("currentTraceObject"));
+        }
+    }
+
+    /** 호출 횟수를 세는 Proxy 기반 fake (메서드명 단위) */
+    private static class Counting implements InvocationHandler {
+        private final Map<String, Integer> counts = new HashMap<String, Integer>();
+
+        int count(String method) {
+            Integer count = counts.get(method);
+            return count != null ? count : 0;
+        }
+
+        void increment(String method) {
+            counts.put(method, count(method) + 1);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            increment(method.getName());
+            return defaultValue(method.getReturnType());
+        }
+
+        static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+    private static class FakeTrace extends Counting {
+        final Trace trace;
+        final SpanRecorder recorder;
+        private final boolean sampled;
+
+        FakeTrace(boolean sampled) {
+            this.sampled = sampled;
+            this.trace = (Trace) Proxy.newProxyInstance(Trace.class.getClassLoader(), new Class<?>[]{Trace.class}, this);
+            this.recorder = (SpanRecorder) Proxy.newProxyInstance(SpanRecorder.class.getClassLoader(),
+                    new Class<?>[]{SpanRecorder.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            increment(name);
+            if ("canSampled".equals(name)) {
+                return sampled;
+            }
+            if ("getSpanRecorder".equals(name)) {
+                return recorder;
+            }
+            if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static class FakeTraceContext extends Counting {
+        final TraceContext proxy = (TraceContext) Proxy.newProxyInstance(TraceContext.class.getClassLoader(),
+                new Class<?>[]{TraceContext.class}, this);
+        Trace current;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            increment(name);
+            if ("currentTraceObject".equals(name)) {
+                return current;
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+}
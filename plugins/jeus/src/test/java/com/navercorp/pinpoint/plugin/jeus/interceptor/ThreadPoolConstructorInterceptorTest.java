@@ -0,0 +1,134 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+import com.navercorp.pinpoint.plugin.jeus.threadpool.JeusThreadPoolMonitor;
+import com.navercorp.pinpoint.plugin.jeus.threadpool.JeusThreadPoolMonitorAccessor;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ThreadPoolConstructorInterceptor 등록 시점/이름 교체 검증.
+ *
+ * FakePool 생성자는 계측된 바이트코드처럼 생성자 끝에서 인터셉터 after()를 호출한다.
+ * JeusCustomMetrics의 등록 이름은 전역이므로 테스트마다 다른 풀 이름을 사용.
+ */
+public class ThreadPoolConstructorInterceptorTest {
+
+    private static final String PREFIX = "custom/jeus/threadpool/";
+
+    @Test
+    public void chainedConstructorRegistersOnceWithFinalName() {
+        RecordingRegistry registry = new RecordingRegistry();
+        ThreadPoolConstructorInterceptor interceptor = new ThreadPoolConstructorInterceptor(registry);
+
+        FakePool pool = new FakePool(interceptor, "chained", 3);
+
+        assertNotNull(pool._$PINPOINT$_getJeusThreadPoolMonitor());
+        assertEquals("chained", pool._$PINPOINT$_getJeusThreadPoolMonitor().getPoolName());
+        assertEquals(3L, registry.value(PREFIX + "chained/active"));
+        assertFalse("inner constructor must not register class name",
+                registry.gauges.containsKey(PREFIX + "FakePool/active"));
+        assertEquals(5, registry.gauges.size());
+    }
+
+    @Test
+    public void recreatedPoolReplacesGaugeTarget() {
+        RecordingRegistry registry = new RecordingRegistry();
+        ThreadPoolConstructorInterceptor interceptor = new ThreadPoolConstructorInterceptor(registry);
+
+        FakePool first = new FakePool(interceptor, "redeploy", 1);
+        assertEquals(1L, registry.value(PREFIX + "redeploy/active"));
+
+        FakePool second = new FakePool(interceptor, "redeploy", 7);
+
+        assertEquals("no additional #n metrics", 5, registry.gauges.size());
+        assertEquals(7L, registry.value(PREFIX + "redeploy/active"));
+        assertEquals(3L, registry.value(PREFIX + "redeploy/idle"));
+        assertTrue(first != second);
+    }
+
+    @Test
+    public void directCallIsTreatedAsOutermost() {
+        assertTrue(ThreadPoolConstructorInterceptor.isOutermostConstructor(new Object()));
+    }
+
+    public static class FakePool implements JeusThreadPoolMonitorAccessor {
+        private JeusThreadPoolMonitor monitor;
+        private String name;
+        private final int active;
+
+        FakePool(ThreadPoolConstructorInterceptor interceptor, int active) {
+            this.active = active;
+            interceptor.after(this, new Object[]{active}, null, null);
+        }
+
+        FakePool(ThreadPoolConstructorInterceptor interceptor, String name, int active) {
+            this(interceptor, active);
+            this.name = name;
+            interceptor.after(this, new Object[]{name, active}, null, null);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getActiveCount() {
+            return active;
+        }
+
+        public int getPoolSize() {
+            return 10;
+        }
+
+        public int getMaximumPoolSize() {
+            return 20;
+        }
+
+        public int getQueueSize() {
+            return 0;
+        }
+
+        public long getAverageQueueWaitTime() {
+            return 0L;
+        }
+
+        @Override
+        public void _$PINPOINT$_setJeusThreadPoolMonitor(JeusThreadPoolMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        @Override
+        public JeusThreadPoolMonitor _$PINPOINT$_getJeusThreadPoolMonitor() {
+            return monitor;
+        }
+    }
+
+    private static class RecordingRegistry implements CustomMetricRegistry {
+        final Map<String, LongGauge> gauges = new LinkedHashMap<String, LongGauge>();
+
+        @Override
+        public boolean register(LongCounter counter) {
+            return true;
+        }
+
+        @Override
+        public boolean register(LongGauge gauge) {
+            return gauges.put(gauge.getName(), gauge) == null;
+        }
+
+        long value(String name) {
+            LongGauge gauge = gauges.get(name);
+            assertNotNull(name, gauge);
+            return gauge.getValue();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.navercorp.pinpoint.plugin.jeus.interceptor;
+
+import com.navercorp.pinpoint.plugin.jeus.JeusConfigurationHolder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class WebActionDispatcherServiceInterceptorTest {
+
+    private FakeTraceContext traceContext;
+    private WebActionDispatcherServiceInterceptor interceptor;
+
+    @Before
+    public void setUp() {
+        // 설정 없음: 샘플러/제외 URL 없이 모든 요청 trace 생성
+        JeusConfigurationHolder.setConfiguration(null);
+        traceContext = new FakeTraceContext();
+        interceptor = new WebActionDispatcherServiceInterceptor(traceContext.context, HimedMethodInterceptorTest.descriptor(), null);
+    }
+
+    @After
+    public void tearDown() {
+        traceContext.context.removeTraceObject();
+    }
+
+    @Test
+    public void reentrantDispatchKeepsOuterTrace() {
+        Object[] args = {new FakeRequest("/order.do", "target=Order"), null};
+        interceptor.before(null, args);
+        FakeTrace outer = traceContext.current();
+        assertNotNull(outer);
+
+        // forward 등으로 진입점 중첩 호출: 새 trace 없이 깊이만 증가
+        interceptor.before(null, new Object[]{new FakeRequest("/order/view.do", null), null});
+        assertSame(outer, traceContext.current());
+        assertEquals(1, traceContext.getNewTraceCount());
+        assertEquals(2, outer.scope(WebActionDispatcherServiceInterceptor.DISPATCH_SCOPE).getDepth());
+
+        interceptor.after(null, args, null, null);
+        assertEquals("inner after() does not close", 0, outer.getCloseCount());
+        assertSame(outer, traceContext.current());
+
+        interceptor.after(null, args, null, null);
+        assertEquals(1, outer.getCloseCount());
+        assertEquals(1, outer.getEndCount());
+        assertEquals(0, outer.getBlockDepth());
+        assertFalse(outer.scope(WebActionDispatcherServiceInterceptor.DISPATCH_SCOPE).isActive());
+        assertNull("unbound after outermost after()", traceContext.current());
+    }
+
+    @Test
+    public void foreignTraceIsLeftUntouched() {
+        // 이 인터셉터가 시작하지 않은 trace (dispatch scope 없음)
+        FakeTrace foreign = new FakeTrace(true);
+        traceContext.bind(foreign);
+
+        interceptor.after(null, new Object[]{new FakeRequest("/x.do", null), null}, null, null);
+
+        assertEquals(0, foreign.getCloseCount());
+        assertSame(foreign, traceContext.current());
+    }
+
+    @Test
+    public void staleTraceIsReplaced() {
+        // 이전 요청의 after() 누락: scope가 비활성인 trace가 스레드에 남음
+        FakeTrace stale = new FakeTrace(true);
+        traceContext.bind(stale);
+
+        Object[] args = {new FakeRequest("/order.do", null), null};
+        interceptor.before(null, args);
+        FakeTrace created = traceContext.current();
+
+        assertEquals(1, stale.getCloseCount());
+        assertNotNull(created);
+        assertFalse(created == stale);
+        interceptor.after(null, args, null, null);
+        assertEquals(1, created.getCloseCount());
+    }
+
+    @Test
+    public void queryParameterFindsExactName() {
+        String query = "xtarget=a&target=Order&method=save";
+        assertEquals("Order", WebActionDispatcherServiceInterceptor.queryParameter(query, "target"));
+        assertEquals("save", WebActionDispatcherServiceInterceptor.queryParameter(query, "method"));
+        assertNull(WebActionDispatcherServiceInterceptor.queryParameter(query, "submit_id"));
+    }
+
+    @Test
+    public void queryParameterSkipsEmptyValue() {
+        assertNull(WebActionDispatcherServiceInterceptor.queryParameter("business_id=&submit_id=S01", "business_id"));
+        assertNull(WebActionDispatcherServiceInterceptor.queryParameter("business_id", "business_id"));
+    }
+
+    @Test
+    public void queryParameterDecodesUtf8() {
+        assertEquals("주문 조회", WebActionDispatcherServiceInterceptor.queryParameter(
+                "target=%EC%A3%BC%EB%AC%B8+%EC%A1%B0%ED%9A%8C", "target"));
+        assertEquals("100%", WebActionDispatcherServiceInterceptor.queryParameter("target=100%", "target"));
+    }
+}
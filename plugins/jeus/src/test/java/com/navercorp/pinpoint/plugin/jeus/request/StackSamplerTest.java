@@ -0,0 +1,99 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StackSamplerTest {
+
+    private static final int REQUESTS = StackSampler.MAX_THREADS_PER_ROUND + 8;
+
+    private final CountDownLatch finish = new CountDownLatch(1);
+    private final List<Thread> workers = new ArrayList<Thread>();
+    private ActiveRequestRegistry registry;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        registry = new ActiveRequestRegistry(128, 16);
+        final CountDownLatch registered = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            Thread worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    registry.register(sampledTrace(), "/slow", null);
+                    registered.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        assertTrue(registered.await(10, TimeUnit.SECONDS));
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        finish.countDown();
+        for (Thread worker : workers) {
+            worker.join(1000);
+        }
+    }
+
+    @Test
+    public void nextRoundResumesAfterLastSampledSlot() {
+        StackSampler sampler = new StackSampler(registry, JeusTestSupport.defaultConfiguration());
+        // threshold(기본 1초)를 넘긴 시점으로 라운드 수행
+        long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        sampler.sampleRound(now);
+        assertEquals(StackSampler.MAX_THREADS_PER_ROUND, totalSamples());
+
+        sampler.sampleRound(now);
+        // 두 번째 라운드가 처음부터 다시 돌면 뒤쪽 8개 요청은 한 번도 샘플링되지 않음
+        for (ActiveRequest slot : registry.getSlots()) {
+            if (slot.isActive()) {
+                assertTrue("every active request sampled at least once", slot.getStackSummary().getTotalSamples() >= 1);
+            }
+        }
+        assertEquals(StackSampler.MAX_THREADS_PER_ROUND * 2, totalSamples());
+    }
+
+    private int totalSamples() {
+        int total = 0;
+        for (ActiveRequest slot : registry.getSlots()) {
+            if (slot.isActive()) {
+                total += slot.getStackSummary().getTotalSamples();
+            }
+        }
+        return total;
+    }
+
+    private static Trace sampledTrace() {
+        return JeusTestSupport.proxy(Trace.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("canSampled")) {
+                    return true;
+                }
+                return JeusTestSupport.defaultValue(method.getReturnType());
+            }
+        });
+    }
+}
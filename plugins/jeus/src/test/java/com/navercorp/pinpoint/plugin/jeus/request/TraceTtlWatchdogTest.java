@@ -0,0 +1,119 @@
+package com.navercorp.pinpoint.plugin.jeus.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.plugin.jeus.JeusTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraceTtlWatchdogTest {
+
+    private static final long TTL_MILLIS = 1000L;
+
+    private ActiveRequestRegistry registry;
+    private TraceTtlWatchdog watchdog;
+    private ActiveRequest slot;
+
+    @Before
+    public void setUp() {
+        // claimExpired()는 전역 레지스트리를 조회하므로 같은 인스턴스에 등록
+        registry = ActiveRequestRegistry.init(64, 16);
+        watchdog = new TraceTtlWatchdog(registry, TTL_MILLIS, TTL_MILLIS);
+    }
+
+    @After
+    public void tearDown() {
+        if (slot != null && !slot.isFree()) {
+            registry.release(slot);
+        }
+    }
+
+    @Test
+    public void liveOwnerTraceIsClosedByWatchdog() {
+        AtomicInteger closed = new AtomicInteger();
+        Trace trace = closeCountingTrace(closed);
+        slot = registry.register(trace, "/slow", null);
+
+        watchdog.scan(afterTtl());
+
+        // 유휴 스레드에 남은 trace도 watchdog이 바로 close하고 진행 중 요청 집계에서 제외
+        assertEquals(1, closed.get());
+        assertFalse(slot.isActive());
+        assertSame(trace, slot.getTrace());
+
+        // 요청 스레드는 종료 선언 CAS에서 지므로 다시 close하지 않음
+        assertFalse(slot.tryFinish());
+
+        // 다음 인터셉터 진입 시 요청 스레드가 바인딩 해제 후 슬롯 반환
+        ActiveRequest claimed = TraceTtlWatchdog.claimExpired();
+        assertSame(slot, claimed);
+        TraceTtlWatchdog.completeExpired(claimed);
+
+        assertTrue(slot.isFree());
+        assertNull(TraceTtlWatchdog.claimExpired());
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void finishedRequestIsNotReaped() {
+        AtomicInteger closed = new AtomicInteger();
+        slot = registry.register(closeCountingTrace(closed), "/slow", null);
+
+        // 요청 스레드가 먼저 종료 선언 → watchdog은 CAS에서 짐
+        assertTrue(slot.tryFinish());
+        watchdog.scan(afterTtl());
+        registry.release(slot);
+
+        assertEquals(0, closed.get());
+        assertNull(TraceTtlWatchdog.claimExpired());
+    }
+
+    @Test
+    public void orphanedTraceIsClosedByWatchdog() throws InterruptedException {
+        final AtomicInteger closed = new AtomicInteger();
+        final ActiveRequest[] registered = new ActiveRequest[1];
+        Thread owner = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                // after() 없이 스레드 종료
+                registered[0] = registry.register(closeCountingTrace(closed), "/leaked", null);
+            }
+        });
+        owner.start();
+        owner.join(TimeUnit.SECONDS.toMillis(10));
+        slot = registered[0];
+
+        watchdog.scan(afterTtl());
+
+        assertEquals(1, closed.get());
+        assertTrue(slot.isFree());
+        assertNull(TraceTtlWatchdog.claimExpired());
+    }
+
+    private static long afterTtl() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS * 10);
+    }
+
+    private static Trace closeCountingTrace(final AtomicInteger closed) {
+        return JeusTestSupport.proxy(Trace.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("close")) {
+                    closed.incrementAndGet();
+                }
+                return JeusTestSupport.defaultValue(method.getReturnType());
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.navercorp.pinpoint.plugin.jeus.sampler;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TemplateThroughputSamplerTest {
+
+    @Test
+    public void refundedTokenCanBeAcquiredAgain() {
+        long now = System.nanoTime();
+        TemplateThroughputSampler.Bucket bucket = new TemplateThroughputSampler.Bucket(1, now);
+
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+
+        bucket.refund();
+        assertTrue(bucket.tryAcquire(now));
+    }
+
+    @Test
+    public void unmatchedRequestsShareOtherBucket() {
+        TemplateThroughputSampler sampler = new TemplateThroughputSampler(1000, 1000, 16);
+        for (int i = 0; i < 100; i++) {
+            sampler.isSampled(null);
+        }
+        assertEquals(1, sampler.templateCount());
+    }
+
+    @Test
+    public void templateCountStaysBounded() {
+        TemplateThroughputSampler sampler = new TemplateThroughputSampler(1000, 100000, 16);
+        for (int i = 0; i < 1000; i++) {
+            sampler.isSampled("/t/" + i);
+        }
+        assertEquals(16, sampler.templateCount());
+    }
+}